@@ -0,0 +1,44 @@
+package com.microservice.anamnesis.application.clients;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Client interface for turning text into dense embedding vectors used by semantic knowledge retrieval.
+ * Implementations must return L2-normalized vectors of {@link #dimensions()} length,
+ * so cosine similarity can be computed as a plain dot product.
+ */
+public interface EmbeddingProvider {
+
+    /**
+     * Embed a single text.
+     *
+     * @param text The text to embed
+     * @return L2-normalized embedding vector
+     */
+    float[] embed(String text);
+
+    /**
+     * Embed several texts. Providers with a batch API should override this.
+     *
+     * @param texts The texts to embed
+     * @return Embeddings in the same order as the input
+     */
+    default List<float[]> embedAll(List<String> texts) {
+        List<float[]> embeddings = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            embeddings.add(embed(text));
+        }
+        return embeddings;
+    }
+
+    /**
+     * @return Length of the vectors returned by this provider
+     */
+    int dimensions();
+
+    /**
+     * @return Short provider name, used in logs
+     */
+    String name();
+}
@@ -1,12 +1,26 @@
 package com.microservice.anamnesis.application.clients;
 
+import com.microservice.anamnesis.application.dto.ConversationWindow;
 import com.microservice.anamnesis.application.dto.ProfileSnapshot;
 import com.microservice.anamnesis.domain.model.aggregates.AnamnesisSession;
 import com.microservice.anamnesis.domain.model.valueobjects.AnamnesisSummary;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.CompletableFuture;
 
 public interface LlmClient {
-    String generateResponse(AnamnesisSession session, ProfileSnapshot profile);
+    /**
+     * Generates the assistant reply without blocking: the provider call does not hold the caller's thread.
+     * Only the latest messages of the session are needed, see {@link ConversationWindow}.
+     */
+    CompletableFuture<String> generateResponseAsync(ConversationWindow conversation, ProfileSnapshot profile);
+
+    /**
+     * Streaming variant of {@link #generateResponseAsync}: emits text fragments as the provider produces them.
+     * Concatenating every emitted fragment yields the full assistant response.
+     */
+    Flux<String> streamResponse(ConversationWindow conversation, ProfileSnapshot profile);
+
     AnamnesisSummary generateSummary(AnamnesisSession session, ProfileSnapshot profile);
     boolean isAvailable();
 }
-
@@ -0,0 +1,26 @@
+package com.microservice.anamnesis.application.dto;
+
+import com.microservice.anamnesis.domain.model.entities.ConversationMessage;
+
+import java.util.List;
+
+/**
+ * The latest messages of a session, as much of the conversation as one assistant turn needs.
+ * <p>
+ * Read with a keyset query on session_messages rather than through the session's message
+ * collection, so a turn never loads the whole transcript. Messages are in sequence order.
+ * </p>
+ */
+public record ConversationWindow(Long sessionId, String initialReason, List<ConversationMessage> messages) {
+
+    public ConversationWindow {
+        messages = List.copyOf(messages);
+    }
+
+    /**
+     * @return true if the window starts at the session's first message, i.e. holds the whole conversation
+     */
+    public boolean startsAtFirstMessage() {
+        return messages.isEmpty() || messages.get(0).getSequence() == 1;
+    }
+}
@@ -2,24 +2,53 @@ package com.microservice.anamnesis.application.internal.commandservices;
 
 import com.microservice.anamnesis.application.clients.LlmClient;
 import com.microservice.anamnesis.application.clients.ProfileClient;
+import com.microservice.anamnesis.application.dto.ConversationWindow;
 import com.microservice.anamnesis.application.dto.ProfileSnapshot;
 import com.microservice.anamnesis.application.events.AnamnesisEventPublisher;
 import com.microservice.anamnesis.domain.model.aggregates.AnamnesisSession;
+import com.microservice.anamnesis.domain.model.aggregates.SummaryGenerationJob;
 import com.microservice.anamnesis.domain.model.commands.AddMessageToSessionCommand;
 import com.microservice.anamnesis.domain.model.commands.CancelAnamnesisSessionCommand;
 import com.microservice.anamnesis.domain.model.commands.CompleteAnamnesisSessionCommand;
+import com.microservice.anamnesis.domain.model.commands.RequestSessionCompletionCommand;
 import com.microservice.anamnesis.domain.model.commands.StartAnamnesisSessionCommand;
+import com.microservice.anamnesis.domain.model.commands.StreamMessageToSessionCommand;
+import com.microservice.anamnesis.domain.model.entities.ConversationMessage;
 import com.microservice.anamnesis.domain.model.events.AnamnesisSessionCompletedEvent;
 import com.microservice.anamnesis.domain.model.events.AnamnesisSummaryCreatedEvent;
 import com.microservice.anamnesis.domain.model.valueobjects.AnamnesisSummary;
+import com.microservice.anamnesis.domain.model.valueobjects.SessionTurn;
+import com.microservice.anamnesis.domain.model.valueobjects.SummaryJobStatus;
 import com.microservice.anamnesis.domain.services.AnamnesisCommandService;
 import com.microservice.anamnesis.infrastructure.persistence.jpa.repositories.AnamnesisSessionRepository;
+import com.microservice.anamnesis.infrastructure.persistence.jpa.repositories.ConversationMessageRepository;
+import com.microservice.anamnesis.infrastructure.persistence.jpa.repositories.SummaryGenerationJobRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * Implementation of AnamnesisCommandService.
@@ -30,21 +59,43 @@ import java.util.Optional;
 public class AnamnesisCommandServiceImpl implements AnamnesisCommandService {
 
     private static final Logger logger = LoggerFactory.getLogger(AnamnesisCommandServiceImpl.class);
+    private static final List<SummaryJobStatus> ACTIVE_JOB_STATUSES =
+            List.of(SummaryJobStatus.PENDING, SummaryJobStatus.RUNNING);
 
     private final AnamnesisSessionRepository sessionRepository;
+    private final ConversationMessageRepository messageRepository;
     private final LlmClient llmClient;
     private final ProfileClient profileClient;
     private final AnamnesisEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final SummaryGenerationJobRepository jobRepository;
+    private final ExecutorService summaryJobExecutor;
+    private final Duration summaryJobLease;
+    private final int contextMessages;
+    // Lease owner of the summary jobs run by this instance
+    private final String instanceId = UUID.randomUUID().toString();
 
     public AnamnesisCommandServiceImpl(
             AnamnesisSessionRepository sessionRepository,
+            ConversationMessageRepository messageRepository,
             LlmClient llmClient,
             ProfileClient profileClient,
-            AnamnesisEventPublisher eventPublisher) {
+            AnamnesisEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            SummaryGenerationJobRepository jobRepository,
+            @Qualifier("summaryJobExecutor") ExecutorService summaryJobExecutor,
+            @Value("${anamnesis.summary.lease:10m}") Duration summaryJobLease,
+            @Value("${llm.context.max-messages:50}") int contextMessages) {
         this.sessionRepository = sessionRepository;
+        this.messageRepository = messageRepository;
         this.llmClient = llmClient;
         this.profileClient = profileClient;
         this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.jobRepository = jobRepository;
+        this.summaryJobExecutor = summaryJobExecutor;
+        this.summaryJobLease = summaryJobLease;
+        this.contextMessages = contextMessages;
     }
 
     @Override
@@ -70,43 +121,87 @@ public class AnamnesisCommandServiceImpl implements AnamnesisCommandService {
         }
     }
 
+    /**
+     * Same transaction split as the streaming variant: the patient message is committed first and
+     * the reply is appended in a second, short transaction. The LLM call is non-blocking, so
+     * neither the request thread nor a database connection is held while it runs. Only the latest
+     * messages are read for the prompt, and only this turn's messages for the result.
+     */
     @Override
-    @Transactional
-    public Optional<AnamnesisSession> handle(AddMessageToSessionCommand command) {
+    public CompletableFuture<Optional<SessionTurn>> handle(AddMessageToSessionCommand command) {
         logger.info("Adding message to session: {}", command.sessionId());
 
-        try {
-            var session = sessionRepository.findById(command.sessionId())
-                    .orElseThrow(() -> new IllegalArgumentException("Session not found: " + command.sessionId()));
-
-            if (!session.getUserId().equals(command.userId())) {
-                throw new IllegalStateException("Usuario no autorizado para esta sesión");
-            }
+        ConversationWindow conversation = addPatientMessage(command.sessionId(), command.userId(), command.content());
+        Long sessionId = conversation.sessionId();
+        int turnStart = lastSequence(conversation);
 
-            session.addPatientMessage(command.content());
+        ProfileSnapshot profile = profileClient.getProfileByUserId(command.userId()).orElse(null);
 
-            ProfileSnapshot profile = profileClient.getProfileByUserId(command.userId()).orElse(null);
+        if (!llmClient.isAvailable()) {
+            logger.warn("LLM service not available");
+            return CompletableFuture.completedFuture(Optional.of(
+                    appendTurnReply(sessionId, turnStart, s -> s.addSystemMessage("Servicio de IA temporalmente no disponible."))));
+        }
 
-            if (llmClient.isAvailable()) {
-                try {
-                    String assistantResponse = llmClient.generateResponse(session, profile);
-                    session.addAssistantMessage(assistantResponse);
-                } catch (Exception e) {
+        return Mono.fromFuture(llmClient.generateResponseAsync(conversation, profile))
+                // The reply arrives on a client I/O thread; the database write must not run there
+                .publishOn(Schedulers.boundedElastic())
+                .map(response -> appendTurnReply(sessionId, turnStart, s -> s.addAssistantMessage(response)))
+                .onErrorResume(e -> {
                     logger.error("Error calling LLM service", e);
-                    session.addSystemMessage("Error al generar respuesta del asistente. Por favor, intente nuevamente.");
-                }
-            } else {
-                logger.warn("LLM service not available");
-                session.addSystemMessage("Servicio de IA temporalmente no disponible.");
-            }
+                    return Mono.fromCallable(() -> appendTurnReply(sessionId, turnStart,
+                                    s -> s.addSystemMessage("Error al generar respuesta del asistente. Por favor, intente nuevamente.")))
+                            .subscribeOn(Schedulers.boundedElastic());
+                })
+                .map(Optional::of)
+                .toFuture();
+    }
 
-            var updatedSession = sessionRepository.save(session);
-            return Optional.of(updatedSession);
+    /**
+     * Streams the assistant reply instead of blocking until the full completion is available.
+     * Transactions are demarcated programmatically: the patient message is committed before the
+     * LLM call starts and the assembled reply is appended in a second, short transaction, so no
+     * database connection is held while tokens are relayed.
+     */
+    @Override
+    public Flux<String> handle(StreamMessageToSessionCommand command) {
+        logger.info("Streaming message to session: {}", command.sessionId());
 
-        } catch (Exception e) {
-            logger.error("Error adding message to session: {}", command.sessionId(), e);
-            throw e;
+        ConversationWindow conversation = addPatientMessage(command.sessionId(), command.userId(), command.content());
+        Long sessionId = conversation.sessionId();
+
+        ProfileSnapshot profile = profileClient.getProfileByUserId(command.userId()).orElse(null);
+
+        if (!llmClient.isAvailable()) {
+            logger.warn("LLM service not available");
+            String unavailableMessage = "Servicio de IA temporalmente no disponible.";
+            appendToSession(sessionId, s -> s.addSystemMessage(unavailableMessage));
+            return Flux.just(unavailableMessage);
         }
+
+        StringBuilder assembledResponse = new StringBuilder();
+
+        Mono<String> persistResponse = Mono.<String>fromRunnable(() -> {
+            String response = assembledResponse.toString();
+            if (response.isBlank()) {
+                logger.warn("LLM stream for session {} completed without content", sessionId);
+                appendToSession(sessionId, s -> s.addSystemMessage("Error al generar respuesta del asistente. Por favor, intente nuevamente."));
+            } else {
+                appendToSession(sessionId, s -> s.addAssistantMessage(response));
+                logger.info("Streamed assistant response persisted for session: {} ({} characters)", sessionId, response.length());
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+
+        return llmClient.streamResponse(conversation, profile)
+                .doOnNext(assembledResponse::append)
+                .concatWith(persistResponse)
+                .onErrorResume(e -> {
+                    logger.error("Error streaming LLM response for session: {}", sessionId, e);
+                    return Mono.<String>fromRunnable(() -> appendToSession(sessionId,
+                                    s -> s.addSystemMessage("Error al generar respuesta del asistente. Por favor, intente nuevamente.")))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .then(Mono.error(e));
+                });
     }
 
     @Override
@@ -151,6 +246,81 @@ public class AnamnesisCommandServiceImpl implements AnamnesisCommandService {
         }
     }
 
+    /**
+     * Queues summary generation on the bounded worker pool and returns the job immediately.
+     * Only the job row is written here; the LLM call runs without holding a database connection.
+     * An already pending or running job for the session is returned instead of creating a new one;
+     * the unique active-session column settles concurrent requests. A new job is leased to this
+     * instance as it is inserted.
+     */
+    @Override
+    public Optional<SummaryGenerationJob> handle(RequestSessionCompletionCommand command) {
+        logger.info("Requesting asynchronous completion of session: {}", command.sessionId());
+
+        AtomicBoolean created = new AtomicBoolean(false);
+        SummaryGenerationJob job;
+        try {
+            job = createOrFindActiveJob(command, created);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request inserted the session's active job first
+            created.set(false);
+            job = jobRepository.findFirstBySessionIdAndStatusIn(command.sessionId(), ACTIVE_JOB_STATUSES)
+                    .orElseThrow(() -> e);
+        }
+
+        if (created.get()) {
+            submitSummaryJob(job.getId());
+            logger.info("Summary job {} queued for session {}", job.getId(), command.sessionId());
+        }
+        return Optional.of(job);
+    }
+
+    private SummaryGenerationJob createOrFindActiveJob(RequestSessionCompletionCommand command, AtomicBoolean created) {
+        return transactionTemplate.execute(status -> {
+            var session = sessionRepository.findById(command.sessionId())
+                    .orElseThrow(() -> new IllegalArgumentException("Session not found: " + command.sessionId()));
+
+            if (!session.getUserId().equals(command.userId())) {
+                throw new IllegalStateException("Usuario no autorizado para esta sesión");
+            }
+
+            if (!session.isActive()) {
+                throw new IllegalStateException("Session " + command.sessionId() + " is not active");
+            }
+
+            return jobRepository.findFirstBySessionIdAndStatusIn(session.getId(), ACTIVE_JOB_STATUSES)
+                    .orElseGet(() -> {
+                        var newJob = new SummaryGenerationJob(session.getId(), session.getUserId());
+                        newJob.lease(instanceId, Instant.now().plus(summaryJobLease));
+                        created.set(true);
+                        return jobRepository.saveAndFlush(newJob);
+                    });
+        });
+    }
+
+    /**
+     * Re-queues active jobs whose lease is missing or expired, i.e. left behind by a stopped
+     * instance. Each job is claimed with a conditional update first, so when several instances
+     * sweep at once only one of them runs it.
+     */
+    @Scheduled(fixedDelayString = "${anamnesis.summary.resume-interval-ms:60000}")
+    public void resumeSummaryJobs() {
+        Instant now = Instant.now();
+        for (Long jobId : jobRepository.findClaimableIds(ACTIVE_JOB_STATUSES, now)) {
+            Integer claimed = transactionTemplate.execute(status ->
+                    jobRepository.claim(jobId, ACTIVE_JOB_STATUSES, instanceId, now, now.plus(summaryJobLease)));
+            if (claimed == null || claimed == 0) {
+                continue;
+            }
+            try {
+                submitSummaryJob(jobId);
+                logger.info("Resumed summary job {}", jobId);
+            } catch (RejectedExecutionException e) {
+                logger.error("Could not resume summary job {}", jobId, e);
+            }
+        }
+    }
+
     @Override
     @Transactional
     public Optional<AnamnesisSession> handle(CancelAnamnesisSessionCommand command) {
@@ -176,26 +346,164 @@ public class AnamnesisCommandServiceImpl implements AnamnesisCommandService {
         }
     }
 
-    private void publishCompletionEvents(AnamnesisSession session) {
+    /**
+     * Appends the patient message in its own transaction and reads the latest messages for the prompt
+     * with a keyset query, newest first, instead of loading the session's transcript.
+     */
+    private ConversationWindow addPatientMessage(Long sessionId, Long userId, String content) {
+        return transactionTemplate.execute(status -> {
+            var existingSession = sessionRepository.findById(sessionId)
+                    .orElseThrow(() -> new IllegalArgumentException("Session not found: " + sessionId));
+
+            if (!existingSession.getUserId().equals(userId)) {
+                throw new IllegalStateException("Usuario no autorizado para esta sesión");
+            }
+
+            existingSession.addPatientMessage(content);
+            var savedSession = sessionRepository.saveAndFlush(existingSession);
+
+            List<ConversationMessage> latest = new ArrayList<>(messageRepository.findBySessionIdOrderBySequenceDesc(
+                    savedSession.getId(), PageRequest.of(0, contextMessages)));
+            Collections.reverse(latest);
+            return new ConversationWindow(savedSession.getId(), savedSession.getInitialReason(), latest);
+        });
+    }
+
+    /**
+     * Applies a mutation to the session in a short transaction and returns the saved session.
+     * The message collection is left unloaded.
+     */
+    private AnamnesisSession appendToSession(Long sessionId, Consumer<AnamnesisSession> mutation) {
+        return transactionTemplate.execute(status -> {
+            var session = sessionRepository.findById(sessionId)
+                    .orElseThrow(() -> new IllegalArgumentException("Session not found: " + sessionId));
+            mutation.accept(session);
+            return sessionRepository.saveAndFlush(session);
+        });
+    }
+
+    /**
+     * Appends the reply of a turn and returns the session with the messages from {@code turnStart},
+     * the patient message's sequence, on.
+     */
+    private SessionTurn appendTurnReply(Long sessionId, int turnStart, Consumer<AnamnesisSession> mutation) {
+        return transactionTemplate.execute(status -> {
+            var savedSession = appendToSession(sessionId, mutation);
+            var turnMessages = messageRepository.findBySessionIdAndSequenceGreaterThanOrderBySequenceAsc(
+                    sessionId, turnStart - 1, PageRequest.of(0, savedSession.getMessageCount() - turnStart + 1));
+            return new SessionTurn(savedSession, turnMessages);
+        });
+    }
+
+    private static int lastSequence(ConversationWindow conversation) {
+        List<ConversationMessage> messages = conversation.messages();
+        return messages.get(messages.size() - 1).getSequence();
+    }
+
+    private void submitSummaryJob(Long jobId) {
+        try {
+            summaryJobExecutor.execute(() -> runSummaryJob(jobId));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Summary job queue is full, rejecting job {}", jobId);
+            markJobFailed(jobId, "Summary job queue is full");
+            throw e;
+        }
+    }
+
+    /**
+     * Runs on a summary worker: loads the transcript in a short transaction, generates the summary
+     * outside any transaction, then completes the session and the job in a second short transaction.
+     */
+    private void runSummaryJob(Long jobId) {
         try {
-            var completedEvent = new AnamnesisSessionCompletedEvent(
+            AnamnesisSession session = transactionTemplate.execute(status -> {
+                var job = jobRepository.findById(jobId)
+                        .orElseThrow(() -> new IllegalArgumentException("Summary job not found: " + jobId));
+                if (job.isFinished() || !job.isLeasedBy(instanceId)) {
+                    return null;
+                }
+                job.start();
+                jobRepository.save(job);
+
+                var existingSession = sessionRepository.findById(job.getSessionId())
+                        .orElseThrow(() -> new IllegalArgumentException("Session not found: " + job.getSessionId()));
+                // Load the transcript while the persistence context is open
+                existingSession.getMessages().size();
+                return existingSession;
+            });
+            if (session == null) {
+                logger.info("Summary job {} is finished or leased by another instance, skipping", jobId);
+                return;
+            }
+
+            AnamnesisSummary summary = null;
+            if (!session.isCompleted()) {
+                ProfileSnapshot profile = profileClient.getProfileByUserId(session.getUserId()).orElse(null);
+                if (llmClient.isAvailable()) {
+                    summary = llmClient.generateSummary(session, profile);
+                } else {
+                    logger.warn("LLM service not available, creating empty summary");
+                    summary = AnamnesisSummary.empty();
+                }
+            }
+
+            AnamnesisSummary generatedSummary = summary;
+            transactionTemplate.executeWithoutResult(status -> {
+                var job = jobRepository.findById(jobId)
+                        .orElseThrow(() -> new IllegalArgumentException("Summary job not found: " + jobId));
+                if (!job.isLeasedBy(instanceId)) {
+                    // The lease expired and another instance took the job over
+                    logger.warn("Summary job {} lost its lease, discarding the generated summary", jobId);
+                    return;
+                }
+
+                var currentSession = sessionRepository.findById(session.getId())
+                        .orElseThrow(() -> new IllegalArgumentException("Session not found: " + session.getId()));
+                if (generatedSummary != null && !currentSession.isCompleted()) {
+                    currentSession.completeWithSummary(generatedSummary);
+                    var completedSession = sessionRepository.save(currentSession);
+                    publishCompletionEvents(completedSession);
+                }
+
+                job.succeed();
+                jobRepository.save(job);
+            });
+
+            logger.info("Summary job {} completed session {}", jobId, session.getId());
+        } catch (Exception e) {
+            logger.error("Summary job {} failed", jobId, e);
+            markJobFailed(jobId, e.getMessage());
+        }
+    }
+
+    private void markJobFailed(Long jobId, String errorMessage) {
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId)
+                .filter(job -> !job.isFinished() && job.isLeasedBy(instanceId))
+                .ifPresent(job -> {
+                    job.fail(errorMessage);
+                    jobRepository.save(job);
+                }));
+    }
+
+    /**
+     * Records the completion events in the outbox as part of the current transaction;
+     * a failure here rolls back the completion instead of silently dropping the events.
+     */
+    private void publishCompletionEvents(AnamnesisSession session) {
+        var completedEvent = new AnamnesisSessionCompletedEvent(
+                session.getId(),
+                session.getUserId(),
+                session.getStatus()
+        );
+        eventPublisher.publishAnamnesisSessionCompleted(completedEvent);
+
+        if (session.hasSummary()) {
+            var summaryEvent = new AnamnesisSummaryCreatedEvent(
                     session.getId(),
                     session.getUserId(),
-                    session.getStatus()
+                    session.getSummary()
             );
-            eventPublisher.publishAnamnesisSessionCompleted(completedEvent);
-
-            if (session.hasSummary()) {
-                var summaryEvent = new AnamnesisSummaryCreatedEvent(
-                        session.getId(),
-                        session.getUserId(),
-                        session.getSummary()
-                );
-                eventPublisher.publishAnamnesisSummaryCreated(summaryEvent);
-            }
-        } catch (Exception e) {
-            logger.error("Error publishing completion events for session {}", session.getId(), e);
+            eventPublisher.publishAnamnesisSummaryCreated(summaryEvent);
         }
     }
 }
-
@@ -1,14 +1,26 @@
 package com.microservice.anamnesis.application.internal.queryservices;
 
 import com.microservice.anamnesis.domain.model.aggregates.AnamnesisSession;
+import com.microservice.anamnesis.domain.model.aggregates.SummaryGenerationJob;
+import com.microservice.anamnesis.domain.model.entities.ConversationMessage;
 import com.microservice.anamnesis.domain.model.queries.GetAllSessionsQuery;
 import com.microservice.anamnesis.domain.model.queries.GetSessionByIdQuery;
+import com.microservice.anamnesis.domain.model.queries.GetSessionListByUserIdQuery;
+import com.microservice.anamnesis.domain.model.queries.GetSessionMessagesQuery;
+import com.microservice.anamnesis.domain.model.queries.GetSessionSummariesByIdsQuery;
 import com.microservice.anamnesis.domain.model.queries.GetSessionsByUserIdAndStatusQuery;
 import com.microservice.anamnesis.domain.model.queries.GetSessionsByUserIdQuery;
+import com.microservice.anamnesis.domain.model.queries.GetSummaryJobByIdQuery;
+import com.microservice.anamnesis.domain.model.valueobjects.AnamnesisStatus;
+import com.microservice.anamnesis.domain.model.valueobjects.SessionListItem;
+import com.microservice.anamnesis.domain.model.valueobjects.SessionSummaryItem;
 import com.microservice.anamnesis.domain.services.AnamnesisQueryService;
 import com.microservice.anamnesis.infrastructure.persistence.jpa.repositories.AnamnesisSessionRepository;
+import com.microservice.anamnesis.infrastructure.persistence.jpa.repositories.ConversationMessageRepository;
+import com.microservice.anamnesis.infrastructure.persistence.jpa.repositories.SummaryGenerationJobRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,9 +33,15 @@ public class AnamnesisQueryServiceImpl implements AnamnesisQueryService {
 
     private static final Logger logger = LoggerFactory.getLogger(AnamnesisQueryServiceImpl.class);
     private final AnamnesisSessionRepository sessionRepository;
+    private final ConversationMessageRepository messageRepository;
+    private final SummaryGenerationJobRepository jobRepository;
 
-    public AnamnesisQueryServiceImpl(AnamnesisSessionRepository sessionRepository) {
+    public AnamnesisQueryServiceImpl(AnamnesisSessionRepository sessionRepository,
+                                     ConversationMessageRepository messageRepository,
+                                     SummaryGenerationJobRepository jobRepository) {
         this.sessionRepository = sessionRepository;
+        this.messageRepository = messageRepository;
+        this.jobRepository = jobRepository;
     }
 
     @Override
@@ -49,5 +67,29 @@ public class AnamnesisQueryServiceImpl implements AnamnesisQueryService {
         logger.debug("Fetching all sessions");
         return sessionRepository.findAll();
     }
-}
 
+    @Override
+    public List<ConversationMessage> handle(GetSessionMessagesQuery query) {
+        logger.debug("Fetching messages for session: {} after sequence: {}", query.sessionId(), query.afterSequence());
+        return messageRepository.findBySessionIdAndSequenceGreaterThanOrderBySequenceAsc(
+                query.sessionId(), query.afterSequence(), PageRequest.of(0, query.limit()));
+    }
+
+    @Override
+    public List<SessionListItem> handle(GetSessionListByUserIdQuery query) {
+        logger.debug("Fetching session list for userId: {} before id: {}", query.userId(), query.beforeId());
+        return sessionRepository.findListItemsByUserId(query.userId(), query.beforeId(), PageRequest.of(0, query.limit()));
+    }
+
+    @Override
+    public List<SessionSummaryItem> handle(GetSessionSummariesByIdsQuery query) {
+        logger.debug("Fetching summaries for {} sessions", query.sessionIds().size());
+        return sessionRepository.findSummaryItemsByIdIn(query.sessionIds(), AnamnesisStatus.COMPLETED);
+    }
+
+    @Override
+    public Optional<SummaryGenerationJob> handle(GetSummaryJobByIdQuery query) {
+        logger.debug("Fetching summary job by ID: {}", query.jobId());
+        return jobRepository.findById(query.jobId());
+    }
+}
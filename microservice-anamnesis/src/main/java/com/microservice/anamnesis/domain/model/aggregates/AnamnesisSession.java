@@ -1,7 +1,8 @@
 package com.microservice.anamnesis.domain.model.aggregates;
+import com.microservice.anamnesis.domain.model.entities.ConversationMessage;
 import com.microservice.anamnesis.domain.model.valueobjects.AnamnesisStatus;
 import com.microservice.anamnesis.domain.model.valueobjects.AnamnesisSummary;
-import com.microservice.anamnesis.domain.model.valueobjects.ConversationMessage;
+import com.microservice.anamnesis.domain.model.valueobjects.SenderType;
 import com.microservice.anamnesis.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -21,21 +22,26 @@ import java.util.List;
  * - Messages can only be added when status is CREATED or IN_PROGRESS
  * - Status transitions: CREATED -> IN_PROGRESS -> COMPLETED/CANCELLED
  * </p>
+ * <p>
+ * Messages are append-only rows numbered by {@code messageCount}. The collection is lazy and
+ * inverse, so appending a message queues a single insert without loading the transcript.
+ * </p>
  */
 @Getter
 @Entity
-@Table(name = "anamnesis_sessions")
+@Table(name = "anamnesis_sessions",
+       indexes = @Index(name = "idx_anamnesis_sessions_user_id_id", columnList = "user_id, id"))
 public class AnamnesisSession extends AuditableAbstractAggregateRoot<AnamnesisSession> {
     @Column(nullable = false)
     private Long userId;
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private AnamnesisStatus status;
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "conversation_messages", 
-                     joinColumns = @JoinColumn(name = "session_id"))
-    @OrderColumn(name = "message_order")
+    @OneToMany(mappedBy = "session", fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @OrderBy("sequence ASC")
     private List<ConversationMessage> messages = new ArrayList<>();
+    @Column(nullable = false)
+    private int messageCount;
     @Embedded
     private AnamnesisSummary summary;
     @Column(columnDefinition = "TEXT")
@@ -51,9 +57,8 @@ public class AnamnesisSession extends AuditableAbstractAggregateRoot<AnamnesisSe
         }
         this.userId = userId;
         this.initialReason = initialReason;
-        this.messages.add(ConversationMessage.fromSystem(
-            "Sesión de anamnesis iniciada. Por favor, cuénteme el motivo de su consulta."
-        ));
+        appendMessage(SenderType.SYSTEM,
+            "Sesión de anamnesis iniciada. Por favor, cuénteme el motivo de su consulta.");
     }
     public void startSession() {
         if (this.status != AnamnesisStatus.CREATED) {
@@ -66,7 +71,7 @@ public class AnamnesisSession extends AuditableAbstractAggregateRoot<AnamnesisSe
         if (content == null || content.isBlank()) {
             throw new IllegalArgumentException("Message content cannot be empty");
         }
-        this.messages.add(ConversationMessage.fromPatient(content));
+        appendMessage(SenderType.PATIENT, content);
         if (this.status == AnamnesisStatus.CREATED) {
             this.status = AnamnesisStatus.IN_PROGRESS;
         }
@@ -76,13 +81,13 @@ public class AnamnesisSession extends AuditableAbstractAggregateRoot<AnamnesisSe
         if (content == null || content.isBlank()) {
             throw new IllegalArgumentException("Assistant message content cannot be empty");
         }
-        this.messages.add(ConversationMessage.fromAssistant(content));
+        appendMessage(SenderType.ASSISTANT, content);
     }
     public void addSystemMessage(String content) {
         if (content == null || content.isBlank()) {
             throw new IllegalArgumentException("System message content cannot be empty");
         }
-        this.messages.add(ConversationMessage.fromSystem(content));
+        appendMessage(SenderType.SYSTEM, content);
     }
     public void markInProgress() {
         if (this.status == AnamnesisStatus.COMPLETED || this.status == AnamnesisStatus.CANCELLED) {
@@ -139,6 +144,10 @@ public class AnamnesisSession extends AuditableAbstractAggregateRoot<AnamnesisSe
         }
         return history.toString();
     }
+    private void appendMessage(SenderType senderType, String content) {
+        this.messageCount++;
+        this.messages.add(new ConversationMessage(this, this.messageCount, senderType, content));
+    }
     private void validateCanAddMessage() {
         if (this.status == AnamnesisStatus.COMPLETED) {
             throw new IllegalStateException("Cannot add messages to a completed session");
@@ -0,0 +1,94 @@
+package com.microservice.anamnesis.domain.model.aggregates;
+import com.microservice.anamnesis.domain.model.valueobjects.SummaryJobStatus;
+import com.microservice.anamnesis.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import jakarta.persistence.*;
+import lombok.Getter;
+import java.time.Instant;
+/**
+ * SummaryGenerationJob aggregate root.
+ * <p>
+ * Tracks the asynchronous completion of an anamnesis session: the summary is generated
+ * by a bounded worker pool and the session transitions to COMPLETED when the job succeeds.
+ * </p>
+ * <p>
+ * Domain invariants:
+ * - A job belongs to exactly one session and userId
+ * - Status transitions: PENDING -> RUNNING -> SUCCEEDED/FAILED
+ * - At most one pending or running job per session, enforced by a unique activeSessionId
+ * - A job is run only by the instance holding its lease; an expired lease can be claimed by another
+ * </p>
+ */
+@Getter
+@Entity
+@Table(name = "summary_generation_jobs",
+       indexes = @Index(name = "idx_summary_generation_jobs_session_status", columnList = "session_id, status"),
+       uniqueConstraints = @UniqueConstraint(name = "uk_summary_generation_jobs_active_session",
+                                             columnNames = "active_session_id"))
+public class SummaryGenerationJob extends AuditableAbstractAggregateRoot<SummaryGenerationJob> {
+    @Column(nullable = false)
+    private Long sessionId;
+    @Column(nullable = false)
+    private Long userId;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SummaryJobStatus status;
+    @Column(columnDefinition = "TEXT")
+    private String errorMessage;
+    private Instant finishedAt;
+    // The session id while the job is active, null once finished (MySQL allows repeated NULLs)
+    @Column(name = "active_session_id")
+    private Long activeSessionId;
+    @Column(length = 64)
+    private String leaseOwner;
+    private Instant leaseExpiresAt;
+    public SummaryGenerationJob() {
+        this.status = SummaryJobStatus.PENDING;
+    }
+    public SummaryGenerationJob(Long sessionId, Long userId) {
+        this();
+        if (sessionId == null) {
+            throw new IllegalArgumentException("Session ID cannot be null");
+        }
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.activeSessionId = sessionId;
+    }
+    public void lease(String owner, Instant expiresAt) {
+        if (isFinished()) {
+            throw new IllegalStateException("Finished jobs cannot be leased");
+        }
+        this.leaseOwner = owner;
+        this.leaseExpiresAt = expiresAt;
+    }
+    public boolean isLeasedBy(String owner) {
+        return owner != null && owner.equals(this.leaseOwner);
+    }
+    public void start() {
+        if (this.status != SummaryJobStatus.PENDING && this.status != SummaryJobStatus.RUNNING) {
+            throw new IllegalStateException("Only pending jobs can be started");
+        }
+        this.status = SummaryJobStatus.RUNNING;
+    }
+    public void succeed() {
+        this.status = SummaryJobStatus.SUCCEEDED;
+        this.finishedAt = Instant.now();
+        release();
+    }
+    public void fail(String errorMessage) {
+        this.status = SummaryJobStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.finishedAt = Instant.now();
+        release();
+    }
+    public boolean isFinished() {
+        return status == SummaryJobStatus.SUCCEEDED || status == SummaryJobStatus.FAILED;
+    }
+    private void release() {
+        this.activeSessionId = null;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.microservice.anamnesis.domain.model.commands;
+
+/**
+ * Command to complete a session asynchronously: a summary generation job is queued and returned.
+ */
+public record RequestSessionCompletionCommand(Long sessionId, Long userId) {
+    public RequestSessionCompletionCommand {
+        if (sessionId == null) throw new IllegalArgumentException("Session ID cannot be null");
+        if (userId == null) throw new IllegalArgumentException("User ID cannot be null");
+    }
+}
@@ -0,0 +1,12 @@
+package com.microservice.anamnesis.domain.model.commands;
+
+/**
+ * Command to add a patient message to a session and stream the assistant reply as it is generated.
+ */
+public record StreamMessageToSessionCommand(Long sessionId, Long userId, String content) {
+    public StreamMessageToSessionCommand {
+        if (sessionId == null) throw new IllegalArgumentException("Session ID cannot be null");
+        if (userId == null) throw new IllegalArgumentException("User ID cannot be null");
+        if (content == null || content.isBlank()) throw new IllegalArgumentException("Message content cannot be empty");
+    }
+}
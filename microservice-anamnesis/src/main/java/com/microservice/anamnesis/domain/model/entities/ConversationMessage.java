@@ -0,0 +1,54 @@
+package com.microservice.anamnesis.domain.model.entities;
+
+import com.microservice.anamnesis.domain.model.aggregates.AnamnesisSession;
+import com.microservice.anamnesis.domain.model.valueobjects.SenderType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A single message of an anamnesis conversation.
+ * <p>
+ * Messages are append-only: each one is inserted once with a per-session sequence number
+ * and never updated, so adding a turn writes only the new rows instead of the whole transcript.
+ * </p>
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "session_messages",
+       uniqueConstraints = @UniqueConstraint(name = "uk_session_messages_session_sequence",
+                                             columnNames = {"session_id", "sequence_number"}))
+public class ConversationMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "session_id", nullable = false, updatable = false)
+    private AnamnesisSession session;
+
+    @Column(name = "sequence_number", nullable = false, updatable = false)
+    private Integer sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private SenderType senderType;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(nullable = false, updatable = false)
+    private Instant timestamp;
+
+    public ConversationMessage(AnamnesisSession session, int sequence, SenderType senderType, String content) {
+        this.session = session;
+        this.sequence = sequence;
+        this.senderType = senderType;
+        this.content = content;
+        this.timestamp = Instant.now();
+    }
+}
@@ -0,0 +1,13 @@
+package com.microservice.anamnesis.domain.model.queries;
+
+/**
+ * Query for a keyset page of a user's sessions, newest first.
+ * {@code beforeId} is the id of the last session of the previous page (null for the first page).
+ */
+public record GetSessionListByUserIdQuery(Long userId, Long beforeId, Integer limit) {
+    public GetSessionListByUserIdQuery {
+        if (userId == null) throw new IllegalArgumentException("User ID cannot be null");
+        if (beforeId != null && beforeId < 1) throw new IllegalArgumentException("Before ID must be positive");
+        if (limit == null || limit < 1 || limit > 100) throw new IllegalArgumentException("Limit must be between 1 and 100");
+    }
+}
@@ -0,0 +1,12 @@
+package com.microservice.anamnesis.domain.model.queries;
+
+/**
+ * Query for a page of session messages with sequence greater than {@code afterSequence}.
+ */
+public record GetSessionMessagesQuery(Long sessionId, Integer afterSequence, Integer limit) {
+    public GetSessionMessagesQuery {
+        if (sessionId == null) throw new IllegalArgumentException("Session ID cannot be null");
+        if (afterSequence == null || afterSequence < 0) throw new IllegalArgumentException("After sequence must be zero or positive");
+        if (limit == null || limit < 1 || limit > 200) throw new IllegalArgumentException("Limit must be between 1 and 200");
+    }
+}
@@ -0,0 +1,18 @@
+package com.microservice.anamnesis.domain.model.queries;
+
+import java.util.List;
+
+/**
+ * Query for the summaries of several completed sessions at once.
+ */
+public record GetSessionSummariesByIdsQuery(List<Long> sessionIds) {
+
+    public static final int MAX_SIZE = 1000;
+
+    public GetSessionSummariesByIdsQuery {
+        if (sessionIds == null || sessionIds.isEmpty()) throw new IllegalArgumentException("Session IDs cannot be empty");
+        if (sessionIds.size() > MAX_SIZE) throw new IllegalArgumentException("At most " + MAX_SIZE + " session IDs per query");
+        if (sessionIds.stream().anyMatch(id -> id == null || id < 1)) throw new IllegalArgumentException("Session IDs must be positive");
+        sessionIds = List.copyOf(sessionIds);
+    }
+}
@@ -0,0 +1,7 @@
+package com.microservice.anamnesis.domain.model.queries;
+
+public record GetSummaryJobByIdQuery(Long jobId) {
+    public GetSummaryJobByIdQuery {
+        if (jobId == null) throw new IllegalArgumentException("Job ID cannot be null");
+    }
+}
@@ -0,0 +1,16 @@
+package com.microservice.anamnesis.domain.model.valueobjects;
+
+import java.util.Date;
+
+/**
+ * Lightweight read model of a session for list views.
+ * Built directly by a projection query, without loading messages or the summary.
+ */
+public record SessionListItem(
+        Long id,
+        AnamnesisStatus status,
+        Date createdAt,
+        String initialReason,
+        int messageCount
+) {
+}
@@ -0,0 +1,12 @@
+package com.microservice.anamnesis.domain.model.valueobjects;
+
+/**
+ * The summary text of a completed session that triage evaluates.
+ * Built directly by a projection query, without loading messages or the summary collections.
+ */
+public record SessionSummaryItem(
+        Long sessionId,
+        String chiefComplaint,
+        String historyOfPresentIllness
+) {
+}
@@ -0,0 +1,13 @@
+package com.microservice.anamnesis.domain.model.valueobjects;
+
+import com.microservice.anamnesis.domain.model.aggregates.AnamnesisSession;
+import com.microservice.anamnesis.domain.model.entities.ConversationMessage;
+
+import java.util.List;
+
+/**
+ * Outcome of one conversational turn: the session and the messages added in that turn
+ * (the patient message and the reply), without the rest of the transcript.
+ */
+public record SessionTurn(AnamnesisSession session, List<ConversationMessage> messages) {
+}
@@ -0,0 +1,27 @@
+package com.microservice.anamnesis.domain.model.valueobjects;
+/**
+ * Enum representing the status of an asynchronous summary generation job.
+ * <p>
+ * Status lifecycle:
+ * PENDING -> RUNNING -> SUCCEEDED
+ *                   \-> FAILED
+ * </p>
+ */
+public enum SummaryJobStatus {
+    /**
+     * Job is queued and waiting for a worker
+     */
+    PENDING,
+    /**
+     * A worker is generating the summary
+     */
+    RUNNING,
+    /**
+     * Summary was generated and the session is COMPLETED
+     */
+    SUCCEEDED,
+    /**
+     * Summary generation failed; the session remains open
+     */
+    FAILED
+}
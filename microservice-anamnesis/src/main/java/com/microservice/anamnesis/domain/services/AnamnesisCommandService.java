@@ -1,12 +1,18 @@
 package com.microservice.anamnesis.domain.services;
 
 import com.microservice.anamnesis.domain.model.aggregates.AnamnesisSession;
+import com.microservice.anamnesis.domain.model.aggregates.SummaryGenerationJob;
 import com.microservice.anamnesis.domain.model.commands.AddMessageToSessionCommand;
 import com.microservice.anamnesis.domain.model.commands.CancelAnamnesisSessionCommand;
 import com.microservice.anamnesis.domain.model.commands.CompleteAnamnesisSessionCommand;
+import com.microservice.anamnesis.domain.model.commands.RequestSessionCompletionCommand;
 import com.microservice.anamnesis.domain.model.commands.StartAnamnesisSessionCommand;
+import com.microservice.anamnesis.domain.model.commands.StreamMessageToSessionCommand;
+import com.microservice.anamnesis.domain.model.valueobjects.SessionTurn;
+import reactor.core.publisher.Flux;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Command service interface for anamnesis session operations.
@@ -20,15 +26,29 @@ public interface AnamnesisCommandService {
     Optional<AnamnesisSession> handle(StartAnamnesisSessionCommand command);
 
     /**
-     * Handle command to add a message to a session
+     * Handle command to add a message to a session.
+     * Completes with the session and the messages of this turn once the assistant reply is stored,
+     * without blocking the caller.
      */
-    Optional<AnamnesisSession> handle(AddMessageToSessionCommand command);
+    CompletableFuture<Optional<SessionTurn>> handle(AddMessageToSessionCommand command);
+
+    /**
+     * Handle command to add a message to a session, streaming the assistant reply.
+     * The assembled reply is persisted once the stream completes.
+     */
+    Flux<String> handle(StreamMessageToSessionCommand command);
 
     /**
      * Handle command to complete an anamnesis session
      */
     Optional<AnamnesisSession> handle(CompleteAnamnesisSessionCommand command);
 
+    /**
+     * Handle command to complete a session asynchronously.
+     * Returns the queued (or already running) summary generation job.
+     */
+    Optional<SummaryGenerationJob> handle(RequestSessionCompletionCommand command);
+
     /**
      * Handle command to cancel an anamnesis session
      */
@@ -1,10 +1,18 @@
 package com.microservice.anamnesis.domain.services;
 
 import com.microservice.anamnesis.domain.model.aggregates.AnamnesisSession;
+import com.microservice.anamnesis.domain.model.aggregates.SummaryGenerationJob;
+import com.microservice.anamnesis.domain.model.entities.ConversationMessage;
+import com.microservice.anamnesis.domain.model.valueobjects.SessionListItem;
+import com.microservice.anamnesis.domain.model.valueobjects.SessionSummaryItem;
 import com.microservice.anamnesis.domain.model.queries.GetAllSessionsQuery;
 import com.microservice.anamnesis.domain.model.queries.GetSessionByIdQuery;
+import com.microservice.anamnesis.domain.model.queries.GetSessionListByUserIdQuery;
+import com.microservice.anamnesis.domain.model.queries.GetSessionMessagesQuery;
+import com.microservice.anamnesis.domain.model.queries.GetSessionSummariesByIdsQuery;
 import com.microservice.anamnesis.domain.model.queries.GetSessionsByUserIdAndStatusQuery;
 import com.microservice.anamnesis.domain.model.queries.GetSessionsByUserIdQuery;
+import com.microservice.anamnesis.domain.model.queries.GetSummaryJobByIdQuery;
 
 import java.util.List;
 import java.util.Optional;
@@ -34,5 +42,24 @@ public interface AnamnesisQueryService {
      * Handle query to get all sessions
      */
     List<AnamnesisSession> handle(GetAllSessionsQuery query);
-}
 
+    /**
+     * Handle query to get a page of session messages in sequence order
+     */
+    List<ConversationMessage> handle(GetSessionMessagesQuery query);
+
+    /**
+     * Handle query to get a keyset page of a user's sessions as lightweight list rows
+     */
+    List<SessionListItem> handle(GetSessionListByUserIdQuery query);
+
+    /**
+     * Handle query to get the summary text of several completed sessions
+     */
+    List<SessionSummaryItem> handle(GetSessionSummariesByIdsQuery query);
+
+    /**
+     * Handle query to get a summary generation job by ID
+     */
+    Optional<SummaryGenerationJob> handle(GetSummaryJobByIdQuery query);
+}
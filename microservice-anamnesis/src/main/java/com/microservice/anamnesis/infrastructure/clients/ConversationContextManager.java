@@ -0,0 +1,241 @@
+package com.microservice.anamnesis.infrastructure.clients;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microservice.anamnesis.application.dto.ConversationWindow;
+import com.microservice.anamnesis.domain.model.entities.ConversationMessage;
+import com.microservice.anamnesis.domain.model.valueobjects.SenderType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Maintains the LLM context of each active session incrementally instead of rebuilding it every turn.
+ *
+ * Per session it keeps:
+ * - The system prompt (including RAG knowledge, without patient data), rebuilt only every few patient turns
+ * - A running summary of turns that fell out of the window, extended only with newly evicted turns
+ * - A token-budgeted sliding window of the most recent turns, walked from the newest message backwards
+ *
+ * Progress is tracked by message sequence, so callers pass only the latest messages of the session
+ * ({@link ConversationWindow}). Turns that were already older than that window when first seen, e.g.
+ * after a restart, are left out of the running summary.
+ *
+ * Prompt sizes per turn are published as the "llm.prompt.tokens" distribution (tag part=system|conversation).
+ */
+@Component
+public class ConversationContextManager {
+
+    private static final int SUMMARY_LINE_MAX_CHARS = 160;
+
+    private final Cache<Long, SessionContext> contexts;
+    private final int windowTokens;
+    private final int summaryTokens;
+    private final int ragRefreshTurns;
+    private final DistributionSummary systemPromptTokens;
+    private final DistributionSummary conversationTokens;
+
+    public ConversationContextManager(@Value("${llm.context.window-tokens:1500}") int windowTokens,
+                                      @Value("${llm.context.summary-tokens:400}") int summaryTokens,
+                                      @Value("${llm.context.rag-refresh-turns:3}") int ragRefreshTurns,
+                                      @Value("${llm.context.max-sessions:5000}") long maxSessions,
+                                      @Value("${llm.context.idle-ttl:2h}") Duration idleTtl,
+                                      MeterRegistry meterRegistry) {
+        this.windowTokens = windowTokens;
+        this.summaryTokens = summaryTokens;
+        this.ragRefreshTurns = Math.max(1, ragRefreshTurns);
+        this.contexts = Caffeine.newBuilder()
+                .maximumSize(maxSessions)
+                .expireAfterAccess(idleTtl)
+                .build();
+        this.systemPromptTokens = DistributionSummary.builder("llm.prompt.tokens")
+                .description("Estimated prompt tokens per LLM turn")
+                .tag("part", "system")
+                .register(meterRegistry);
+        this.conversationTokens = DistributionSummary.builder("llm.prompt.tokens")
+                .description("Estimated prompt tokens per LLM turn")
+                .tag("part", "conversation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the system prompt and conversation context for the next assistant turn.
+     *
+     * @param conversation Latest messages of the session, ending with the new patient message
+     * @param systemPromptBuilder Builds the system prompt, including knowledge retrieval; called only when stale
+     */
+    public PromptContext prepare(ConversationWindow conversation, Supplier<String> systemPromptBuilder) {
+        SessionContext context = conversation.sessionId() == null
+                ? new SessionContext()
+                : contexts.get(conversation.sessionId(), id -> new SessionContext());
+
+        PromptContext prompt;
+        synchronized (context) {
+            List<ConversationMessage> messages = conversation.messages();
+            if (context.summarizedUpTo > lastSequence(messages)) {
+                context.reset();
+            }
+
+            int patientTurns = countPatientTurns(messages, context);
+            if (context.systemPrompt == null
+                    || patientTurns - context.patientTurnsAtRefresh >= ragRefreshTurns) {
+                context.systemPrompt = systemPromptBuilder.get();
+                context.patientTurnsAtRefresh = patientTurns;
+            }
+
+            int windowStart = findWindowStart(messages, context.summarizedUpTo);
+            foldIntoSummary(context, messages, windowStart);
+
+            prompt = new PromptContext(context.systemPrompt,
+                    renderConversation(conversation.initialReason(), context, messages, windowStart));
+        }
+
+        systemPromptTokens.record(TokenEstimator.estimate(prompt.systemPrompt()));
+        conversationTokens.record(TokenEstimator.estimate(prompt.conversationContext()));
+        return prompt;
+    }
+
+    /**
+     * Drops the cached context of a finished session.
+     */
+    public void release(Long sessionId) {
+        if (sessionId != null) {
+            contexts.invalidate(sessionId);
+        }
+    }
+
+    /**
+     * Counts patient messages incrementally from the last sequence seen.
+     */
+    private int countPatientTurns(List<ConversationMessage> messages, SessionContext context) {
+        for (ConversationMessage message : messages) {
+            if (message.getSequence() > context.countedUpTo && message.getSenderType() == SenderType.PATIENT) {
+                context.patientTurns++;
+            }
+        }
+        context.countedUpTo = Math.max(context.countedUpTo, lastSequence(messages));
+        return context.patientTurns;
+    }
+
+    /**
+     * Walks back from the newest message until the token budget is used; the newest message is always kept.
+     * Messages up to {@code lowerBound} (a sequence number) are already summarized and never re-enter the window.
+     *
+     * @return index of the first message in the window
+     */
+    private int findWindowStart(List<ConversationMessage> messages, int lowerBound) {
+        int used = 0;
+        int start = messages.size();
+        for (int i = messages.size() - 1; i >= 0 && messages.get(i).getSequence() > lowerBound; i--) {
+            ConversationMessage message = messages.get(i);
+            if (message.getSenderType() == SenderType.SYSTEM) {
+                start = i;
+                continue;
+            }
+            int tokens = TokenEstimator.estimate(message.getContent()) + 3;
+            if (used > 0 && used + tokens > windowTokens) {
+                break;
+            }
+            used += tokens;
+            start = i;
+        }
+        return start;
+    }
+
+    /**
+     * Appends turns that left the window to the running summary, trimming its oldest lines to the budget.
+     */
+    private void foldIntoSummary(SessionContext context, List<ConversationMessage> messages, int windowStart) {
+        for (int i = 0; i < windowStart; i++) {
+            ConversationMessage message = messages.get(i);
+            if (message.getSequence() <= context.summarizedUpTo || message.getSenderType() == SenderType.SYSTEM) {
+                continue;
+            }
+            String line = "- " + senderLabel(message) + ": " + abbreviate(message.getContent());
+            context.summaryLines.addLast(line);
+            context.summaryTokens += TokenEstimator.estimate(line);
+        }
+        if (windowStart > 0) {
+            context.summarizedUpTo = Math.max(context.summarizedUpTo, messages.get(windowStart - 1).getSequence());
+        }
+
+        while (context.summaryTokens > summaryTokens && context.summaryLines.size() > 1) {
+            context.summaryTokens -= TokenEstimator.estimate(context.summaryLines.removeFirst());
+        }
+    }
+
+    private String renderConversation(String initialReason, SessionContext context,
+                                      List<ConversationMessage> messages, int windowStart) {
+        StringBuilder conversation = new StringBuilder();
+        conversation.append("CONVERSACIÓN:\n\n");
+
+        if (initialReason != null && !initialReason.isBlank()) {
+            conversation.append("Motivo inicial: ").append(initialReason).append("\n\n");
+        }
+
+        if (!context.summaryLines.isEmpty()) {
+            conversation.append("Resumen de la conversación anterior:\n");
+            for (String line : context.summaryLines) {
+                conversation.append(line).append("\n");
+            }
+            conversation.append("\nÚltimos mensajes:\n");
+        }
+
+        for (int i = windowStart; i < messages.size(); i++) {
+            ConversationMessage message = messages.get(i);
+            if (message.getSenderType() != SenderType.SYSTEM) {
+                conversation.append(senderLabel(message)).append(": ").append(message.getContent()).append("\n");
+            }
+        }
+
+        return conversation.toString();
+    }
+
+    private static int lastSequence(List<ConversationMessage> messages) {
+        return messages.isEmpty() ? 0 : messages.get(messages.size() - 1).getSequence();
+    }
+
+    private static String senderLabel(ConversationMessage message) {
+        return message.getSenderType() == SenderType.PATIENT ? "Paciente" : "Asistente";
+    }
+
+    private static String abbreviate(String content) {
+        String singleLine = content.replace('\n', ' ').trim();
+        return singleLine.length() <= SUMMARY_LINE_MAX_CHARS
+                ? singleLine
+                : singleLine.substring(0, SUMMARY_LINE_MAX_CHARS) + "…";
+    }
+
+    /**
+     * Prompt parts for one assistant turn.
+     */
+    public record PromptContext(String systemPrompt, String conversationContext) {
+    }
+
+    private static final class SessionContext {
+        private String systemPrompt;
+        private int patientTurnsAtRefresh;
+        private int patientTurns;
+        private int countedUpTo;
+        private int summarizedUpTo;
+        private int summaryTokens;
+        private final Deque<String> summaryLines = new ArrayDeque<>();
+
+        private void reset() {
+            systemPrompt = null;
+            patientTurnsAtRefresh = 0;
+            patientTurns = 0;
+            countedUpTo = 0;
+            summarizedUpTo = 0;
+            summaryTokens = 0;
+            summaryLines.clear();
+        }
+    }
+}
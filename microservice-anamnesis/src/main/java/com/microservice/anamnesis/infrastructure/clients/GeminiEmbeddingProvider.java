@@ -0,0 +1,123 @@
+package com.microservice.anamnesis.infrastructure.clients;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.anamnesis.application.clients.EmbeddingProvider;
+import com.microservice.anamnesis.infrastructure.search.VectorMath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Embedding provider backed by Gemini's embedContent endpoint.
+ * Selected with knowledge.embedding.provider=gemini.
+ *
+ * The vector size is fixed by the model. It is derived from knowledge.embedding.gemini-model, or
+ * read from knowledge.embedding.gemini-dimensions for models not listed here; a configured size
+ * that does not match a known model fails startup instead of every embedding call.
+ */
+@Component
+@ConditionalOnProperty(name = "knowledge.embedding.provider", havingValue = "gemini")
+public class GeminiEmbeddingProvider implements EmbeddingProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeminiEmbeddingProvider.class);
+    private static final Map<String, Integer> MODEL_DIMENSIONS = Map.of(
+            "text-embedding-004", 768,
+            "embedding-001", 768
+    );
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WebClient llmWebClient;
+
+    public GeminiEmbeddingProvider(@Qualifier("llmWebClient") WebClient llmWebClient) {
+        this.llmWebClient = llmWebClient;
+    }
+
+    @Value("${gemini.api.key:}")
+    private String geminiApiKey;
+
+    @Value("${gemini.api.base-url:https://generativelanguage.googleapis.com/v1}")
+    private String geminiBaseUrl;
+
+    @Value("${knowledge.embedding.gemini-model:text-embedding-004}")
+    private String embeddingModel;
+
+    // 0 derives the size from the model
+    @Value("${knowledge.embedding.gemini-dimensions:0}")
+    private int dimensions;
+
+    @Value("${knowledge.embedding.timeout:10s}")
+    private Duration timeout;
+
+    @PostConstruct
+    void resolveDimensions() {
+        Integer modelDimensions = MODEL_DIMENSIONS.get(embeddingModel);
+        if (dimensions <= 0) {
+            if (modelDimensions == null) {
+                throw new IllegalStateException("Unknown embedding size for Gemini model " + embeddingModel
+                        + ", set knowledge.embedding.gemini-dimensions");
+            }
+            dimensions = modelDimensions;
+        } else if (modelDimensions != null && modelDimensions != dimensions) {
+            throw new IllegalStateException("Gemini model " + embeddingModel + " produces " + modelDimensions
+                    + "-dimension embeddings, but knowledge.embedding.gemini-dimensions is " + dimensions);
+        }
+        logger.info("Using Gemini embeddings from {} with {} dimensions", embeddingModel, dimensions);
+    }
+
+    @Override
+    public float[] embed(String text) {
+        String url = geminiBaseUrl + "/models/" + embeddingModel + ":embedContent?key=" + geminiApiKey;
+        Map<String, Object> requestBody = Map.of(
+                "content", Map.of("parts", List.of(Map.of("text", text)))
+        );
+
+        String response = llmWebClient.post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(String.class)
+                .block(timeout);
+
+        return parseEmbedding(response);
+    }
+
+    @Override
+    public int dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public String name() {
+        return "gemini:" + embeddingModel;
+    }
+
+    private float[] parseEmbedding(String response) {
+        try {
+            JsonNode values = objectMapper.readTree(response).at("/embedding/values");
+            if (!values.isArray() || values.size() != dimensions) {
+                throw new IllegalStateException("Unexpected embedding size: " + values.size());
+            }
+
+            float[] vector = new float[dimensions];
+            for (int i = 0; i < dimensions; i++) {
+                vector[i] = (float) values.get(i).asDouble();
+            }
+            VectorMath.normalize(vector);
+            return vector;
+        } catch (Exception e) {
+            logger.error("Error parsing Gemini embedding response", e);
+            throw new RuntimeException("Error parsing Gemini embedding response", e);
+        }
+    }
+}
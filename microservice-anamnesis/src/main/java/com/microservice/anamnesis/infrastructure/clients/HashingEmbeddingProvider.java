@@ -0,0 +1,78 @@
+package com.microservice.anamnesis.infrastructure.clients;
+
+import com.microservice.anamnesis.application.clients.EmbeddingProvider;
+import com.microservice.anamnesis.infrastructure.search.SpanishTokenizer;
+import com.microservice.anamnesis.infrastructure.search.VectorMath;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local embedding provider based on feature hashing. Needs no external service,
+ * which makes it the default for development and tests.
+ *
+ * Each normalized token and each of its character trigrams is hashed into a signed
+ * bucket of a fixed-size vector, so texts sharing words or word fragments
+ * ("dolor"/"dolorido", misspellings) end up close to each other.
+ */
+@Component
+@ConditionalOnProperty(name = "knowledge.embedding.provider", havingValue = "hashing", matchIfMissing = true)
+public class HashingEmbeddingProvider implements EmbeddingProvider {
+
+    private static final float TOKEN_WEIGHT = 1.0f;
+    private static final float TRIGRAM_WEIGHT = 0.5f;
+
+    private final int dimensions;
+
+    public HashingEmbeddingProvider(@Value("${knowledge.embedding.hashing-dimensions:256}") int dimensions) {
+        if (dimensions <= 0) {
+            throw new IllegalArgumentException("Embedding dimensions must be positive");
+        }
+        this.dimensions = dimensions;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] vector = new float[dimensions];
+
+        for (String token : SpanishTokenizer.tokenize(text)) {
+            addFeature(vector, token, TOKEN_WEIGHT);
+
+            String padded = "#" + token + "#";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                addFeature(vector, padded.substring(i, i + 3), TRIGRAM_WEIGHT);
+            }
+        }
+
+        VectorMath.normalize(vector);
+        return vector;
+    }
+
+    @Override
+    public int dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public String name() {
+        return "hashing";
+    }
+
+    private void addFeature(float[] vector, String feature, float weight) {
+        int hash = mix(feature.hashCode());
+        int bucket = Math.floorMod(hash, dimensions);
+        vector[bucket] += (hash >>> 31) == 0 ? weight : -weight;
+    }
+
+    /**
+     * Murmur3 finalizer, spreads String.hashCode bits before bucketing.
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microservice.anamnesis.application.clients.KnowledgeBaseClient;
 import com.microservice.anamnesis.domain.model.valueobjects.MedicalKnowledge;
+import com.microservice.anamnesis.infrastructure.search.KnowledgeSearchIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
@@ -12,20 +13,20 @@ import org.springframework.stereotype.Component;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Implementation of KnowledgeBaseClient that loads Ayllucare's medical dataset from JSON.
  *
  * Features:
  * - Loads medical knowledge from external JSON file (easy to maintain)
- * - Simple keyword-based search algorithm
+ * - Inverted index built at load time over accent-folded Spanish tokens
+ * - BM25 scoring with field weights and bounded top-k selection
  * - In-memory storage for fast access
  *
  * Future improvements:
  * - Migrate to vector database (Pinecone, Weaviate, Milvus)
- * - Implement semantic search with embeddings
  * - Add caching layer
  * - Support for multiple languages
  */
@@ -36,18 +37,19 @@ public class InMemoryKnowledgeBaseClient implements KnowledgeBaseClient {
     private static final String DATASET_FILE = "medical-knowledge-dataset.json";
 
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private List<MedicalKnowledge> knowledgeBase;
+    private volatile KnowledgeSearchIndex searchIndex = KnowledgeSearchIndex.build(List.of());
 
     @PostConstruct
     public void init() {
         logger.info("Initializing Ayllucare medical knowledge base from JSON...");
         try {
-            knowledgeBase = loadFromJson();
+            List<MedicalKnowledge> knowledgeBase = loadFromJson();
+            searchIndex = KnowledgeSearchIndex.build(knowledgeBase);
             logger.info("✅ Knowledge base loaded successfully with {} entries from {}",
-                       knowledgeBase.size(), DATASET_FILE);
+                       searchIndex.size(), DATASET_FILE);
         } catch (Exception e) {
             logger.error("❌ Failed to load knowledge base from JSON: {}", e.getMessage());
-            knowledgeBase = new ArrayList<>();
+            searchIndex = KnowledgeSearchIndex.build(List.of());
             logger.error("⚠️ Knowledge base is empty - system will not work properly!");
         }
     }
@@ -60,25 +62,7 @@ public class InMemoryKnowledgeBaseClient implements KnowledgeBaseClient {
 
         logger.debug("Searching knowledge base for: {}", query);
 
-        String normalizedQuery = query.toLowerCase().trim();
-
-        // Simple keyword matching (in production, use embeddings and semantic search)
-        List<MedicalKnowledge> results = knowledgeBase.stream()
-                .map(knowledge -> {
-                    double score = calculateRelevanceScore(knowledge, normalizedQuery);
-                    return new MedicalKnowledge(
-                            knowledge.topic(),
-                            knowledge.description(),
-                            knowledge.symptoms(),
-                            knowledge.recommendations(),
-                            knowledge.redFlags(),
-                            score
-                    );
-                })
-                .filter(knowledge -> knowledge.relevanceScore() > 0)
-                .sorted((a, b) -> Double.compare(b.relevanceScore(), a.relevanceScore()))
-                .limit(maxResults)
-                .collect(Collectors.toList());
+        List<MedicalKnowledge> results = searchIndex.search(query, maxResults);
 
         logger.debug("Found {} relevant knowledge entries", results.size());
         return results;
@@ -86,7 +70,15 @@ public class InMemoryKnowledgeBaseClient implements KnowledgeBaseClient {
 
     @Override
     public boolean isAvailable() {
-        return knowledgeBase != null && !knowledgeBase.isEmpty();
+        return searchIndex.size() > 0;
+    }
+
+    /**
+     * Returns the loaded knowledge entries, in dataset order.
+     * Used by {@link VectorKnowledgeBaseClient} to build its embedding index over the same dataset.
+     */
+    public List<MedicalKnowledge> getEntries() {
+        return searchIndex.entries();
     }
 
     /**
@@ -148,52 +140,4 @@ public class InMemoryKnowledgeBaseClient implements KnowledgeBaseClient {
 
         return result;
     }
-
-    /**
-     * Calculates relevance score between a medical knowledge entry and search query.
-     * Uses simple keyword matching with weighted scoring.
-     *
-     * Scoring weights:
-     * - Topic match: 3.0 points
-     * - Description match: 2.0 points
-     * - Symptom match: 1.5 points
-     * - Recommendation match: 1.0 points
-     *
-     * @param knowledge Medical knowledge entry
-     * @param query Normalized search query
-     * @return Relevance score (higher is more relevant)
-     */
-    private double calculateRelevanceScore(MedicalKnowledge knowledge, String query) {
-        double score = 0.0;
-        String[] queryTerms = query.split("\\s+");
-
-        for (String term : queryTerms) {
-            // Check topic
-            if (knowledge.topic().toLowerCase().contains(term)) {
-                score += 3.0;
-            }
-
-            // Check description
-            if (knowledge.description().toLowerCase().contains(term)) {
-                score += 2.0;
-            }
-
-            // Check symptoms
-            for (String symptom : knowledge.symptoms()) {
-                if (symptom.toLowerCase().contains(term)) {
-                    score += 1.5;
-                }
-            }
-
-            // Check recommendations
-            for (String recommendation : knowledge.recommendations()) {
-                if (recommendation.toLowerCase().contains(term)) {
-                    score += 1.0;
-                }
-            }
-        }
-
-        return score;
-    }
 }
-
@@ -0,0 +1,97 @@
+package com.microservice.anamnesis.infrastructure.clients;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded, TTL-based cache of LLM responses keyed by a hash of the full prompt.
+ *
+ * Backed by Caffeine (W-TinyLFU eviction). Concurrent requests for the same prompt share
+ * a single provider call, and failed calls are never cached. Hit/miss/eviction/size metrics
+ * are published under the cache name "llm.prompt" (cache.gets, cache.size, ...).
+ *
+ * Configuration:
+ * - llm.cache.enabled: global switch
+ * - llm.cache.providers: providers whose responses may be cached (per-provider opt-out)
+ * - llm.cache.max-size / llm.cache.ttl: bounds of the cache
+ */
+@Component
+public class LlmResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmResponseCache.class);
+    private static final String CACHE_NAME = "llm.prompt";
+
+    private final AsyncCache<String, String> cache;
+    private final boolean enabled;
+    private final Set<String> cachedProviders;
+
+    public LlmResponseCache(@Value("${llm.cache.enabled:true}") boolean enabled,
+                            @Value("${llm.cache.providers:gemini}") Set<String> cachedProviders,
+                            @Value("${llm.cache.max-size:1000}") long maxSize,
+                            @Value("${llm.cache.ttl:6h}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cachedProviders = cachedProviders.stream()
+                .map(p -> p.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+        logger.info("LLM response cache enabled: {} (providers: {}, max size: {}, ttl: {})",
+                enabled, this.cachedProviders, maxSize, ttl);
+    }
+
+    /**
+     * @return true if responses from the given provider may be cached
+     */
+    public boolean isEnabledFor(String provider) {
+        return enabled && provider != null && cachedProviders.contains(provider.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the cached response for the prompt, or subscribes to the loader once and caches its result.
+     *
+     * @param provider LLM provider name
+     * @param model Model name, part of the key
+     * @param prompt Full prompt sent to the provider
+     * @param loader Provider call, subscribed only on a miss
+     */
+    public Mono<String> getOrLoad(String provider, String model, String prompt, Supplier<Mono<String>> loader) {
+        if (!isEnabledFor(provider)) {
+            return loader.get();
+        }
+
+        String key = hash(provider + '\u0000' + model + '\u0000' + prompt);
+        return Mono.fromFuture(() -> cache.get(key, (k, executor) -> loader.get().toFuture()));
+    }
+
+    private static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
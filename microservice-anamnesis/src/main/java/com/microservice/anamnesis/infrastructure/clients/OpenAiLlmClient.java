@@ -4,37 +4,84 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microservice.anamnesis.application.clients.KnowledgeBaseClient;
 import com.microservice.anamnesis.application.clients.LlmClient;
+import com.microservice.anamnesis.application.dto.ConversationWindow;
 import com.microservice.anamnesis.application.dto.ProfileSnapshot;
 import com.microservice.anamnesis.domain.model.aggregates.AnamnesisSession;
 import com.microservice.anamnesis.domain.model.valueobjects.AnamnesisSummary;
-import com.microservice.anamnesis.domain.model.valueobjects.ConversationMessage;
+import com.microservice.anamnesis.domain.model.entities.ConversationMessage;
 import com.microservice.anamnesis.domain.model.valueobjects.MedicalKnowledge;
 import com.microservice.anamnesis.domain.model.valueobjects.SenderType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * LLM Client implementation supporting both OpenAI and Google Gemini.
  * Provider is selected via llm.provider property (openai | gemini).
+ * All provider calls go through the pooled, non-blocking {@code llmWebClient}.
  */
 @Component
 public class OpenAiLlmClient implements LlmClient {
 
     private static final Logger logger = LoggerFactory.getLogger(OpenAiLlmClient.class);
+
+    // Fallback replies, built once rather than on every call
+    private static final String UNAVAILABLE_REPLY =
+            "Lo siento, el servicio de asistente no está disponible. Por favor, continúe describiendo sus síntomas.";
+    private static final String ERROR_REPLY =
+            "Disculpe, tuve un problema al procesar su mensaje. ¿Podría reformularlo?";
+    private static final String OPENAI_FALLBACK_REPLY =
+            "Entiendo sus síntomas. ¿Podría proporcionar más detalles sobre la duración e intensidad?";
+    private static final String OPENAI_FALLBACK_SUMMARY = """
+            {
+              "chiefComplaint": "Síntomas reportados por el paciente",
+              "historyOfPresentIllness": "Información recopilada durante la conversación",
+              "pastMedicalHistory": "Ver perfil del paciente",
+              "medications": [],
+              "allergies": [],
+              "redFlags": [],
+              "additionalNotes": "Resumen generado con OpenAI (implementación pendiente)"
+            }""";
+    private static final String SUMMARY_FORMAT_INSTRUCTIONS = """
+
+
+            Genera SOLO un JSON válido con el siguiente formato:
+            {
+              "chiefComplaint": "motivo principal",
+              "historyOfPresentIllness": "descripción detallada",
+              "pastMedicalHistory": "antecedentes",
+              "medications": ["medicamento1", "medicamento2"],
+              "allergies": ["alergia1"],
+              "redFlags": ["señal de alarma"],
+              "additionalNotes": "notas adicionales"
+            }
+
+            Responde SOLO con el JSON, sin texto adicional.""";
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final RestTemplate restTemplate = new RestTemplate();
     private final KnowledgeBaseClient knowledgeBaseClient;
-
-    public OpenAiLlmClient(KnowledgeBaseClient knowledgeBaseClient) {
+    private final WebClient llmWebClient;
+    private final LlmResponseCache responseCache;
+    private final ConversationContextManager contextManager;
+
+    public OpenAiLlmClient(KnowledgeBaseClient knowledgeBaseClient,
+                           @Qualifier("llmWebClient") WebClient llmWebClient,
+                           LlmResponseCache responseCache,
+                           ConversationContextManager contextManager) {
         this.knowledgeBaseClient = knowledgeBaseClient;
+        this.llmWebClient = llmWebClient;
+        this.responseCache = responseCache;
+        this.contextManager = contextManager;
     }
 
     @Value("${llm.provider:gemini}")
@@ -54,6 +101,9 @@ public class OpenAiLlmClient implements LlmClient {
     @Value("${gemini.api.key:}")
     private String geminiApiKey;
 
+    @Value("${gemini.api.base-url:https://generativelanguage.googleapis.com/v1}")
+    private String geminiBaseUrl;
+
     @Value("${gemini.model:gemini-pro}")
     private String geminiModel;
 
@@ -67,44 +117,64 @@ public class OpenAiLlmClient implements LlmClient {
     private int maxTokens;
 
     @Override
-    public String generateResponse(AnamnesisSession session, ProfileSnapshot profile) {
+    public CompletableFuture<String> generateResponseAsync(ConversationWindow conversation, ProfileSnapshot profile) {
         if (!isAvailable()) {
             logger.warn("LLM service is not available");
-            return "Lo siento, el servicio de asistente no está disponible. Por favor, continúe describiendo sus síntomas.";
+            return CompletableFuture.completedFuture(UNAVAILABLE_REPLY);
         }
 
-        try {
-            logger.info("Generating LLM response for session: {} using provider: {} with RAG", session.getId(), provider);
-
-            // Step 1: Extract context from the latest patient message and session
-            String searchQuery = extractSearchQuery(session);
+        return Mono.defer(() -> {
+                    logger.info("Generating LLM response for session: {} using provider: {} with RAG", conversation.sessionId(), provider);
+
+                    // Steps 1-3: Retrieve knowledge and build the augmented prompt (reused across turns)
+                    ConversationContextManager.PromptContext prompt =
+                            contextManager.prepare(conversation, () -> buildResponseSystemPrompt(conversation));
+                    String conversationContext = prompt.conversationContext();
+
+                    // Step 4: Generate response using LLM with augmented context.
+                    // Opening turns are deterministic for the same reason + knowledge context; they are
+                    // cached without the patient's profile so patients who open alike share one reply
+                    if (isOpeningTurn(conversation) && responseCache.isEnabledFor(provider)) {
+                        String openingPrompt = prompt.systemPrompt();
+                        return responseCache.getOrLoad(provider, cacheModelKey(false),
+                                openingPrompt + "\n\n" + conversationContext,
+                                () -> callProvider(openingPrompt, conversationContext, false));
+                    }
+                    String systemPrompt = withPatientInformation(prompt.systemPrompt(), profile);
+                    return callProvider(systemPrompt, conversationContext, false);
+                })
+                .onErrorResume(e -> {
+                    logger.error("Error generating LLM response", e);
+                    return Mono.just(ERROR_REPLY);
+                })
+                .toFuture();
+    }
 
-            // Step 2: Query Ayllucare knowledge base (RAG - Retrieval)
-            List<MedicalKnowledge> relevantKnowledge = List.of();
-            if (knowledgeBaseClient.isAvailable()) {
-                relevantKnowledge = knowledgeBaseClient.searchKnowledge(searchQuery, 3);
-                logger.info("Retrieved {} relevant knowledge entries from Ayllucare dataset", relevantKnowledge.size());
-            }
+    @Override
+    public Flux<String> streamResponse(ConversationWindow conversation, ProfileSnapshot profile) {
+        if (!isAvailable()) {
+            logger.warn("LLM service is not available");
+            return Flux.just(UNAVAILABLE_REPLY);
+        }
 
-            // Step 3: Build enriched prompt with knowledge base context (RAG - Augmented Generation)
-            String systemPrompt = buildSystemPrompt(profile, false, relevantKnowledge);
-            String conversationContext = buildConversationContext(session);
+        logger.info("Streaming LLM response for session: {} using provider: {} with RAG", conversation.sessionId(), provider);
 
-            // Step 4: Generate response using LLM with augmented context
-            if ("gemini".equalsIgnoreCase(provider)) {
-                return callGeminiAPI(systemPrompt, conversationContext, false);
-            } else {
-                return callOpenAIAPI(systemPrompt, conversationContext, false);
-            }
+        ConversationContextManager.PromptContext prompt =
+                contextManager.prepare(conversation, () -> buildResponseSystemPrompt(conversation));
+        String systemPrompt = withPatientInformation(prompt.systemPrompt(), profile);
+        String conversationContext = prompt.conversationContext();
 
-        } catch (Exception e) {
-            logger.error("Error generating LLM response", e);
-            return "Disculpe, tuve un problema al procesar su mensaje. ¿Podría reformularlo?";
+        if ("gemini".equalsIgnoreCase(provider)) {
+            return streamGeminiAPI(systemPrompt, conversationContext);
         }
+        return Flux.just(callOpenAIAPI(false));
     }
 
     @Override
     public AnamnesisSummary generateSummary(AnamnesisSession session, ProfileSnapshot profile) {
+        // The summary always reads the full conversation; the rolling context is no longer needed
+        contextManager.release(session.getId());
+
         if (!isAvailable()) {
             logger.warn("LLM service is not available for summary generation");
             return createFallbackSummary(session, profile);
@@ -114,7 +184,7 @@ public class OpenAiLlmClient implements LlmClient {
             logger.info("Generating anamnesis summary for session: {} using provider: {} with RAG", session.getId(), provider);
 
             // Query knowledge base for summary context
-            String searchQuery = extractSearchQuery(session);
+            String searchQuery = extractSearchQuery(session.getInitialReason(), session.getMessages());
             List<MedicalKnowledge> relevantKnowledge = List.of();
             if (knowledgeBaseClient.isAvailable()) {
                 relevantKnowledge = knowledgeBaseClient.searchKnowledge(searchQuery, 3);
@@ -124,12 +194,11 @@ public class OpenAiLlmClient implements LlmClient {
             String systemPrompt = buildSystemPrompt(profile, true, relevantKnowledge);
             String conversationContext = buildConversationContext(session);
 
-            String summaryJson;
-            if ("gemini".equalsIgnoreCase(provider)) {
-                summaryJson = callGeminiAPI(systemPrompt, conversationContext, true);
-            } else {
-                summaryJson = callOpenAIAPI(systemPrompt, conversationContext, true);
-            }
+            // Cached like opening turns: a retried or resumed summary job reuses the earlier reply
+            String summaryJson = responseCache.getOrLoad(provider, cacheModelKey(true),
+                            systemPrompt + "\n\n" + conversationContext + SUMMARY_FORMAT_INSTRUCTIONS,
+                            () -> callProvider(systemPrompt, conversationContext, true))
+                    .block();
 
             return parseSummaryFromJson(summaryJson, session, profile);
 
@@ -154,75 +223,102 @@ public class OpenAiLlmClient implements LlmClient {
         return available;
     }
 
-    private String callGeminiAPI(String systemPrompt, String conversationContext, boolean forSummary) {
-        try {
-            String url = "https://generativelanguage.googleapis.com/v1/models/" + geminiModel + ":generateContent?key=" + geminiApiKey;
-
-            String fullPrompt = systemPrompt + "\n\n" + conversationContext;
-            if (forSummary) {
-                fullPrompt += "\n\nGenera SOLO un JSON válido con el siguiente formato:\n" +
-                    "{\n" +
-                    "  \"chiefComplaint\": \"motivo principal\",\n" +
-                    "  \"historyOfPresentIllness\": \"descripción detallada\",\n" +
-                    "  \"pastMedicalHistory\": \"antecedentes\",\n" +
-                    "  \"medications\": [\"medicamento1\", \"medicamento2\"],\n" +
-                    "  \"allergies\": [\"alergia1\"],\n" +
-                    "  \"redFlags\": [\"señal de alarma\"],\n" +
-                    "  \"additionalNotes\": \"notas adicionales\"\n" +
-                    "}\n\nResponde SOLO con el JSON, sin texto adicional.";
-            }
+    /**
+     * Calls the configured provider; the OpenAI path returns its canned fallback.
+     */
+    private Mono<String> callProvider(String systemPrompt, String conversationContext, boolean forSummary) {
+        if ("gemini".equalsIgnoreCase(provider)) {
+            return callGeminiAPI(systemPrompt, conversationContext, forSummary);
+        }
+        return Mono.fromSupplier(() -> callOpenAIAPI(forSummary));
+    }
 
-            Map<String, Object> requestBody = new HashMap<>();
-            List<Map<String, Object>> contents = new ArrayList<>();
-            Map<String, Object> content = new HashMap<>();
-            List<Map<String, String>> parts = new ArrayList<>();
-            Map<String, String> part = new HashMap<>();
-            part.put("text", fullPrompt);
-            parts.add(part);
-            content.put("parts", parts);
-            contents.add(content);
-            requestBody.put("contents", contents);
+    /**
+     * Model part of the response cache key: model name, generation settings and reply kind.
+     */
+    private String cacheModelKey(boolean forSummary) {
+        String model = "gemini".equalsIgnoreCase(provider)
+                ? geminiModel + "@" + temperature + "/" + maxTokens
+                : openaiModel;
+        return forSummary ? model + "#summary" : model;
+    }
 
-            Map<String, Object> generationConfig = new HashMap<>();
-            generationConfig.put("temperature", temperature);
-            generationConfig.put("maxOutputTokens", maxTokens);
-            requestBody.put("generationConfig", generationConfig);
+    private Mono<String> callGeminiAPI(String systemPrompt, String conversationContext, boolean forSummary) {
+        String url = geminiBaseUrl + "/models/" + geminiModel + ":generateContent?key=" + geminiApiKey;
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
+        String fullPrompt = systemPrompt + "\n\n" + conversationContext;
+        if (forSummary) {
+            fullPrompt += SUMMARY_FORMAT_INSTRUCTIONS;
+        }
 
-            logger.debug("Calling Gemini API: {}", url);
-            String response = restTemplate.postForObject(url, request, String.class);
+        logger.debug("Calling Gemini API for model: {}", geminiModel);
+        return llmWebClient.post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(buildGeminiRequestBody(fullPrompt))
+                .retrieve()
+                .bodyToMono(String.class)
+                .map(response -> {
+                    String text = extractGeminiText(response);
+                    logger.debug("Gemini response received: {} characters", text.length());
+                    return text;
+                })
+                .onErrorMap(e -> {
+                    logger.error("Error calling Gemini API", e);
+                    return new RuntimeException("Error calling Gemini API", e);
+                });
+    }
 
-            JsonNode jsonNode = objectMapper.readTree(response);
-            String text = jsonNode.at("/candidates/0/content/parts/0/text").asText();
+    /**
+     * Calls Gemini's streamGenerateContent endpoint in SSE mode and emits the text of each chunk.
+     */
+    private Flux<String> streamGeminiAPI(String systemPrompt, String conversationContext) {
+        String url = geminiBaseUrl + "/models/" + geminiModel + ":streamGenerateContent?alt=sse&key=" + geminiApiKey;
+        String fullPrompt = systemPrompt + "\n\n" + conversationContext;
+
+        logger.debug("Calling Gemini streaming API for model: {}", geminiModel);
+        return llmWebClient.post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(buildGeminiRequestBody(fullPrompt))
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .mapNotNull(ServerSentEvent::data)
+                .map(this::extractGeminiText)
+                .filter(text -> !text.isEmpty());
+    }
 
-            logger.debug("Gemini response received: {} characters", text.length());
-            return text;
+    private Map<String, Object> buildGeminiRequestBody(String fullPrompt) {
+        Map<String, Object> requestBody = new HashMap<>();
+        List<Map<String, Object>> contents = new ArrayList<>();
+        Map<String, Object> content = new HashMap<>();
+        List<Map<String, String>> parts = new ArrayList<>();
+        Map<String, String> part = new HashMap<>();
+        part.put("text", fullPrompt);
+        parts.add(part);
+        content.put("parts", parts);
+        contents.add(content);
+        requestBody.put("contents", contents);
+
+        Map<String, Object> generationConfig = new HashMap<>();
+        generationConfig.put("temperature", temperature);
+        generationConfig.put("maxOutputTokens", maxTokens);
+        requestBody.put("generationConfig", generationConfig);
+        return requestBody;
+    }
 
+    private String extractGeminiText(String chunkJson) {
+        try {
+            return objectMapper.readTree(chunkJson).at("/candidates/0/content/parts/0/text").asText();
         } catch (Exception e) {
-            logger.error("Error calling Gemini API", e);
-            throw new RuntimeException("Error calling Gemini API", e);
+            throw new RuntimeException("Error parsing Gemini response", e);
         }
     }
 
-    private String callOpenAIAPI(String systemPrompt, String conversationContext, boolean forSummary) {
+    private String callOpenAIAPI(boolean forSummary) {
         logger.warn("OpenAI API integration not fully implemented. Using fallback response.");
-
-        if (forSummary) {
-            return "{\n" +
-                "  \"chiefComplaint\": \"Síntomas reportados por el paciente\",\n" +
-                "  \"historyOfPresentIllness\": \"Información recopilada durante la conversación\",\n" +
-                "  \"pastMedicalHistory\": \"Ver perfil del paciente\",\n" +
-                "  \"medications\": [],\n" +
-                "  \"allergies\": [],\n" +
-                "  \"redFlags\": [],\n" +
-                "  \"additionalNotes\": \"Resumen generado con OpenAI (implementación pendiente)\"\n" +
-                "}";
-        }
-
-        return "Entiendo sus síntomas. ¿Podría proporcionar más detalles sobre la duración e intensidad?";
+        return forSummary ? OPENAI_FALLBACK_SUMMARY : OPENAI_FALLBACK_REPLY;
     }
 
     private String buildSystemPrompt(ProfileSnapshot profile, boolean forSummary, List<MedicalKnowledge> relevantKnowledge) {
@@ -268,11 +364,7 @@ public class OpenAiLlmClient implements LlmClient {
             prompt.append("Presta especial atención a las señales de alarma mencionadas.\n\n");
         }
 
-        if (profile != null && profile.hasConsentForAI()) {
-            prompt.append("INFORMACIÓN DEL PACIENTE:\n");
-            prompt.append(profile.getFormattedSummary());
-            prompt.append("\n");
-        }
+        appendPatientInformation(prompt, profile);
 
         if (forSummary) {
             prompt.append("\nTu tarea es analizar toda la conversación y generar un resumen médico estructurado.\n");
@@ -286,20 +378,58 @@ public class OpenAiLlmClient implements LlmClient {
         return prompt.toString();
     }
 
+    private void appendPatientInformation(StringBuilder prompt, ProfileSnapshot profile) {
+        if (profile != null && profile.hasConsentForAI()) {
+            prompt.append("INFORMACIÓN DEL PACIENTE:\n");
+            prompt.append(profile.getFormattedSummary());
+            prompt.append("\n");
+        }
+    }
+
+    /**
+     * Adds the patient's profile to a conversational system prompt, if they consented to AI processing.
+     */
+    private String withPatientInformation(String systemPrompt, ProfileSnapshot profile) {
+        if (profile == null || !profile.hasConsentForAI()) {
+            return systemPrompt;
+        }
+        StringBuilder prompt = new StringBuilder(systemPrompt).append("\n");
+        appendPatientInformation(prompt, profile);
+        return prompt.toString();
+    }
+
+    /**
+     * Builds the conversational system prompt, enriched with knowledge retrieved for the session (RAG).
+     * It holds no patient data, see {@link #withPatientInformation}.
+     */
+    private String buildResponseSystemPrompt(ConversationWindow conversation) {
+        // Step 1: Extract context from the latest patient message and session
+        String searchQuery = extractSearchQuery(conversation.initialReason(), conversation.messages());
+
+        // Step 2: Query Ayllucare knowledge base (RAG - Retrieval)
+        List<MedicalKnowledge> relevantKnowledge = List.of();
+        if (knowledgeBaseClient.isAvailable()) {
+            relevantKnowledge = knowledgeBaseClient.searchKnowledge(searchQuery, 3);
+            logger.info("Retrieved {} relevant knowledge entries from Ayllucare dataset", relevantKnowledge.size());
+        }
+
+        // Step 3: Build enriched prompt with knowledge base context (RAG - Augmented Generation)
+        return buildSystemPrompt(null, false, relevantKnowledge);
+    }
+
     /**
      * Extracts search query from session to query knowledge base.
      * Uses initial reason and latest patient messages.
      */
-    private String extractSearchQuery(AnamnesisSession session) {
+    private String extractSearchQuery(String initialReason, List<ConversationMessage> messages) {
         StringBuilder query = new StringBuilder();
 
         // Add initial reason
-        if (session.getInitialReason() != null && !session.getInitialReason().isBlank()) {
-            query.append(session.getInitialReason()).append(" ");
+        if (initialReason != null && !initialReason.isBlank()) {
+            query.append(initialReason).append(" ");
         }
 
         // Add latest patient messages (last 3)
-        List<ConversationMessage> messages = session.getMessages();
         int startIndex = Math.max(0, messages.size() - 3);
 
         for (int i = startIndex; i < messages.size(); i++) {
@@ -312,6 +442,15 @@ public class OpenAiLlmClient implements LlmClient {
         return query.toString().trim();
     }
 
+    /**
+     * True while the assistant has not replied yet in this session. A window that does not reach back to
+     * the first message is never an opening turn.
+     */
+    private boolean isOpeningTurn(ConversationWindow conversation) {
+        return conversation.startsAtFirstMessage() && conversation.messages().stream()
+                .noneMatch(message -> message.getSenderType() == SenderType.ASSISTANT);
+    }
+
     private String buildConversationContext(AnamnesisSession session) {
         StringBuilder context = new StringBuilder();
         context.append("CONVERSACIÓN:\n\n");
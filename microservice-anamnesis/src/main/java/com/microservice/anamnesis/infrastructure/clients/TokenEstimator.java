@@ -0,0 +1,40 @@
+package com.microservice.anamnesis.infrastructure.clients;
+
+/**
+ * Cheap token count estimate for prompt budgeting, without a provider tokenizer.
+ *
+ * Spanish text averages roughly 4 characters or 0.75 words per token on Gemini/OpenAI
+ * tokenizers; the larger of both estimates is used so budgets err on the safe side.
+ */
+public final class TokenEstimator {
+
+    private static final double CHARS_PER_TOKEN = 4.0;
+    private static final double TOKENS_PER_WORD = 1.33;
+
+    private TokenEstimator() {
+    }
+
+    /**
+     * @param text Text to measure (may be null)
+     * @return Estimated number of tokens
+     */
+    public static int estimate(CharSequence text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean whitespace = Character.isWhitespace(text.charAt(i));
+            if (!whitespace && !inWord) {
+                words++;
+            }
+            inWord = !whitespace;
+        }
+
+        int byChars = (int) Math.ceil(text.length() / CHARS_PER_TOKEN);
+        int byWords = (int) Math.ceil(words * TOKENS_PER_WORD);
+        return Math.max(byChars, byWords);
+    }
+}
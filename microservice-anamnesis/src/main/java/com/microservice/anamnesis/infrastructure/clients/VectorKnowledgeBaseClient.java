@@ -0,0 +1,176 @@
+package com.microservice.anamnesis.infrastructure.clients;
+
+import com.microservice.anamnesis.application.clients.EmbeddingProvider;
+import com.microservice.anamnesis.application.clients.KnowledgeBaseClient;
+import com.microservice.anamnesis.domain.model.valueobjects.MedicalKnowledge;
+import com.microservice.anamnesis.infrastructure.search.HnswVectorIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Semantic implementation of KnowledgeBaseClient using embeddings and an in-process HNSW index.
+ *
+ * Enabled with knowledge.search.mode:
+ * - vector: ranks entries by embedding similarity only
+ * - hybrid: fuses the embedding ranking with the keyword (BM25) ranking using Reciprocal Rank Fusion
+ * - keyword (default): this bean is not created and {@link InMemoryKnowledgeBaseClient} is used directly
+ *
+ * Entries are embedded once at startup with the configured {@link EmbeddingProvider}.
+ * If embedding fails, searches fall back to keyword retrieval.
+ */
+@Component
+@Primary
+@ConditionalOnExpression("'${knowledge.search.mode:keyword}' == 'vector' or '${knowledge.search.mode:keyword}' == 'hybrid'")
+public class VectorKnowledgeBaseClient implements KnowledgeBaseClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(VectorKnowledgeBaseClient.class);
+    private static final int RRF_RANK_CONSTANT = 60;
+
+    private final InMemoryKnowledgeBaseClient keywordClient;
+    private final EmbeddingProvider embeddingProvider;
+
+    private volatile List<MedicalKnowledge> entries = List.of();
+    private volatile HnswVectorIndex vectorIndex;
+
+    public VectorKnowledgeBaseClient(InMemoryKnowledgeBaseClient keywordClient, EmbeddingProvider embeddingProvider) {
+        this.keywordClient = keywordClient;
+        this.embeddingProvider = embeddingProvider;
+    }
+
+    @Value("${knowledge.search.mode:keyword}")
+    private String mode;
+
+    @Value("${knowledge.search.hnsw.m:16}")
+    private int hnswM;
+
+    @Value("${knowledge.search.hnsw.ef-construction:100}")
+    private int efConstruction;
+
+    @Value("${knowledge.search.hnsw.ef-search:64}")
+    private int efSearch;
+
+    @Value("${knowledge.search.hybrid.candidate-multiplier:3}")
+    private int candidateMultiplier;
+
+    @PostConstruct
+    public void init() {
+        List<MedicalKnowledge> dataset = keywordClient.getEntries();
+        logger.info("Building vector index for {} knowledge entries with '{}' embeddings (mode: {})",
+                dataset.size(), embeddingProvider.name(), mode);
+        try {
+            List<String> texts = new ArrayList<>(dataset.size());
+            for (MedicalKnowledge knowledge : dataset) {
+                texts.add(toEmbeddingText(knowledge));
+            }
+
+            long start = System.nanoTime();
+            List<float[]> embeddings = embeddingProvider.embedAll(texts);
+            vectorIndex = HnswVectorIndex.build(embeddings, embeddingProvider.dimensions(), hnswM, efConstruction, efSearch);
+            entries = dataset;
+            logger.info("✅ Vector index built with {} entries in {} ms",
+                    vectorIndex.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            logger.error("❌ Failed to build vector index, falling back to keyword search: {}", e.getMessage());
+            vectorIndex = null;
+        }
+    }
+
+    @Override
+    public List<MedicalKnowledge> searchKnowledge(String query, int maxResults) {
+        if (query == null || query.isBlank() || maxResults <= 0) {
+            return List.of();
+        }
+
+        HnswVectorIndex index = vectorIndex;
+        if (index == null) {
+            return keywordClient.searchKnowledge(query, maxResults);
+        }
+
+        List<HnswVectorIndex.Candidate> semanticHits;
+        try {
+            int candidates = "hybrid".equalsIgnoreCase(mode) ? maxResults * candidateMultiplier : maxResults;
+            semanticHits = index.search(embeddingProvider.embed(query), candidates);
+        } catch (Exception e) {
+            logger.warn("Embedding query failed, using keyword search: {}", e.getMessage());
+            return keywordClient.searchKnowledge(query, maxResults);
+        }
+
+        List<MedicalKnowledge> results = "hybrid".equalsIgnoreCase(mode)
+                ? fuseWithKeywordRanking(query, semanticHits, maxResults)
+                : toKnowledge(semanticHits);
+
+        logger.debug("Found {} relevant knowledge entries ({} search)", results.size(), mode);
+        return results;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return keywordClient.isAvailable();
+    }
+
+    /**
+     * Reciprocal Rank Fusion: each list contributes 1 / (60 + rank) per entry, so entries ranked
+     * well by both keyword and semantic search come first without calibrating their raw scores.
+     */
+    private List<MedicalKnowledge> fuseWithKeywordRanking(String query,
+                                                          List<HnswVectorIndex.Candidate> semanticHits,
+                                                          int maxResults) {
+        Map<String, Double> fusedScores = new HashMap<>();
+        Map<String, MedicalKnowledge> byTopic = new LinkedHashMap<>();
+
+        for (int rank = 0; rank < semanticHits.size(); rank++) {
+            MedicalKnowledge knowledge = entries.get(semanticHits.get(rank).id());
+            byTopic.putIfAbsent(knowledge.topic(), knowledge);
+            fusedScores.merge(knowledge.topic(), 1.0 / (RRF_RANK_CONSTANT + rank + 1), Double::sum);
+        }
+
+        List<MedicalKnowledge> keywordHits = keywordClient.searchKnowledge(query, maxResults * candidateMultiplier);
+        for (int rank = 0; rank < keywordHits.size(); rank++) {
+            MedicalKnowledge knowledge = keywordHits.get(rank);
+            byTopic.putIfAbsent(knowledge.topic(), knowledge);
+            fusedScores.merge(knowledge.topic(), 1.0 / (RRF_RANK_CONSTANT + rank + 1), Double::sum);
+        }
+
+        return fusedScores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(maxResults)
+                .map(entry -> withScore(byTopic.get(entry.getKey()), entry.getValue()))
+                .toList();
+    }
+
+    private List<MedicalKnowledge> toKnowledge(List<HnswVectorIndex.Candidate> hits) {
+        List<MedicalKnowledge> results = new ArrayList<>(hits.size());
+        for (HnswVectorIndex.Candidate hit : hits) {
+            if (hit.similarity() > 0) {
+                results.add(withScore(entries.get(hit.id()), hit.similarity()));
+            }
+        }
+        return results;
+    }
+
+    private MedicalKnowledge withScore(MedicalKnowledge knowledge, double score) {
+        return new MedicalKnowledge(
+                knowledge.topic(),
+                knowledge.description(),
+                knowledge.symptoms(),
+                knowledge.recommendations(),
+                knowledge.redFlags(),
+                score
+        );
+    }
+
+    private String toEmbeddingText(MedicalKnowledge knowledge) {
+        return knowledge.topic() + ". " + knowledge.description() + ". " + String.join(", ", knowledge.symptoms());
+    }
+}
@@ -0,0 +1,33 @@
+package com.microservice.anamnesis.infrastructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worker pool for asynchronous summary generation.
+ * <p>
+ * A fixed number of virtual-thread workers caps concurrent LLM summary calls independently of
+ * HTTP concurrency; the bounded queue rejects new jobs instead of letting the backlog grow unbounded.
+ * </p>
+ */
+@Configuration
+public class SummaryJobExecutorConfig {
+
+    @Bean(name = "summaryJobExecutor", destroyMethod = "shutdown")
+    public ExecutorService summaryJobExecutor(
+            @Value("${anamnesis.summary.workers:4}") int workers,
+            @Value("${anamnesis.summary.queue-capacity:100}") int queueCapacity) {
+        return new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofVirtual().name("summary-job-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -1,9 +1,18 @@
 package com.microservice.anamnesis.infrastructure.configuration;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.Http2AllocationStrategy;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 /**
  * Configuration for WebClient beans.
@@ -16,6 +25,60 @@ public class WebClientConfig {
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder();
     }
-}
 
+    /**
+     * Dedicated connection pool for LLM provider calls.
+     * Connections are kept alive and reused across requests; maxConnections (and, over HTTP/2,
+     * maxConcurrentStreams per connection) bound the number of in-flight LLM calls, while further
+     * requests wait in a bounded pending queue instead of opening new TLS handshakes.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider llmConnectionProvider(
+            @Value("${llm.http.max-connections:50}") int maxConnections,
+            @Value("${llm.http.max-concurrent-streams:50}") long maxConcurrentStreams,
+            @Value("${llm.http.pending-acquire-max-count:200}") int pendingAcquireMaxCount,
+            @Value("${llm.http.pending-acquire-timeout:10s}") Duration pendingAcquireTimeout,
+            @Value("${llm.http.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${llm.http.http2-enabled:true}") boolean http2Enabled) {
+        ConnectionProvider.Builder builder = ConnectionProvider.builder("llm")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(maxIdleTime);
+
+        if (http2Enabled) {
+            builder.allocationStrategy(Http2AllocationStrategy.builder()
+                    .maxConnections(maxConnections)
+                    .maxConcurrentStreams(maxConcurrentStreams)
+                    .build());
+        }
+        return builder.build();
+    }
+
+    /**
+     * WebClient for external LLM providers.
+     * Not load-balanced: provider hosts are public URLs, not Eureka service IDs.
+     * HTTP/2 is negotiated via ALPN on TLS endpoints; plain HTTP endpoints fall back to HTTP/1.1.
+     */
+    @Bean
+    public WebClient llmWebClient(
+            ConnectionProvider llmConnectionProvider,
+            @Value("${llm.http.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${llm.http.response-timeout:60s}") Duration responseTimeout,
+            @Value("${llm.http.http2-enabled:true}") boolean http2Enabled) {
+        HttpClient httpClient = HttpClient.create(llmConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(responseTimeout);
+
+        if (http2Enabled) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
 
@@ -0,0 +1,60 @@
+package com.microservice.anamnesis.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.anamnesis.application.events.AnamnesisEventPublisher;
+import com.microservice.anamnesis.domain.model.events.AnamnesisSessionCompletedEvent;
+import com.microservice.anamnesis.domain.model.events.AnamnesisSummaryCreatedEvent;
+import com.microservice.anamnesis.infrastructure.messaging.outbox.OutboxMessage;
+import com.microservice.anamnesis.infrastructure.messaging.outbox.OutboxRelay;
+import com.microservice.anamnesis.infrastructure.persistence.jpa.repositories.OutboxMessageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of AnamnesisEventPublisher using a transactional outbox.
+ * Events are written to the outbox table in the caller's transaction and
+ * delivered to RabbitMQ by {@link OutboxRelay}.
+ */
+@Component
+public class OutboxAnamnesisEventPublisher implements AnamnesisEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxAnamnesisEventPublisher.class);
+    public static final String SUMMARY_CREATED_BINDING = "anamnesisSummaryCreated-out-0";
+    public static final String SESSION_COMPLETED_BINDING = "anamnesisSessionCompleted-out-0";
+
+    private final OutboxMessageRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxAnamnesisEventPublisher(OutboxMessageRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAnamnesisSummaryCreated(AnamnesisSummaryCreatedEvent event) {
+        logger.info("Queueing AnamnesisSummaryCreatedEvent for session: {}", event.getSessionId());
+        enqueue(SUMMARY_CREATED_BINDING, event.getEventId(), event.getEventType(), event.getSessionId(), event);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAnamnesisSessionCompleted(AnamnesisSessionCompletedEvent event) {
+        logger.info("Queueing AnamnesisSessionCompletedEvent for session: {}", event.getSessionId());
+        enqueue(SESSION_COMPLETED_BINDING, event.getEventId(), event.getEventType(), event.getSessionId(), event);
+    }
+
+    private void enqueue(String binding, String eventId, String eventType, Long sessionId, Object event) {
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+            outboxRepository.save(new OutboxMessage(eventId, eventType, binding, sessionId, payload));
+            logger.debug("Event stored in outbox: {}", eventId);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event " + eventId, e);
+        }
+    }
+}
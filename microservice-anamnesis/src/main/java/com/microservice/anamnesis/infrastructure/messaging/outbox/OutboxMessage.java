@@ -0,0 +1,89 @@
+package com.microservice.anamnesis.infrastructure.messaging.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Domain event stored in the same transaction as the state change that produced it.
+ * <p>
+ * {@link OutboxRelay} publishes pending messages in id order and marks them SENT once the
+ * broker confirms them, so an event is never lost when the broker is slow or unavailable.
+ * </p>
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "outbox_messages",
+       indexes = {
+               @Index(name = "idx_outbox_messages_status_id", columnList = "status, id"),
+               @Index(name = "idx_outbox_messages_aggregate_status_id", columnList = "aggregate_id, status, id")
+       },
+       uniqueConstraints = @UniqueConstraint(name = "uk_outbox_messages_event_id", columnNames = "event_id"))
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 36)
+    private String eventId;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    @Column(nullable = false, length = 100)
+    private String binding;
+
+    /**
+     * Ordering key: messages with the same aggregate id are delivered in id order.
+     */
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxMessageStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    private Instant sentAt;
+
+    public OutboxMessage(String eventId, String eventType, String binding, Long aggregateId, String payload) {
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.binding = binding;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.status = OutboxMessageStatus.PENDING;
+        this.createdAt = Instant.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    public void markSent() {
+        this.status = OutboxMessageStatus.SENT;
+        this.sentAt = Instant.now();
+        this.lastError = null;
+    }
+
+    public void markAttemptFailed(String error, Instant nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
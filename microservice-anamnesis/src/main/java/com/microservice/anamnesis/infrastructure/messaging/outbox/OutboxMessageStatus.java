@@ -0,0 +1,14 @@
+package com.microservice.anamnesis.infrastructure.messaging.outbox;
+/**
+ * Delivery status of an outbox message.
+ */
+public enum OutboxMessageStatus {
+    /**
+     * Written with the business transaction, not yet confirmed by the broker
+     */
+    PENDING,
+    /**
+     * Confirmed by the broker
+     */
+    SENT
+}
@@ -0,0 +1,169 @@
+package com.microservice.anamnesis.infrastructure.messaging.outbox;
+
+import com.microservice.anamnesis.infrastructure.persistence.jpa.repositories.OutboxMessageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the outbox table to RabbitMQ in batches with publisher confirms.
+ * <p>
+ * Each round locks up to batch-size due pending rows (FOR UPDATE SKIP LOCKED, so several instances
+ * can relay concurrently), publishes them, waits for all broker confirms and marks the acknowledged
+ * rows SENT in the same transaction. Nacked or timed-out messages are retried with exponential backoff;
+ * rows still backing off are not locked, so they never hold up other sessions.
+ * </p>
+ * <p>
+ * Ordering per session: only the oldest pending message of a session is ever selected, across all
+ * instances. A later event waits until that one is SENT, whether it is in flight on another instance
+ * or waiting for a retry, so later events never overtake earlier ones.
+ * </p>
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxMessageRepository outboxRepository;
+    private final StreamBridge streamBridge;
+    private final TransactionTemplate transactionTemplate;
+
+    public OutboxRelay(OutboxMessageRepository outboxRepository,
+                       StreamBridge streamBridge,
+                       TransactionTemplate transactionTemplate) {
+        this.outboxRepository = outboxRepository;
+        this.streamBridge = streamBridge;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Value("${anamnesis.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${anamnesis.outbox.max-rounds:10}")
+    private int maxRounds;
+
+    @Value("${anamnesis.outbox.confirm-timeout:5s}")
+    private Duration confirmTimeout;
+
+    @Value("${anamnesis.outbox.retry-initial-backoff:1s}")
+    private Duration retryInitialBackoff;
+
+    @Value("${anamnesis.outbox.retry-max-backoff:5m}")
+    private Duration retryMaxBackoff;
+
+    @Value("${anamnesis.outbox.retention:7d}")
+    private Duration retention;
+
+    @Scheduled(fixedDelayString = "${anamnesis.outbox.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            for (int round = 0; round < maxRounds; round++) {
+                Integer sent = transactionTemplate.execute(status -> relayBatch());
+                if (sent == null || sent == 0) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Outbox relay round failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${anamnesis.outbox.cleanup-interval-ms:3600000}")
+    public void purgeSentMessages() {
+        Integer deleted = transactionTemplate.execute(status -> outboxRepository.deleteByStatusAndSentAtBefore(
+                OutboxMessageStatus.SENT, Instant.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            logger.info("Purged {} sent outbox messages", deleted);
+        }
+    }
+
+    /**
+     * Publishes one batch and waits for its confirms. Must run inside a transaction.
+     *
+     * @return Number of messages confirmed by the broker
+     */
+    private int relayBatch() {
+        List<OutboxMessage> batch = outboxRepository.lockNextPending(Instant.now(), batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<InFlight> inFlight = new ArrayList<>();
+
+        for (OutboxMessage message : batch) {
+            CorrelationData correlation = new CorrelationData(message.getEventId());
+            try {
+                if (streamBridge.send(message.getBinding(), toBrokerMessage(message, correlation))) {
+                    inFlight.add(new InFlight(message, correlation));
+                } else {
+                    retryLater(message, "Binding rejected message");
+                }
+            } catch (Exception e) {
+                retryLater(message, e.getMessage());
+            }
+        }
+
+        int confirmed = 0;
+        long deadline = System.nanoTime() + confirmTimeout.toNanos();
+        for (InFlight pending : inFlight) {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                CorrelationData.Confirm confirm = pending.correlation().getFuture().get(remaining, TimeUnit.NANOSECONDS);
+                if (confirm.isAck()) {
+                    pending.message().markSent();
+                    confirmed++;
+                } else {
+                    retryLater(pending.message(), "Broker nack: " + confirm.getReason());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                retryLater(pending.message(), "Interrupted while waiting for confirm");
+            } catch (Exception e) {
+                retryLater(pending.message(), "No confirm: " + e.getMessage());
+            }
+        }
+
+        logger.debug("Outbox round: {} locked, {} published, {} confirmed", batch.size(), inFlight.size(), confirmed);
+        return confirmed;
+    }
+
+    private Message<byte[]> toBrokerMessage(OutboxMessage message, CorrelationData correlation) {
+        return MessageBuilder.withPayload(message.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON_VALUE)
+                .setHeader("eventId", message.getEventId())
+                .setHeader("eventType", message.getEventType())
+                .setHeader(AmqpHeaders.PUBLISH_CONFIRM_CORRELATION, correlation)
+                .build();
+    }
+
+    private void retryLater(OutboxMessage message, String error) {
+        long multiplier = 1L << Math.min(message.getAttempts(), 20);
+        Duration backoff = retryInitialBackoff.multipliedBy(multiplier);
+        if (backoff.compareTo(retryMaxBackoff) > 0) {
+            backoff = retryMaxBackoff;
+        }
+        message.markAttemptFailed(error, Instant.now().plus(backoff));
+        logger.warn("Outbox message {} ({}) not delivered, attempt {}: {}",
+                message.getEventId(), message.getEventType(), message.getAttempts(), error);
+    }
+
+    private record InFlight(OutboxMessage message, CorrelationData correlation) {
+    }
+}
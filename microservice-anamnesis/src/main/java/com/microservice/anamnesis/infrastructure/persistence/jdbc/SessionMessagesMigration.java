@@ -0,0 +1,94 @@
+package com.microservice.anamnesis.infrastructure.persistence.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves messages from the former conversation_messages collection table into session_messages.
+ * <p>
+ * Runs once all singletons exist (so Hibernate has already created session_messages and
+ * message_count) but before the web server and message listeners start, so no message can be
+ * appended to a legacy session meanwhile. A MySQL named lock keeps instances starting together
+ * from copying twice; the instance that waited finds the legacy table already renamed.
+ * </p>
+ * <p>
+ * Sessions that already have rows in session_messages are skipped and message_count is recomputed
+ * from the copied rows, so an interrupted run can be repeated. The old table is then renamed to
+ * conversation_messages_migrated rather than dropped.
+ * </p>
+ */
+@Component
+public class SessionMessagesMigration implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionMessagesMigration.class);
+
+    private static final String LOCK_NAME = "anamnesis.session-messages-migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+
+    private static final String ACQUIRE_LOCK = "SELECT GET_LOCK(?, ?)";
+    private static final String RELEASE_LOCK = "SELECT RELEASE_LOCK(?)";
+    private static final String LEGACY_TABLE_EXISTS =
+            "SELECT COUNT(*) FROM information_schema.tables "
+                    + "WHERE table_schema = DATABASE() AND table_name = 'conversation_messages'";
+    // message_order was 0-based; sequence numbers start at 1 like AnamnesisSession.messageCount
+    private static final String COPY_MESSAGES =
+            "INSERT INTO session_messages (session_id, sequence_number, sender_type, content, timestamp) "
+                    + "SELECT m.session_id, m.message_order + 1, m.sender_type, m.content, m.timestamp "
+                    + "FROM conversation_messages m "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM session_messages s WHERE s.session_id = m.session_id)";
+    private static final String BACKFILL_MESSAGE_COUNT =
+            "UPDATE anamnesis_sessions a "
+                    + "JOIN (SELECT session_id, COUNT(*) AS message_total FROM session_messages GROUP BY session_id) c "
+                    + "ON c.session_id = a.id "
+                    + "SET a.message_count = c.message_total "
+                    + "WHERE a.message_count <> c.message_total";
+    private static final String RENAME_LEGACY_TABLE =
+            "RENAME TABLE conversation_messages TO conversation_messages_migrated";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SessionMessagesMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Integer legacyTables = jdbcTemplate.queryForObject(LEGACY_TABLE_EXISTS, Integer.class);
+        if (legacyTables == null || legacyTables == 0) {
+            return;
+        }
+
+        // The named lock belongs to the connection, so every statement runs on the one holding it
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            JdbcTemplate locked = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            Integer acquired = locked.queryForObject(ACQUIRE_LOCK, Integer.class, LOCK_NAME, LOCK_TIMEOUT_SECONDS);
+            if (acquired == null || acquired != 1) {
+                throw new IllegalStateException("Could not acquire lock " + LOCK_NAME + " to migrate session messages");
+            }
+            try {
+                migrate(locked);
+            } finally {
+                locked.queryForObject(RELEASE_LOCK, Integer.class, LOCK_NAME);
+            }
+            return null;
+        });
+    }
+
+    private void migrate(JdbcTemplate locked) {
+        Integer legacyTables = locked.queryForObject(LEGACY_TABLE_EXISTS, Integer.class);
+        if (legacyTables == null || legacyTables == 0) {
+            return;
+        }
+
+        int copied = locked.update(COPY_MESSAGES);
+        int sessions = locked.update(BACKFILL_MESSAGE_COUNT);
+        locked.execute(RENAME_LEGACY_TABLE);
+        logger.info("Migrated {} conversation messages to session_messages ({} session counters updated)",
+                copied, sessions);
+    }
+}
@@ -2,8 +2,14 @@ package com.microservice.anamnesis.infrastructure.persistence.jpa.repositories;
 
 import com.microservice.anamnesis.domain.model.aggregates.AnamnesisSession;
 import com.microservice.anamnesis.domain.model.valueobjects.AnamnesisStatus;
+import com.microservice.anamnesis.domain.model.valueobjects.SessionListItem;
+import com.microservice.anamnesis.domain.model.valueobjects.SessionSummaryItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,5 +25,30 @@ public interface AnamnesisSessionRepository extends JpaRepository<AnamnesisSessi
     List<AnamnesisSession> findByStatus(AnamnesisStatus status);
 
     boolean existsByUserIdAndStatus(Long userId, AnamnesisStatus status);
-}
 
+    /**
+     * Keyset page of a user's sessions, newest first, projected to list rows (served by the (user_id, id) index).
+     */
+    @Query("""
+            select new com.microservice.anamnesis.domain.model.valueobjects.SessionListItem(
+                s.id, s.status, s.createdAt, s.initialReason, s.messageCount)
+            from AnamnesisSession s
+            where s.userId = :userId and (:beforeId is null or s.id < :beforeId)
+            order by s.id desc
+            """)
+    List<SessionListItem> findListItemsByUserId(@Param("userId") Long userId,
+                                                @Param("beforeId") Long beforeId,
+                                                Pageable pageable);
+
+    /**
+     * Summary text of the given sessions in one query, for those with the given status.
+     */
+    @Query("""
+            select new com.microservice.anamnesis.domain.model.valueobjects.SessionSummaryItem(
+                s.id, s.summary.chiefComplaint, s.summary.historyOfPresentIllness)
+            from AnamnesisSession s
+            where s.id in :ids and s.status = :status
+            """)
+    List<SessionSummaryItem> findSummaryItemsByIdIn(@Param("ids") Collection<Long> ids,
+                                                    @Param("status") AnamnesisStatus status);
+}
@@ -0,0 +1,23 @@
+package com.microservice.anamnesis.infrastructure.persistence.jpa.repositories;
+
+import com.microservice.anamnesis.domain.model.entities.ConversationMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JPA Repository for conversation messages, read in sequence order and page by page.
+ */
+@Repository
+public interface ConversationMessageRepository extends JpaRepository<ConversationMessage, Long> {
+
+    List<ConversationMessage> findBySessionIdAndSequenceGreaterThanOrderBySequenceAsc(
+            Long sessionId, Integer afterSequence, Pageable pageable);
+
+    /**
+     * Latest messages of a session, newest first (served by the (session_id, sequence_number) key).
+     */
+    List<ConversationMessage> findBySessionIdOrderBySequenceDesc(Long sessionId, Pageable pageable);
+}
@@ -0,0 +1,42 @@
+package com.microservice.anamnesis.infrastructure.persistence.jpa.repositories;
+
+import com.microservice.anamnesis.infrastructure.messaging.outbox.OutboxMessage;
+import com.microservice.anamnesis.infrastructure.messaging.outbox.OutboxMessageStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JPA Repository for the transactional outbox.
+ */
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * Locks the oldest due pending messages; rows locked by another relay instance are skipped.
+     * <p>
+     * Only the oldest pending message of each aggregate qualifies. The subquery is a plain consistent
+     * read (it takes no locks, so SKIP LOCKED does not apply to it) and still sees a message another
+     * instance has in flight, or one backing off, as PENDING, so its successors wait for it.
+     * </p>
+     */
+    @Query(value = """
+            SELECT * FROM outbox_messages m
+            WHERE m.status = 'PENDING' AND m.next_attempt_at <= :now
+              AND NOT EXISTS (SELECT 1 FROM outbox_messages o
+                              WHERE o.aggregate_id = m.aggregate_id AND o.status = 'PENDING' AND o.id < m.id)
+            ORDER BY m.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxMessage> lockNextPending(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from OutboxMessage m where m.status = :status and m.sentAt < :before")
+    int deleteByStatusAndSentAtBefore(@Param("status") OutboxMessageStatus status, @Param("before") Instant before);
+}
@@ -0,0 +1,47 @@
+package com.microservice.anamnesis.infrastructure.persistence.jpa.repositories;
+
+import com.microservice.anamnesis.domain.model.aggregates.SummaryGenerationJob;
+import com.microservice.anamnesis.domain.model.valueobjects.SummaryJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA Repository for SummaryGenerationJob aggregate.
+ */
+@Repository
+public interface SummaryGenerationJobRepository extends JpaRepository<SummaryGenerationJob, Long> {
+
+    Optional<SummaryGenerationJob> findFirstBySessionIdAndStatusIn(Long sessionId, Collection<SummaryJobStatus> statuses);
+
+    /**
+     * Active jobs with no lease or an expired one: left behind by a stopped instance.
+     */
+    @Query("""
+            select j.id from SummaryGenerationJob j
+            where j.status in :statuses and (j.leaseExpiresAt is null or j.leaseExpiresAt < :now)
+            order by j.id""")
+    List<Long> findClaimableIds(@Param("statuses") Collection<SummaryJobStatus> statuses, @Param("now") Instant now);
+
+    /**
+     * Takes the lease of an active job unless another instance holds an unexpired one.
+     *
+     * @return 1 if the lease was taken, 0 otherwise
+     */
+    @Modifying
+    @Query("""
+            update SummaryGenerationJob j set j.leaseOwner = :owner, j.leaseExpiresAt = :expiresAt
+            where j.id = :id and j.status in :statuses and (j.leaseExpiresAt is null or j.leaseExpiresAt < :now)""")
+    int claim(@Param("id") Long id,
+              @Param("statuses") Collection<SummaryJobStatus> statuses,
+              @Param("owner") String owner,
+              @Param("now") Instant now,
+              @Param("expiresAt") Instant expiresAt);
+}
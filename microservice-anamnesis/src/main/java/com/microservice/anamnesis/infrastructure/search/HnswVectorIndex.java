@@ -0,0 +1,285 @@
+package com.microservice.anamnesis.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+/**
+ * In-process approximate nearest-neighbor index (HNSW) over L2-normalized vectors.
+ *
+ * Vectors are stored row-major in a single float[] matrix (n * dimensions), and
+ * similarity is the dot product (cosine for unit vectors). The graph is built once,
+ * single-threaded, and is read-only afterwards, so concurrent searches are safe.
+ *
+ * Parameters:
+ * - m: neighbors kept per node on upper layers (2 * m on layer 0)
+ * - efConstruction: candidate list size while inserting
+ * - efSearch: candidate list size while querying (raised to k if smaller)
+ */
+public final class HnswVectorIndex {
+
+    private static final Comparator<Candidate> MOST_SIMILAR_FIRST =
+            Comparator.comparingDouble(Candidate::similarity).reversed();
+    private static final Comparator<Candidate> LEAST_SIMILAR_FIRST =
+            Comparator.comparingDouble(Candidate::similarity);
+
+    private final int dimensions;
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+
+    private final float[] matrix;
+    private final int[][][] links;
+    private final int[][] linkCounts;
+    private int size;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    public HnswVectorIndex(int dimensions, int capacity, int m, int efConstruction, int efSearch, long seed) {
+        if (dimensions <= 0 || capacity < 0 || m < 2 || efConstruction < 1 || efSearch < 1) {
+            throw new IllegalArgumentException("Invalid HNSW parameters");
+        }
+        this.dimensions = dimensions;
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.levelMultiplier = 1.0 / Math.log(m);
+        this.random = new SplittableRandom(seed);
+        this.matrix = new float[capacity * dimensions];
+        this.links = new int[capacity][][];
+        this.linkCounts = new int[capacity][];
+    }
+
+    /**
+     * Builds an index over the given vectors; vector i gets id i.
+     */
+    public static HnswVectorIndex build(List<float[]> vectors, int dimensions, int m, int efConstruction, int efSearch) {
+        HnswVectorIndex index = new HnswVectorIndex(dimensions, vectors.size(), m, efConstruction, efSearch, 42L);
+        for (float[] vector : vectors) {
+            index.add(vector);
+        }
+        return index;
+    }
+
+    /**
+     * Inserts a vector and returns its id. Not thread-safe; intended for the build phase only.
+     */
+    public int add(float[] vector) {
+        if (vector.length != dimensions) {
+            throw new IllegalArgumentException("Expected " + dimensions + " dimensions but got " + vector.length);
+        }
+        if (size == links.length) {
+            throw new IllegalStateException("Index capacity exceeded");
+        }
+
+        int node = size++;
+        System.arraycopy(vector, 0, matrix, node * dimensions, dimensions);
+
+        int level = randomLevel();
+        links[node] = new int[level + 1][];
+        linkCounts[node] = new int[level + 1];
+        for (int l = 0; l <= level; l++) {
+            links[node][l] = new int[maxNeighbors(l)];
+        }
+
+        if (entryPoint == -1) {
+            entryPoint = node;
+            maxLevel = level;
+            return node;
+        }
+
+        int current = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            current = greedyClosest(vector, current, l);
+        }
+
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<Candidate> candidates = searchLayer(vector, current, efConstruction, l);
+            int neighborCount = Math.min(m, candidates.size());
+            for (int i = 0; i < neighborCount; i++) {
+                int neighbor = candidates.get(i).id();
+                connect(node, neighbor, l);
+                connect(neighbor, node, l);
+            }
+            current = candidates.get(0).id();
+        }
+
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+        return node;
+    }
+
+    /**
+     * Approximate top-k search, most similar first.
+     */
+    public List<Candidate> search(float[] query, int k) {
+        if (k <= 0 || entryPoint == -1) {
+            return List.of();
+        }
+
+        int current = entryPoint;
+        for (int l = maxLevel; l > 0; l--) {
+            current = greedyClosest(query, current, l);
+        }
+
+        List<Candidate> candidates = searchLayer(query, current, Math.max(efSearch, k), 0);
+        return candidates.size() > k ? List.copyOf(candidates.subList(0, k)) : candidates;
+    }
+
+    /**
+     * Exact top-k search by scanning the whole matrix. Used as the recall baseline.
+     */
+    public List<Candidate> exactSearch(float[] query, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        PriorityQueue<Candidate> topK = new PriorityQueue<>(k, LEAST_SIMILAR_FIRST);
+        for (int node = 0; node < size; node++) {
+            float similarity = VectorMath.dot(query, matrix, node * dimensions);
+            if (topK.size() < k) {
+                topK.add(new Candidate(node, similarity));
+            } else if (similarity > topK.peek().similarity()) {
+                topK.poll();
+                topK.add(new Candidate(node, similarity));
+            }
+        }
+        List<Candidate> results = new ArrayList<>(topK);
+        results.sort(MOST_SIMILAR_FIRST);
+        return results;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    private int randomLevel() {
+        double uniform = 1.0 - random.nextDouble();
+        return (int) Math.floor(-Math.log(uniform) * levelMultiplier);
+    }
+
+    private int maxNeighbors(int level) {
+        return level == 0 ? 2 * m : m;
+    }
+
+    private float similarity(float[] query, int node) {
+        return VectorMath.dot(query, matrix, node * dimensions);
+    }
+
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        float best = similarity(query, current);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int[] neighbors = links[current][level];
+            int count = linkCounts[current][level];
+            for (int i = 0; i < count; i++) {
+                float candidate = similarity(query, neighbors[i]);
+                if (candidate > best) {
+                    best = candidate;
+                    current = neighbors[i];
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Best-first search on one layer; returns up to ef candidates, most similar first.
+     */
+    private List<Candidate> searchLayer(float[] query, int start, int ef, int level) {
+        BitSet visited = new BitSet(size);
+        PriorityQueue<Candidate> frontier = new PriorityQueue<>(MOST_SIMILAR_FIRST);
+        PriorityQueue<Candidate> results = new PriorityQueue<>(ef + 1, LEAST_SIMILAR_FIRST);
+
+        Candidate first = new Candidate(start, similarity(query, start));
+        visited.set(start);
+        frontier.add(first);
+        results.add(first);
+
+        while (!frontier.isEmpty()) {
+            Candidate closest = frontier.poll();
+            if (results.size() >= ef && closest.similarity() < results.peek().similarity()) {
+                break;
+            }
+
+            int[] neighbors = links[closest.id()][level];
+            int count = linkCounts[closest.id()][level];
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+
+                float neighborSimilarity = similarity(query, neighbor);
+                if (results.size() < ef || neighborSimilarity > results.peek().similarity()) {
+                    Candidate candidate = new Candidate(neighbor, neighborSimilarity);
+                    frontier.add(candidate);
+                    results.add(candidate);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+
+        List<Candidate> ordered = new ArrayList<>(results);
+        ordered.sort(MOST_SIMILAR_FIRST);
+        return ordered;
+    }
+
+    /**
+     * Adds target to node's neighbor list on the given layer; when full, keeps the most similar neighbors.
+     */
+    private void connect(int node, int target, int level) {
+        int[] neighbors = links[node][level];
+        int count = linkCounts[node][level];
+
+        if (count < neighbors.length) {
+            neighbors[count] = target;
+            linkCounts[node][level] = count + 1;
+            return;
+        }
+
+        int nodeOffset = node * dimensions;
+        int weakest = -1;
+        float weakestSimilarity = dotRows(nodeOffset, target * dimensions);
+        for (int i = 0; i < count; i++) {
+            float candidate = dotRows(nodeOffset, neighbors[i] * dimensions);
+            if (candidate < weakestSimilarity) {
+                weakestSimilarity = candidate;
+                weakest = i;
+            }
+        }
+        if (weakest >= 0) {
+            neighbors[weakest] = target;
+        }
+    }
+
+    private float dotRows(int leftOffset, int rightOffset) {
+        float sum = 0f;
+        for (int i = 0; i < dimensions; i++) {
+            sum += matrix[leftOffset + i] * matrix[rightOffset + i];
+        }
+        return sum;
+    }
+
+    /**
+     * A search hit: the vector id and its similarity to the query.
+     */
+    public record Candidate(int id, float similarity) {
+    }
+}
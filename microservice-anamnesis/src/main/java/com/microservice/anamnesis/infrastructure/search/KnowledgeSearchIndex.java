@@ -0,0 +1,200 @@
+package com.microservice.anamnesis.infrastructure.search;
+
+import com.microservice.anamnesis.domain.model.valueobjects.MedicalKnowledge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable inverted index over medical knowledge entries with BM25 scoring.
+ *
+ * Each entry is indexed as a single weighted document where every field contributes
+ * its term frequencies multiplied by the field weight (BM25F-style):
+ * - Topic: 3.0
+ * - Description: 2.0
+ * - Symptoms: 1.5
+ * - Recommendations: 1.0
+ *
+ * The full BM25 contribution of every (term, entry) pair is precomputed at build time,
+ * so a query only sums posting weights for its terms and keeps the best k entries
+ * in a bounded heap. Query cost depends on the postings touched, not on the dataset size.
+ */
+public final class KnowledgeSearchIndex {
+
+    static final float TOPIC_WEIGHT = 3.0f;
+    static final float DESCRIPTION_WEIGHT = 2.0f;
+    static final float SYMPTOM_WEIGHT = 1.5f;
+    static final float RECOMMENDATION_WEIGHT = 1.0f;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Comparator<ScoredEntry> LOWEST_SCORE_FIRST = Comparator
+            .comparingDouble(ScoredEntry::score)
+            .thenComparing(ScoredEntry::docId, Comparator.reverseOrder());
+
+    private final List<MedicalKnowledge> entries;
+    private final Map<String, Postings> postingsByTerm;
+    private final ThreadLocal<float[]> scoreAccumulator;
+
+    private KnowledgeSearchIndex(List<MedicalKnowledge> entries, Map<String, Postings> postingsByTerm) {
+        this.entries = entries;
+        this.postingsByTerm = postingsByTerm;
+        this.scoreAccumulator = ThreadLocal.withInitial(() -> new float[entries.size()]);
+    }
+
+    /**
+     * Builds the index from the given entries. Entries are referenced by position.
+     */
+    public static KnowledgeSearchIndex build(List<MedicalKnowledge> entries) {
+        List<MedicalKnowledge> indexedEntries = List.copyOf(entries);
+        int documentCount = indexedEntries.size();
+
+        List<Map<String, Float>> termFrequencies = new ArrayList<>(documentCount);
+        float[] documentLengths = new float[documentCount];
+        double totalLength = 0;
+
+        for (int doc = 0; doc < documentCount; doc++) {
+            MedicalKnowledge knowledge = indexedEntries.get(doc);
+            Map<String, Float> frequencies = new HashMap<>();
+
+            float length = addField(frequencies, knowledge.topic(), TOPIC_WEIGHT);
+            length += addField(frequencies, knowledge.description(), DESCRIPTION_WEIGHT);
+            for (String symptom : knowledge.symptoms()) {
+                length += addField(frequencies, symptom, SYMPTOM_WEIGHT);
+            }
+            for (String recommendation : knowledge.recommendations()) {
+                length += addField(frequencies, recommendation, RECOMMENDATION_WEIGHT);
+            }
+
+            termFrequencies.add(frequencies);
+            documentLengths[doc] = length;
+            totalLength += length;
+        }
+
+        double averageLength = documentCount > 0 && totalLength > 0 ? totalLength / documentCount : 1.0;
+
+        Map<String, List<Integer>> documentsByTerm = new HashMap<>();
+        for (int doc = 0; doc < documentCount; doc++) {
+            for (String term : termFrequencies.get(doc).keySet()) {
+                documentsByTerm.computeIfAbsent(term, t -> new ArrayList<>()).add(doc);
+            }
+        }
+
+        Map<String, Postings> postingsByTerm = new HashMap<>(documentsByTerm.size() * 2);
+        documentsByTerm.forEach((term, documents) -> {
+            int documentFrequency = documents.size();
+            double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+            int[] docIds = new int[documentFrequency];
+            float[] weights = new float[documentFrequency];
+            for (int i = 0; i < documentFrequency; i++) {
+                int doc = documents.get(i);
+                double tf = termFrequencies.get(doc).get(term);
+                double lengthNorm = K1 * (1 - B + B * documentLengths[doc] / averageLength);
+                docIds[i] = doc;
+                weights[i] = (float) (idf * tf * (K1 + 1) / (tf + lengthNorm));
+            }
+            postingsByTerm.put(term, new Postings(docIds, weights));
+        });
+
+        return new KnowledgeSearchIndex(indexedEntries, Map.copyOf(postingsByTerm));
+    }
+
+    /**
+     * Returns the top entries for the query, highest score first, with relevanceScore set to the BM25 score.
+     */
+    public List<MedicalKnowledge> search(String query, int maxResults) {
+        if (maxResults <= 0 || entries.isEmpty()) {
+            return List.of();
+        }
+
+        List<Postings> matchedPostings = new ArrayList<>();
+        int candidateBound = 0;
+        for (String term : new LinkedHashSet<>(SpanishTokenizer.tokenize(query))) {
+            Postings postings = postingsByTerm.get(term);
+            if (postings != null) {
+                matchedPostings.add(postings);
+                candidateBound += postings.docIds().length;
+            }
+        }
+        if (matchedPostings.isEmpty()) {
+            return List.of();
+        }
+
+        float[] scores = scoreAccumulator.get();
+        int[] touched = new int[Math.min(candidateBound, entries.size())];
+        int touchedCount = 0;
+
+        for (Postings postings : matchedPostings) {
+            int[] docIds = postings.docIds();
+            float[] weights = postings.weights();
+            for (int i = 0; i < docIds.length; i++) {
+                int doc = docIds[i];
+                if (scores[doc] == 0f) {
+                    touched[touchedCount++] = doc;
+                }
+                scores[doc] += weights[i];
+            }
+        }
+
+        PriorityQueue<ScoredEntry> topK = new PriorityQueue<>(maxResults, LOWEST_SCORE_FIRST);
+        for (int i = 0; i < touchedCount; i++) {
+            int doc = touched[i];
+            ScoredEntry candidate = new ScoredEntry(doc, scores[doc]);
+            scores[doc] = 0f;
+
+            if (topK.size() < maxResults) {
+                topK.add(candidate);
+            } else if (LOWEST_SCORE_FIRST.compare(candidate, topK.peek()) > 0) {
+                topK.poll();
+                topK.add(candidate);
+            }
+        }
+
+        ScoredEntry[] ranked = topK.toArray(new ScoredEntry[0]);
+        Arrays.sort(ranked, LOWEST_SCORE_FIRST.reversed());
+
+        List<MedicalKnowledge> results = new ArrayList<>(ranked.length);
+        for (ScoredEntry scored : ranked) {
+            MedicalKnowledge knowledge = entries.get(scored.docId());
+            results.add(new MedicalKnowledge(
+                    knowledge.topic(),
+                    knowledge.description(),
+                    knowledge.symptoms(),
+                    knowledge.recommendations(),
+                    knowledge.redFlags(),
+                    scored.score()
+            ));
+        }
+        return results;
+    }
+
+    public List<MedicalKnowledge> entries() {
+        return entries;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static float addField(Map<String, Float> frequencies, String text, float weight) {
+        List<String> tokens = SpanishTokenizer.tokenize(text);
+        for (String token : tokens) {
+            frequencies.merge(token, weight, Float::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    private record Postings(int[] docIds, float[] weights) {
+    }
+
+    private record ScoredEntry(int docId, double score) {
+    }
+}
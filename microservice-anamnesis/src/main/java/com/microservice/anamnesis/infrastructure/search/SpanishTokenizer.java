@@ -0,0 +1,91 @@
+package com.microservice.anamnesis.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tokenizer for Spanish medical text used by the knowledge base indexes.
+ *
+ * Normalization steps:
+ * - Lowercase and accent folding ("náuseas" -> "nauseas")
+ * - Split on any non letter/digit character
+ * - Drop common Spanish stopwords
+ * - Light stemming: trailing plural "s" and final vowel are removed,
+ *   so "fiebre"/"fiebres" and "dolor"/"dolores" share the same token
+ */
+public final class SpanishTokenizer {
+
+    private static final int MIN_STEM_LENGTH = 4;
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "al", "como", "con", "cuando", "de", "del", "desde", "el", "en", "entre", "era", "es", "esta",
+            "este", "estoy", "fue", "ha", "hace", "hasta", "la", "las", "le", "lo", "los", "me", "mi", "muy",
+            "no", "o", "para", "pero", "por", "que", "se", "si", "sin", "sobre", "son", "su", "sus", "tambien",
+            "tengo", "tiene", "un", "una", "y", "ya"
+    );
+
+    private SpanishTokenizer() {
+    }
+
+    /**
+     * Tokenizes text into normalized, stemmed terms. Duplicates are preserved so callers can count frequencies.
+     *
+     * @param text Raw text (may be null)
+     * @return List of normalized terms
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String folded = foldAccents(text.toLowerCase());
+        StringBuilder current = new StringBuilder();
+
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (!current.isEmpty()) {
+                addToken(tokens, current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            addToken(tokens, current.toString());
+        }
+
+        return tokens;
+    }
+
+    /**
+     * Removes diacritics while keeping the base letter ("ñ" is folded to "n").
+     */
+    public static String foldAccents(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+    }
+
+    private static void addToken(List<String> tokens, String token) {
+        if (STOPWORDS.contains(token)) {
+            return;
+        }
+        tokens.add(stem(token));
+    }
+
+    private static String stem(String token) {
+        String stem = token;
+        if (stem.length() > MIN_STEM_LENGTH && stem.endsWith("s")) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+        if (stem.length() > MIN_STEM_LENGTH && isVowel(stem.charAt(stem.length() - 1))) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+        return stem;
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u';
+    }
+}
@@ -0,0 +1,38 @@
+package com.microservice.anamnesis.infrastructure.search;
+
+/**
+ * Small vector helpers shared by embedding providers and the vector index.
+ */
+public final class VectorMath {
+
+    private VectorMath() {
+    }
+
+    /**
+     * Normalizes the vector in place to unit length. Zero vectors are left untouched.
+     */
+    public static void normalize(float[] vector) {
+        double sumOfSquares = 0;
+        for (float value : vector) {
+            sumOfSquares += value * value;
+        }
+        if (sumOfSquares == 0) {
+            return;
+        }
+        float inverseNorm = (float) (1.0 / Math.sqrt(sumOfSquares));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= inverseNorm;
+        }
+    }
+
+    /**
+     * Dot product between a query vector and the row stored at {@code offset} in a flat matrix.
+     */
+    public static float dot(float[] query, float[] matrix, int offset) {
+        float sum = 0f;
+        for (int i = 0; i < query.length; i++) {
+            sum += query[i] * matrix[offset + i];
+        }
+        return sum;
+    }
+}
@@ -1,8 +1,12 @@
 package com.microservice.anamnesis.interfaces.rest.controllers;
 
 import com.microservice.anamnesis.domain.model.commands.CompleteAnamnesisSessionCommand;
+import com.microservice.anamnesis.domain.model.commands.RequestSessionCompletionCommand;
 import com.microservice.anamnesis.domain.model.queries.GetSessionByIdQuery;
-import com.microservice.anamnesis.domain.model.queries.GetSessionsByUserIdQuery;
+import com.microservice.anamnesis.domain.model.queries.GetSessionListByUserIdQuery;
+import com.microservice.anamnesis.domain.model.queries.GetSessionMessagesQuery;
+import com.microservice.anamnesis.domain.model.queries.GetSessionSummariesByIdsQuery;
+import com.microservice.anamnesis.domain.model.queries.GetSummaryJobByIdQuery;
 import com.microservice.anamnesis.domain.services.AnamnesisCommandService;
 import com.microservice.anamnesis.domain.services.AnamnesisQueryService;
 import com.microservice.anamnesis.infrastructure.security.JwtAuthenticationToken;
@@ -14,12 +18,18 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
+import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * REST Controller for anamnesis session operations.
@@ -71,7 +81,8 @@ public class AnamnesisSessionsController {
     @PreAuthorize("hasRole('PATIENT')")
     @Operation(
             summary = "Add message to session",
-            description = "Adds a patient message to the session and receives an AI response",
+            description = "Adds a patient message to the session and receives an AI response. " +
+                    "Returns only the messages of this turn; use GET /sessions/{sessionId}/messages for the history",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Message added successfully"),
                     @ApiResponse(responseCode = "400", description = "Invalid request"),
@@ -80,7 +91,7 @@ public class AnamnesisSessionsController {
                     @ApiResponse(responseCode = "404", description = "Session not found")
             }
     )
-    public ResponseEntity<AnamnesisSessionDetailResource> addMessage(
+    public CompletableFuture<ResponseEntity<AnamnesisSessionTurnResource>> addMessage(
             @PathVariable Long sessionId,
             @Valid @RequestBody AddMessageResource resource) {
 
@@ -88,14 +99,47 @@ public class AnamnesisSessionsController {
         Long userId = authentication.getUserId();
         var command = AddMessageToSessionCommandFromResourceAssembler.toCommandFromResource(sessionId, userId, resource);
 
-        var session = commandService.handle(command);
+        // The request thread is released while the assistant reply is generated
+        return commandService.handle(command).thenApply(turn -> {
+            if (turn.isEmpty()) {
+                return ResponseEntity.<AnamnesisSessionTurnResource>notFound().build();
+            }
 
-        if (session.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
+            var turnResource = AnamnesisSessionTurnResourceAssembler.toResourceFromValueObject(turn.get());
+            return ResponseEntity.ok(turnResource);
+        });
+    }
 
-        var detailResource = AnamnesisSessionDetailResourceAssembler.toResourceFromEntity(session.get());
-        return ResponseEntity.ok(detailResource);
+    @PostMapping(value = "/sessions/{sessionId}/messages/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('PATIENT')")
+    @Operation(
+            summary = "Add message to session (streaming)",
+            description = "Adds a patient message to the session and streams the AI response as Server-Sent Events. " +
+                    "Emits 'token' events with response fragments, then a 'done' event once the response is stored, " +
+                    "or an 'error' event if generation fails",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Response stream started"),
+                    @ApiResponse(responseCode = "400", description = "Invalid request"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Not authorized to access this session"),
+                    @ApiResponse(responseCode = "404", description = "Session not found")
+            }
+    )
+    public Flux<ServerSentEvent<String>> streamMessage(
+            @PathVariable Long sessionId,
+            @Valid @RequestBody AddMessageResource resource) {
+
+        JwtAuthenticationToken authentication = (JwtAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
+        Long userId = authentication.getUserId();
+        var command = StreamMessageToSessionCommandFromResourceAssembler.toCommandFromResource(sessionId, userId, resource);
+
+        return commandService.handle(command)
+                .map(token -> ServerSentEvent.builder(token).event("token").build())
+                .concatWith(Flux.just(ServerSentEvent.builder("").event("done").build()))
+                .onErrorResume(e -> Flux.just(ServerSentEvent
+                        .builder("Error al generar respuesta del asistente. Por favor, intente nuevamente.")
+                        .event("error")
+                        .build()));
     }
 
     @PostMapping("/sessions/{sessionId}/complete")
@@ -127,28 +171,112 @@ public class AnamnesisSessionsController {
         return ResponseEntity.ok(sessionResource);
     }
 
+    @PostMapping("/sessions/{sessionId}/completion-jobs")
+    @PreAuthorize("hasRole('PATIENT') or hasRole('DOCTOR')")
+    @Operation(
+            summary = "Complete anamnesis session asynchronously",
+            description = "Queues summary generation and returns the job immediately. " +
+                    "Poll GET /summary-jobs/{jobId}; the session becomes COMPLETED when the job SUCCEEDED",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Summary job accepted"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Not authorized to complete this session"),
+                    @ApiResponse(responseCode = "404", description = "Session not found"),
+                    @ApiResponse(responseCode = "503", description = "Summary job queue is full, retry later")
+            }
+    )
+    public ResponseEntity<SummaryJobResource> requestSessionCompletion(
+            @PathVariable Long sessionId) {
+
+        JwtAuthenticationToken authentication = (JwtAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
+        Long userId = authentication.getUserId();
+        var command = new RequestSessionCompletionCommand(sessionId, userId);
+
+        try {
+            var job = commandService.handle(command);
+
+            if (job.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+
+            var jobResource = SummaryJobResourceAssembler.toResourceFromEntity(job.get());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/anamnesis/summary-jobs/" + jobResource.getId()))
+                    .body(jobResource);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @GetMapping("/summary-jobs/{jobId}")
+    @PreAuthorize("hasRole('PATIENT') or hasRole('DOCTOR') or hasRole('ADMIN')")
+    @Operation(
+            summary = "Get summary job status",
+            description = "Retrieves the status of an asynchronous session completion",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Job retrieved successfully"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Not authorized to access this job"),
+                    @ApiResponse(responseCode = "404", description = "Job not found")
+            }
+    )
+    public ResponseEntity<SummaryJobResource> getSummaryJob(
+            @PathVariable Long jobId) {
+
+        JwtAuthenticationToken authentication = (JwtAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
+
+        var job = queryService.handle(new GetSummaryJobByIdQuery(jobId));
+
+        if (job.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Long userId = authentication.getUserId();
+        boolean isPatient = authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_PATIENT"));
+
+        if (isPatient && !job.get().getUserId().equals(userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        var jobResource = SummaryJobResourceAssembler.toResourceFromEntity(job.get());
+        return ResponseEntity.ok(jobResource);
+    }
+
     @GetMapping("/sessions")
-    @PreAuthorize("hasRole('PATIENT')")
+    @PreAuthorize("hasRole('PATIENT') or hasRole('DOCTOR') or hasRole('ADMIN')")
     @Operation(
             summary = "Get user sessions",
-            description = "Retrieves all anamnesis sessions for the authenticated user",
+            description = "Retrieves a page of anamnesis sessions, newest first, without messages or summary. " +
+                    "Patients always get their own sessions; doctors and admins pass userId. " +
+                    "Pass the returned nextCursor as cursor to get the next page",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Sessions retrieved successfully"),
+                    @ApiResponse(responseCode = "400", description = "Invalid pagination parameters or missing userId"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized")
             }
     )
-    public ResponseEntity<List<AnamnesisSessionResource>> getUserSessions() {
+    public ResponseEntity<AnamnesisSessionPageResource> getUserSessions(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") Integer limit) {
 
         JwtAuthenticationToken authentication = (JwtAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
-        Long userId = authentication.getUserId();
-        var query = new GetSessionsByUserIdQuery(userId);
-        var sessions = queryService.handle(query);
+        boolean isPatient = authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_PATIENT"));
+        Long targetUserId = isPatient ? authentication.getUserId() : userId;
 
-        var resources = sessions.stream()
-                .map(AnamnesisSessionResourceAssembler::toResourceFromEntity)
-                .toList();
+        GetSessionListByUserIdQuery query;
+        try {
+            query = new GetSessionListByUserIdQuery(targetUserId, cursor, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
 
-        return ResponseEntity.ok(resources);
+        var sessions = queryService.handle(query);
+
+        var resource = AnamnesisSessionPageResourceAssembler.toResourceFromProjection(sessions, query.limit());
+        return ResponseEntity.ok(resource);
     }
 
     @GetMapping("/sessions/{sessionId}")
@@ -187,6 +315,57 @@ public class AnamnesisSessionsController {
         return ResponseEntity.ok(detailResource);
     }
 
+    @GetMapping("/sessions/{sessionId}/messages")
+    @PreAuthorize("hasRole('PATIENT') or hasRole('DOCTOR') or hasRole('ADMIN')")
+    @Operation(
+            summary = "Get session messages",
+            description = "Retrieves conversation messages in sequence order, one page at a time. " +
+                    "Pass the last received sequence as afterSequence to get the next page",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Messages retrieved successfully"),
+                    @ApiResponse(responseCode = "400", description = "Invalid pagination parameters"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Not authorized to access this session"),
+                    @ApiResponse(responseCode = "404", description = "Session not found")
+            }
+    )
+    public ResponseEntity<List<ConversationMessageResource>> getSessionMessages(
+            @PathVariable Long sessionId,
+            @RequestParam(defaultValue = "0") Integer afterSequence,
+            @RequestParam(defaultValue = "50") Integer limit) {
+
+        JwtAuthenticationToken authentication = (JwtAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
+
+        GetSessionMessagesQuery messagesQuery;
+        try {
+            messagesQuery = new GetSessionMessagesQuery(sessionId, afterSequence, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        var session = queryService.handle(new GetSessionByIdQuery(sessionId));
+
+        if (session.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Long userId = authentication.getUserId();
+        boolean isPatient = authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_PATIENT"));
+
+        if (isPatient && !session.get().getUserId().equals(userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        var messages = queryService.handle(messagesQuery);
+
+        var resources = messages.stream()
+                .map(ConversationMessageResourceAssembler::toResourceFromEntity)
+                .toList();
+
+        return ResponseEntity.ok(resources);
+    }
+
     @GetMapping("/sessions/{sessionId}/summary")
     @PreAuthorize("hasRole('PATIENT') or hasRole('DOCTOR') or hasRole('ADMIN')")
     @Operation(
@@ -226,5 +405,34 @@ public class AnamnesisSessionsController {
         var summaryResource = AnamnesisSummaryResourceAssembler.toResourceFromEntity(session.get());
         return ResponseEntity.ok(summaryResource);
     }
-}
 
+    @PostMapping("/summaries/search")
+    @PreAuthorize("hasRole('DOCTOR') or hasRole('ADMIN')")
+    @Operation(
+            summary = "Get summaries of several sessions",
+            description = "Retrieves the chief complaint and history of present illness of up to 1000 sessions " +
+                    "in one call. Sessions that are not found or not completed are left out",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Summaries retrieved successfully"),
+                    @ApiResponse(responseCode = "400", description = "Missing or too many session IDs"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden - Doctor or Admin role required")
+            }
+    )
+    public ResponseEntity<List<SessionSummaryItemResource>> searchSessionSummaries(
+            @Valid @RequestBody SessionSummarySearchResource resource) {
+
+        GetSessionSummariesByIdsQuery query;
+        try {
+            query = new GetSessionSummariesByIdsQuery(resource.getSessionIds());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        var resources = queryService.handle(query).stream()
+                .map(SessionSummaryItemResourceAssembler::toResourceFromProjection)
+                .toList();
+
+        return ResponseEntity.ok(resources);
+    }
+}
@@ -1,6 +1,5 @@
 package com.microservice.anamnesis.interfaces.rest.resources;
 
-import com.microservice.anamnesis.domain.model.valueobjects.ConversationMessage;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -15,6 +14,6 @@ import java.util.List;
 @AllArgsConstructor
 public class AnamnesisSessionDetailResource {
     private AnamnesisSessionResource session;
-    private List<ConversationMessage> messages;
+    private List<ConversationMessageResource> messages;
 }
 
@@ -0,0 +1,22 @@
+package com.microservice.anamnesis.interfaces.rest.resources;
+
+import com.microservice.anamnesis.domain.model.valueobjects.AnamnesisStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * REST resource representing a session row in list views.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnamnesisSessionListItemResource {
+    private Long id;
+    private AnamnesisStatus status;
+    private String initialReason;
+    private Integer messageCount;
+    private LocalDateTime createdAt;
+}
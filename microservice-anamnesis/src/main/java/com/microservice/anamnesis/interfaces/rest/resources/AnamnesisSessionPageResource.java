@@ -0,0 +1,18 @@
+package com.microservice.anamnesis.interfaces.rest.resources;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * REST resource with a page of sessions and the cursor for the next page (null when there are no more).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnamnesisSessionPageResource {
+    private List<AnamnesisSessionListItemResource> items;
+    private Long nextCursor;
+}
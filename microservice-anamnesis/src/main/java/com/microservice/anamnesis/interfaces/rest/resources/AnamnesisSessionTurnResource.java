@@ -0,0 +1,18 @@
+package com.microservice.anamnesis.interfaces.rest.resources;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * REST resource with a session and the messages added in one turn (patient message and reply).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnamnesisSessionTurnResource {
+    private AnamnesisSessionResource session;
+    private List<ConversationMessageResource> messages;
+}
@@ -0,0 +1,21 @@
+package com.microservice.anamnesis.interfaces.rest.resources;
+
+import com.microservice.anamnesis.domain.model.valueobjects.SenderType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * REST resource representing a single conversation message.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConversationMessageResource {
+    private Integer sequence;
+    private SenderType senderType;
+    private String content;
+    private Instant timestamp;
+}
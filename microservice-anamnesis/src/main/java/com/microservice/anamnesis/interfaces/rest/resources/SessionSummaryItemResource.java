@@ -0,0 +1,17 @@
+package com.microservice.anamnesis.interfaces.rest.resources;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * REST resource representing the summary text of one session in a bulk lookup.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionSummaryItemResource {
+    private Long sessionId;
+    private String chiefComplaint;
+    private String historyOfPresentIllness;
+}
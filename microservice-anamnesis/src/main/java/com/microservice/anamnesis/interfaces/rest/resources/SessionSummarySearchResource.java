@@ -0,0 +1,22 @@
+package com.microservice.anamnesis.interfaces.rest.resources;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * REST resource for looking up the summaries of several sessions.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionSummarySearchResource {
+
+    @NotEmpty(message = "Session IDs are required")
+    @Size(max = 1000, message = "At most 1000 session IDs per request")
+    private List<Long> sessionIds;
+}
@@ -0,0 +1,24 @@
+package com.microservice.anamnesis.interfaces.rest.resources;
+
+import com.microservice.anamnesis.domain.model.valueobjects.SummaryJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * REST resource representing an asynchronous summary generation job.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SummaryJobResource {
+    private Long id;
+    private Long sessionId;
+    private SummaryJobStatus status;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private Instant finishedAt;
+}
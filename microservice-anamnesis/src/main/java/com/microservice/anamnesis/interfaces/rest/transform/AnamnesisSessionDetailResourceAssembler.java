@@ -11,7 +11,9 @@ public class AnamnesisSessionDetailResourceAssembler {
     public static AnamnesisSessionDetailResource toResourceFromEntity(AnamnesisSession session) {
         return new AnamnesisSessionDetailResource(
                 AnamnesisSessionResourceAssembler.toResourceFromEntity(session),
-                session.getMessages()
+                session.getMessages().stream()
+                        .map(ConversationMessageResourceAssembler::toResourceFromEntity)
+                        .toList()
         );
     }
 }
@@ -0,0 +1,34 @@
+package com.microservice.anamnesis.interfaces.rest.transform;
+
+import com.microservice.anamnesis.domain.model.valueobjects.SessionListItem;
+import com.microservice.anamnesis.interfaces.rest.resources.AnamnesisSessionListItemResource;
+import com.microservice.anamnesis.interfaces.rest.resources.AnamnesisSessionPageResource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Assembler to transform session list rows to a paginated REST resource.
+ */
+public class AnamnesisSessionPageResourceAssembler {
+
+    public static AnamnesisSessionPageResource toResourceFromProjection(List<SessionListItem> items, int limit) {
+        var resources = items.stream()
+                .map(AnamnesisSessionPageResourceAssembler::toListItemResource)
+                .toList();
+
+        Long nextCursor = items.size() == limit ? items.get(items.size() - 1).id() : null;
+        return new AnamnesisSessionPageResource(resources, nextCursor);
+    }
+
+    private static AnamnesisSessionListItemResource toListItemResource(SessionListItem item) {
+        return new AnamnesisSessionListItemResource(
+                item.id(),
+                item.status(),
+                item.initialReason(),
+                item.messageCount(),
+                item.createdAt() != null ? LocalDateTime.ofInstant(item.createdAt().toInstant(), ZoneId.systemDefault()) : null
+        );
+    }
+}
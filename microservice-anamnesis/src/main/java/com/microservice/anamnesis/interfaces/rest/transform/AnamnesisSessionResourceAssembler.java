@@ -17,7 +17,7 @@ public class AnamnesisSessionResourceAssembler {
                 session.getUserId(),
                 session.getStatus(),
                 session.getInitialReason(),
-                Integer.valueOf(session.getMessages().size()),
+                Integer.valueOf(session.getMessageCount()),
                 session.getSummary(),
                 session.getCreatedAt() != null ? LocalDateTime.ofInstant(session.getCreatedAt().toInstant(), ZoneId.systemDefault()) : null,
                 session.getUpdatedAt() != null ? LocalDateTime.ofInstant(session.getUpdatedAt().toInstant(), ZoneId.systemDefault()) : null
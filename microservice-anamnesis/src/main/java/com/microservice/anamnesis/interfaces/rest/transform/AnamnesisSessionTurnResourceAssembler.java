@@ -0,0 +1,19 @@
+package com.microservice.anamnesis.interfaces.rest.transform;
+
+import com.microservice.anamnesis.domain.model.valueobjects.SessionTurn;
+import com.microservice.anamnesis.interfaces.rest.resources.AnamnesisSessionTurnResource;
+
+/**
+ * Assembler to transform a conversational turn to REST resource.
+ */
+public class AnamnesisSessionTurnResourceAssembler {
+
+    public static AnamnesisSessionTurnResource toResourceFromValueObject(SessionTurn turn) {
+        return new AnamnesisSessionTurnResource(
+                AnamnesisSessionResourceAssembler.toResourceFromEntity(turn.session()),
+                turn.messages().stream()
+                        .map(ConversationMessageResourceAssembler::toResourceFromEntity)
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.microservice.anamnesis.interfaces.rest.transform;
+
+import com.microservice.anamnesis.domain.model.entities.ConversationMessage;
+import com.microservice.anamnesis.interfaces.rest.resources.ConversationMessageResource;
+
+/**
+ * Assembler to transform ConversationMessage entity to REST resource.
+ */
+public class ConversationMessageResourceAssembler {
+
+    public static ConversationMessageResource toResourceFromEntity(ConversationMessage message) {
+        return new ConversationMessageResource(
+                message.getSequence(),
+                message.getSenderType(),
+                message.getContent(),
+                message.getTimestamp()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.microservice.anamnesis.interfaces.rest.transform;
+
+import com.microservice.anamnesis.domain.model.valueobjects.SessionSummaryItem;
+import com.microservice.anamnesis.interfaces.rest.resources.SessionSummaryItemResource;
+
+/**
+ * Assembler to transform session summary rows to REST resources.
+ */
+public class SessionSummaryItemResourceAssembler {
+
+    public static SessionSummaryItemResource toResourceFromProjection(SessionSummaryItem item) {
+        return new SessionSummaryItemResource(
+                item.sessionId(),
+                item.chiefComplaint(),
+                item.historyOfPresentIllness()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.microservice.anamnesis.interfaces.rest.transform;
+
+import com.microservice.anamnesis.domain.model.commands.StreamMessageToSessionCommand;
+import com.microservice.anamnesis.interfaces.rest.resources.AddMessageResource;
+
+/**
+ * Assembler to transform AddMessageResource to StreamMessageToSessionCommand.
+ */
+public class StreamMessageToSessionCommandFromResourceAssembler {
+
+    public static StreamMessageToSessionCommand toCommandFromResource(Long sessionId, Long userId, AddMessageResource resource) {
+        return new StreamMessageToSessionCommand(
+                sessionId,
+                userId,
+                resource.getContent()
+        );
+    }
+}
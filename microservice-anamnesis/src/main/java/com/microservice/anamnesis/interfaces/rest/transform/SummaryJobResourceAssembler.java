@@ -0,0 +1,24 @@
+package com.microservice.anamnesis.interfaces.rest.transform;
+
+import com.microservice.anamnesis.domain.model.aggregates.SummaryGenerationJob;
+import com.microservice.anamnesis.interfaces.rest.resources.SummaryJobResource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Assembler to transform SummaryGenerationJob entity to REST resource.
+ */
+public class SummaryJobResourceAssembler {
+
+    public static SummaryJobResource toResourceFromEntity(SummaryGenerationJob job) {
+        return new SummaryJobResource(
+                job.getId(),
+                job.getSessionId(),
+                job.getStatus(),
+                job.getErrorMessage(),
+                job.getCreatedAt() != null ? LocalDateTime.ofInstant(job.getCreatedAt().toInstant(), ZoneId.systemDefault()) : null,
+                job.getFinishedAt()
+        );
+    }
+}
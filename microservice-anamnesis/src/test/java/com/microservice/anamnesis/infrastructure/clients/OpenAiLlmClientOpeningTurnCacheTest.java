@@ -0,0 +1,104 @@
+package com.microservice.anamnesis.infrastructure.clients;
+
+import com.microservice.anamnesis.application.clients.KnowledgeBaseClient;
+import com.microservice.anamnesis.application.dto.ConversationWindow;
+import com.microservice.anamnesis.application.dto.ProfileSnapshot;
+import com.microservice.anamnesis.domain.model.aggregates.AnamnesisSession;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Opening turns against a local stub of Gemini's generateContent endpoint, with the response cache on.
+ */
+class OpenAiLlmClientOpeningTurnCacheTest {
+
+    private static final String REPLY = "¿Desde cuándo tiene dolor de cabeza?";
+
+    private final List<String> requestBodies = new CopyOnWriteArrayList<>();
+    private HttpServer stubServer;
+    private OpenAiLlmClient llmClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/v1/models/stub-model:generateContent", exchange -> {
+            requestBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            byte[] response = ("{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + REPLY + "\"}]}}]}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response);
+            }
+        });
+        stubServer.start();
+
+        KnowledgeBaseClient knowledgeBaseClient = mock(KnowledgeBaseClient.class);
+        when(knowledgeBaseClient.isAvailable()).thenReturn(false);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LlmResponseCache responseCache =
+                new LlmResponseCache(true, Set.of("gemini"), 100, Duration.ofMinutes(5), meterRegistry);
+        ConversationContextManager contextManager =
+                new ConversationContextManager(1500, 400, 3, 100, Duration.ofMinutes(5), meterRegistry);
+        llmClient = new OpenAiLlmClient(knowledgeBaseClient, WebClient.builder().build(), responseCache, contextManager);
+        ReflectionTestUtils.setField(llmClient, "provider", "gemini");
+        ReflectionTestUtils.setField(llmClient, "geminiEnabled", true);
+        ReflectionTestUtils.setField(llmClient, "geminiApiKey", "test-key");
+        ReflectionTestUtils.setField(llmClient, "geminiModel", "stub-model");
+        ReflectionTestUtils.setField(llmClient, "geminiBaseUrl",
+                "http://localhost:" + stubServer.getAddress().getPort() + "/v1");
+        ReflectionTestUtils.setField(llmClient, "temperature", 0.7);
+        ReflectionTestUtils.setField(llmClient, "maxTokens", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    void patientsWithTheSameOpenerShareOneProviderCall() throws Exception {
+        String first = openWith(profile(1L, "Rosa", "Quispe", "O+"));
+        String second = openWith(profile(2L, "Juan", "Huamán", "A-"));
+
+        assertEquals(REPLY, first);
+        assertEquals(REPLY, second);
+        assertEquals(1, requestBodies.size());
+        // The cached prompt carries no patient data
+        assertFalse(requestBodies.get(0).contains("Quispe"));
+        assertFalse(requestBodies.get(0).contains("INFORMACIÓN DEL PACIENTE"));
+    }
+
+    private String openWith(ProfileSnapshot profile) throws Exception {
+        var session = new AnamnesisSession(profile.getUserId(), "dolor de cabeza");
+        session.addPatientMessage("Me duele la cabeza desde la mañana");
+        var conversation = new ConversationWindow(null, session.getInitialReason(), session.getMessages());
+        return llmClient.generateResponseAsync(conversation, profile).get(10, TimeUnit.SECONDS);
+    }
+
+    private static ProfileSnapshot profile(Long userId, String firstName, String lastName, String bloodType) {
+        return new ProfileSnapshot(userId, firstName, lastName, LocalDate.of(1985, 3, 14), bloodType,
+                160.0, 60.0, List.of(), List.of(), List.of(), true);
+    }
+}
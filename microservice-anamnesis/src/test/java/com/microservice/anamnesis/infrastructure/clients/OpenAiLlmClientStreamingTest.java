@@ -0,0 +1,111 @@
+package com.microservice.anamnesis.infrastructure.clients;
+
+import com.microservice.anamnesis.application.clients.KnowledgeBaseClient;
+import com.microservice.anamnesis.application.dto.ConversationWindow;
+import com.microservice.anamnesis.domain.model.aggregates.AnamnesisSession;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Streams a reply from a local stub that mimics Gemini's streamGenerateContent SSE endpoint.
+ */
+class OpenAiLlmClientStreamingTest {
+
+    private static final List<String> CHUNKS = List.of("¿Desde ", "cuándo ", "tiene ", "fiebre?");
+    private static final long CHUNK_DELAY_MS = 200;
+
+    private HttpServer stubServer;
+    private OpenAiLlmClient llmClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/v1/models/stub-model:streamGenerateContent", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                for (String chunk : CHUNKS) {
+                    String event = "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + chunk + "\"}]}}]}\n\n";
+                    body.write(event.getBytes(StandardCharsets.UTF_8));
+                    body.flush();
+                    sleep(CHUNK_DELAY_MS);
+                }
+            }
+        });
+        stubServer.start();
+
+        KnowledgeBaseClient knowledgeBaseClient = mock(KnowledgeBaseClient.class);
+        when(knowledgeBaseClient.isAvailable()).thenReturn(false);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LlmResponseCache responseCache = new LlmResponseCache(false, Set.of(), 0, Duration.ZERO, meterRegistry);
+        ConversationContextManager contextManager =
+                new ConversationContextManager(1500, 400, 3, 100, Duration.ofMinutes(5), meterRegistry);
+        llmClient = new OpenAiLlmClient(knowledgeBaseClient, WebClient.builder().build(), responseCache, contextManager);
+        ReflectionTestUtils.setField(llmClient, "provider", "gemini");
+        ReflectionTestUtils.setField(llmClient, "geminiEnabled", true);
+        ReflectionTestUtils.setField(llmClient, "geminiApiKey", "test-key");
+        ReflectionTestUtils.setField(llmClient, "geminiModel", "stub-model");
+        ReflectionTestUtils.setField(llmClient, "geminiBaseUrl",
+                "http://localhost:" + stubServer.getAddress().getPort() + "/v1");
+        ReflectionTestUtils.setField(llmClient, "temperature", 0.7);
+        ReflectionTestUtils.setField(llmClient, "maxTokens", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    void streamResponseRelaysChunksAsTheyArrive() {
+        var session = new AnamnesisSession(1L, "fiebre");
+        session.addPatientMessage("Tengo fiebre desde ayer");
+
+        long start = System.nanoTime();
+        long[] firstTokenAt = new long[1];
+
+        var conversation = new ConversationWindow(null, session.getInitialReason(), session.getMessages());
+        List<String> tokens = llmClient.streamResponse(conversation, null)
+                .doOnNext(token -> {
+                    if (firstTokenAt[0] == 0) {
+                        firstTokenAt[0] = System.nanoTime();
+                    }
+                })
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        long total = System.nanoTime() - start;
+
+        assertEquals(CHUNKS, tokens);
+        assertEquals("¿Desde cuándo tiene fiebre?", String.join("", tokens));
+
+        long timeToFirstToken = firstTokenAt[0] - start;
+        assertTrue(timeToFirstToken < total - Duration.ofMillis(CHUNK_DELAY_MS * 2).toNanos(),
+                "first token should arrive well before the stream completes");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.microservice.anamnesis.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Recall and latency benchmark of the HNSW index against exact (brute-force) search
+ * on synthetic unit vectors. Logs the measurements and fails if recall@10 degrades.
+ */
+class HnswVectorIndexBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(HnswVectorIndexBenchmarkTest.class);
+
+    private static final int VECTORS = 5_000;
+    private static final int DIMENSIONS = 64;
+    private static final int QUERIES = 200;
+    private static final int K = 10;
+    private static final double MIN_RECALL = 0.9;
+
+    @Test
+    void approximateSearchKeepsRecallAgainstExactScan() {
+        Random random = new Random(7);
+        List<float[]> vectors = new ArrayList<>(VECTORS);
+        for (int i = 0; i < VECTORS; i++) {
+            vectors.add(randomUnitVector(random));
+        }
+
+        long buildStart = System.nanoTime();
+        HnswVectorIndex index = HnswVectorIndex.build(vectors, DIMENSIONS, 16, 100, 100);
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        long[] approximateNanos = new long[QUERIES];
+        long[] exactNanos = new long[QUERIES];
+        int hits = 0;
+
+        for (int q = 0; q < QUERIES; q++) {
+            float[] query = randomUnitVector(random);
+
+            long start = System.nanoTime();
+            List<HnswVectorIndex.Candidate> approximate = index.search(query, K);
+            approximateNanos[q] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<HnswVectorIndex.Candidate> exact = index.exactSearch(query, K);
+            exactNanos[q] = System.nanoTime() - start;
+
+            Set<Integer> expected = new HashSet<>();
+            exact.forEach(candidate -> expected.add(candidate.id()));
+            for (HnswVectorIndex.Candidate candidate : approximate) {
+                if (expected.contains(candidate.id())) {
+                    hits++;
+                }
+            }
+        }
+
+        double recall = hits / (double) (QUERIES * K);
+        logger.info("HNSW benchmark: n={} dim={} build={}ms recall@{}={} "
+                        + "hnsw p50={}us p99={}us exact p50={}us p99={}us",
+                VECTORS, DIMENSIONS, buildMillis, K, String.format("%.3f", recall),
+                percentileMicros(approximateNanos, 0.50), percentileMicros(approximateNanos, 0.99),
+                percentileMicros(exactNanos, 0.50), percentileMicros(exactNanos, 0.99));
+
+        assertTrue(recall >= MIN_RECALL, "recall@" + K + " was " + recall);
+    }
+
+    private static float[] randomUnitVector(Random random) {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        VectorMath.normalize(vector);
+        return vector;
+    }
+
+    private static long percentileMicros(long[] nanos, double percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int position = (int) Math.min(sorted.length - 1, Math.round(percentile * (sorted.length - 1)));
+        return sorted[position] / 1_000;
+    }
+}
@@ -5,10 +5,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableRabbit
 @EnableJpaAuditing
 @EnableDiscoveryClient
+@EnableScheduling
 @SpringBootApplication
 public class MicroserviceCasedeskApplication {
 
@@ -23,6 +23,8 @@ public class TriageResultCreatedEvent {
     @JsonProperty("priority")
     private Object priorityRaw;
 
+    private Double acuityScore;
+
     private List<String> riskFactors;
     private List<String> redFlags;
     private String recommendations;
@@ -4,14 +4,17 @@ import com.microservice.casedesk.application.events.CaseEventPublisher;
 import com.microservice.casedesk.domain.model.aggregates.Case;
 import com.microservice.casedesk.domain.model.commands.AddCaseNoteCommand;
 import com.microservice.casedesk.domain.model.commands.AssignCaseCommand;
+import com.microservice.casedesk.domain.model.commands.ClaimNextCaseCommand;
 import com.microservice.casedesk.domain.model.commands.CreateCaseCommand;
 import com.microservice.casedesk.domain.model.commands.UpdateCaseStatusCommand;
+import com.microservice.casedesk.domain.model.entities.CaseTimelineEntry;
 import com.microservice.casedesk.domain.model.events.CaseAssignedEvent;
 import com.microservice.casedesk.domain.model.events.CaseStatusChangedEvent;
 import com.microservice.casedesk.domain.model.valueobjects.CaseStatus;
 import com.microservice.casedesk.domain.model.valueobjects.TriageLevel;
 import com.microservice.casedesk.domain.services.CaseCommandService;
 import com.microservice.casedesk.infrastructure.persistence.jpa.repositories.CaseRepository;
+import com.microservice.casedesk.infrastructure.persistence.jpa.repositories.CaseTimelineRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +31,7 @@ public class CaseCommandServiceImpl implements CaseCommandService {
     private static final Logger logger = LoggerFactory.getLogger(CaseCommandServiceImpl.class);
 
     private final CaseRepository caseRepository;
+    private final CaseTimelineRepository caseTimelineRepository;
     private final CaseEventPublisher caseEventPublisher;
 
     @Override
@@ -51,7 +55,8 @@ public class CaseCommandServiceImpl implements CaseCommandService {
                     triageLevel,
                     null, // chiefComplaint (puedes agregarlo si lo tienes)
                     null, // mainRedFlags (puedes agregarlo si lo tienes)
-                    command.getRecommendations()
+                    command.getRecommendations(),
+                    null  // acuityScore (solo llega con el evento de triage)
             );
 
             Case savedCase = caseRepository.save(newCase);
@@ -74,7 +79,10 @@ public class CaseCommandServiceImpl implements CaseCommandService {
                 .orElseThrow(() -> new IllegalArgumentException("Case not found with id: " + command.caseId()));
 
         caseEntity.assignToDoctor(command.doctorId());
-        Case savedCase = caseRepository.save(caseEntity);
+        // Flushed so a concurrent change fails here with a version conflict, before anything is published
+        Case savedCase = caseRepository.saveAndFlush(caseEntity);
+        caseTimelineRepository.save(CaseTimelineEntry.assignment(
+                savedCase.getId(), command.performedByUserId(), command.doctorId()));
 
         CaseAssignedEvent event = CaseAssignedEvent.create(
                 savedCase.getId(),
@@ -87,6 +95,37 @@ public class CaseCommandServiceImpl implements CaseCommandService {
         return savedCase;
     }
 
+    /**
+     * Assigns the next OPEN case in worklist order (most severe, highest acuity score, oldest) to
+     * the doctor. The case is picked with a single SKIP LOCKED read, so doctors claiming at the
+     * same time get distinct cases without blocking each other; the row stays locked until the
+     * assignment commits. The assignment is flushed before the event is published, like
+     * {@link #handle(AssignCaseCommand)}.
+     */
+    @Override
+    @Transactional
+    public Optional<Case> handle(ClaimNextCaseCommand command) {
+        return caseRepository.lockNextOpenCaseId().map(caseId -> {
+            Case caseEntity = caseRepository.findById(caseId)
+                    .orElseThrow(() -> new IllegalStateException("Locked case not found: " + caseId));
+
+            caseEntity.assignToDoctor(command.doctorId());
+            Case savedCase = caseRepository.saveAndFlush(caseEntity);
+            caseTimelineRepository.save(CaseTimelineEntry.assignment(
+                    savedCase.getId(), command.doctorId(), command.doctorId()));
+
+            caseEventPublisher.publish(CaseAssignedEvent.create(
+                    savedCase.getId(),
+                    savedCase.getPatientId(),
+                    command.doctorId(),
+                    command.doctorId()
+            ));
+            logger.info("Case {} ({}) claimed by doctor {}", savedCase.getId(), savedCase.getTriageLevel(),
+                    command.doctorId());
+            return savedCase;
+        });
+    }
+
     @Override
     @Transactional
     public Case handle(UpdateCaseStatusCommand command) {
@@ -95,7 +134,10 @@ public class CaseCommandServiceImpl implements CaseCommandService {
 
         CaseStatus previousStatus = caseEntity.getStatus();
         caseEntity.updateStatus(command.newStatus());
-        Case savedCase = caseRepository.save(caseEntity);
+        // Flushed so a concurrent change fails here with a version conflict, before anything is published
+        Case savedCase = caseRepository.saveAndFlush(caseEntity);
+        caseTimelineRepository.save(CaseTimelineEntry.statusChange(
+                savedCase.getId(), command.performedByUserId(), previousStatus, command.newStatus()));
 
         CaseStatusChangedEvent event = CaseStatusChangedEvent.create(
                 savedCase.getId(),
@@ -109,13 +151,18 @@ public class CaseCommandServiceImpl implements CaseCommandService {
         return savedCase;
     }
 
+    /**
+     * Appends the note to the case timeline with a single insert; the case itself is neither
+     * loaded nor updated, so notes never conflict with concurrent assignments or status changes.
+     */
     @Override
     @Transactional
-    public Case handle(AddCaseNoteCommand command) {
-        Case caseEntity = caseRepository.findById(command.caseId())
-                .orElseThrow(() -> new IllegalArgumentException("Case not found with id: " + command.caseId()));
+    public CaseTimelineEntry handle(AddCaseNoteCommand command) {
+        if (!caseRepository.existsById(command.caseId())) {
+            throw new IllegalArgumentException("Case not found with id: " + command.caseId());
+        }
 
-        caseEntity.addNote(command.note());
-        return caseRepository.save(caseEntity);
+        return caseTimelineRepository.save(
+                CaseTimelineEntry.note(command.caseId(), command.performedByUserId(), command.note()));
     }
 }
@@ -1,16 +1,28 @@
 package com.microservice.casedesk.application.internal.queryservices;
 
 import com.microservice.casedesk.domain.model.aggregates.Case;
+import com.microservice.casedesk.domain.model.entities.CaseTimelineEntry;
 import com.microservice.casedesk.domain.model.queries.GetAllOpenCasesQuery;
 import com.microservice.casedesk.domain.model.queries.GetCaseByIdQuery;
+import com.microservice.casedesk.domain.model.queries.GetCaseTimelineQuery;
+import com.microservice.casedesk.domain.model.queries.GetCaseWorklistQuery;
 import com.microservice.casedesk.domain.model.queries.GetCasesByDoctorAndStatusQuery;
 import com.microservice.casedesk.domain.model.queries.GetCasesByPatientQuery;
+import com.microservice.casedesk.domain.model.valueobjects.CaseCursor;
 import com.microservice.casedesk.domain.model.valueobjects.CaseStatus;
+import com.microservice.casedesk.domain.model.valueobjects.CaseSummary;
+import com.microservice.casedesk.domain.model.valueobjects.CaseTimelinePage;
+import com.microservice.casedesk.domain.model.valueobjects.CaseWorklistPage;
+import com.microservice.casedesk.domain.model.valueobjects.TriageLevel;
 import com.microservice.casedesk.domain.services.CaseQueryService;
 import com.microservice.casedesk.infrastructure.persistence.jpa.repositories.CaseRepository;
+import com.microservice.casedesk.infrastructure.persistence.jpa.repositories.CaseTimelineRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +30,13 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CaseQueryServiceImpl implements CaseQueryService {
 
+    private static final Comparator<Case> WORKLIST_ORDER = Comparator
+            .comparing((Case c) -> c.getTriageLevel().ordinal())
+            .thenComparing(Case::getAcuityScore, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Case::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+
     private final CaseRepository caseRepository;
+    private final CaseTimelineRepository caseTimelineRepository;
 
     @Override
     public Optional<Case> handle(GetCaseByIdQuery query) {
@@ -38,8 +56,66 @@ public class CaseQueryServiceImpl implements CaseQueryService {
         return caseRepository.findByAssignedDoctorId(query.doctorId());
     }
 
+    /**
+     * Open cases, most severe triage level first; within a level by acuity score (highest first,
+     * unscored last), then oldest first.
+     */
     @Override
     public List<Case> handle(GetAllOpenCasesQuery query) {
-        return caseRepository.findByStatus(CaseStatus.OPEN);
+        return caseRepository.findByStatus(CaseStatus.OPEN).stream()
+                .sorted(WORKLIST_ORDER)
+                .toList();
+    }
+
+    /**
+     * Same order as {@link #handle(GetAllOpenCasesQuery)}, read from the index instead of sorted in
+     * memory. Triage levels are stored as strings, so severity order is not index order: each level
+     * is read as its own keyset range (status, triage_level, acuity_score DESC, created_at, id),
+     * most severe first, until the page is full; one extra row tells whether there is a next page.
+     */
+    @Override
+    public CaseWorklistPage handle(GetCaseWorklistQuery query) {
+        CaseCursor cursor = query.cursor();
+        List<CaseSummary> items = new ArrayList<>(query.size() + 1);
+        TriageLevel[] levels = TriageLevel.values();
+
+        for (int i = cursor != null ? cursor.triageLevel().ordinal() : 0;
+             i < levels.length && items.size() <= query.size(); i++) {
+            TriageLevel level = levels[i];
+            if (query.triageLevel() != null && query.triageLevel() != level) {
+                continue;
+            }
+            boolean resume = cursor != null && cursor.triageLevel() == level;
+            items.addAll(caseRepository.findWorklistPage(query.status(), level, query.assignedDoctorId(),
+                    resume ? cursor.acuityScore() : null, resume ? cursor.createdAt() : null,
+                    resume ? cursor.id() : null,
+                    Limit.of(query.size() + 1 - items.size())));
+        }
+
+        if (items.size() <= query.size()) {
+            return new CaseWorklistPage(items, null);
+        }
+        List<CaseSummary> page = items.subList(0, query.size());
+        CaseSummary last = page.get(page.size() - 1);
+        return new CaseWorklistPage(List.copyOf(page),
+                new CaseCursor(last.triageLevel(), last.acuityScore(), last.createdAt(), last.id()).encode());
+    }
+
+    /**
+     * Entries newest first, continued from the last id seen (keyset on the (case_id, id) index);
+     * one extra row tells whether there is an older page.
+     */
+    @Override
+    public CaseTimelinePage handle(GetCaseTimelineQuery query) {
+        Limit limit = Limit.of(query.size() + 1);
+        List<CaseTimelineEntry> entries = query.beforeId() == null
+                ? caseTimelineRepository.findByCaseIdOrderByIdDesc(query.caseId(), limit)
+                : caseTimelineRepository.findByCaseIdAndIdLessThanOrderByIdDesc(query.caseId(), query.beforeId(), limit);
+
+        if (entries.size() <= query.size()) {
+            return new CaseTimelinePage(entries, null);
+        }
+        List<CaseTimelineEntry> page = List.copyOf(entries.subList(0, query.size()));
+        return new CaseTimelinePage(page, page.get(page.size() - 1).getId());
     }
 }
@@ -11,8 +11,15 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+@Getter
 @Entity
-@Table(name = "cases")
+@Table(name = "cases", indexes = {
+        @Index(name = "idx_cases_status_triage_level_acuity_score_created_at",
+                columnList = "status, triage_level, acuity_score DESC, created_at, id"),
+        @Index(name = "idx_cases_status_severity_rank_acuity_score_created_at",
+                columnList = "status, severity_rank, acuity_score DESC, created_at, id"),
+        @Index(name = "idx_cases_assigned_doctor_id_status", columnList = "assigned_doctor_id, status")
+})
 @NoArgsConstructor
 public class Case extends AuditableAbstractAggregateRoot<Case> {
 
@@ -28,6 +35,15 @@ public class Case extends AuditableAbstractAggregateRoot<Case> {
     @Column(nullable = false)
     private TriageLevel triageLevel;
 
+    // Severity order of the triage level (EMERGENCY = 1), computed by MySQL so the claim query
+    // can walk an index in severity order; the level itself is stored as a string
+    @Column(insertable = false, updatable = false, columnDefinition =
+            "TINYINT GENERATED ALWAYS AS (FIELD(triage_level, 'EMERGENCY', 'HIGH', 'MODERATE', 'LOW')) STORED")
+    private Integer severityRank;
+
+    // Acuity score from triage: ranks cases within a triage level, higher first
+    private Double acuityScore;
+
     @Column(columnDefinition = "TEXT")
     private String chiefComplaint;
 
@@ -42,18 +58,20 @@ public class Case extends AuditableAbstractAggregateRoot<Case> {
 
     private Long assignedDoctorId;
 
-    @ElementCollection
-    @CollectionTable(name = "case_notes", joinColumns = @JoinColumn(name = "case_id"))
-    @Column(name = "note", columnDefinition = "TEXT")
-    private List<String> notes = new ArrayList<>();
-
     @Column(columnDefinition = "TEXT")
     private String triageRecommendedAction;
 
     private LocalDateTime closedAt;
 
+    // Optimistic lock: concurrent assignments or status changes of the same case fail instead of
+    // silently overwriting each other
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     public Case(Long patientId, Long triageId, Long anamnesisSessionId, TriageLevel triageLevel,
-                String chiefComplaint, List<String> mainRedFlags, String triageRecommendedAction) {
+                String chiefComplaint, List<String> mainRedFlags, String triageRecommendedAction,
+                Double acuityScore) {
         this.patientId = patientId;
         this.triageId = triageId;
         this.anamnesisSessionId = anamnesisSessionId;
@@ -61,6 +79,7 @@ public class Case extends AuditableAbstractAggregateRoot<Case> {
         this.chiefComplaint = chiefComplaint;
         this.mainRedFlags = mainRedFlags != null ? new ArrayList<>(mainRedFlags) : new ArrayList<>();
         this.triageRecommendedAction = triageRecommendedAction;
+        this.acuityScore = acuityScore;
         this.status = CaseStatus.OPEN;
     }
 
@@ -112,12 +131,6 @@ public class Case extends AuditableAbstractAggregateRoot<Case> {
         this.status = newStatus;
     }
 
-    public void addNote(String note) {
-        if (note != null && !note.isBlank()) {
-            this.notes.add(note);
-        }
-    }
-
     // Setters para CreateCaseCommand
     public void setPatientId(Long patientId) {
         this.patientId = patientId;
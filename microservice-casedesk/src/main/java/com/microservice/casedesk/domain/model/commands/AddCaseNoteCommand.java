@@ -1,4 +1,19 @@
 package com.microservice.casedesk.domain.model.commands;
 
+/**
+ * Command to append a note to a case timeline.
+ *
+ * @param caseId The case
+ * @param note The note text; must not be blank
+ * @param performedByUserId The author of the note
+ */
 public record AddCaseNoteCommand(Long caseId, String note, Long performedByUserId) {
+    public AddCaseNoteCommand {
+        if (caseId == null) {
+            throw new IllegalArgumentException("Case ID cannot be null");
+        }
+        if (note == null || note.isBlank()) {
+            throw new IllegalArgumentException("Note cannot be empty");
+        }
+    }
 }
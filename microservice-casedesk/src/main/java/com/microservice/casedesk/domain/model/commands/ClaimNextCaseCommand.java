@@ -0,0 +1,4 @@
+package com.microservice.casedesk.domain.model.commands;
+
+public record ClaimNextCaseCommand(Long doctorId) {
+}
@@ -0,0 +1,73 @@
+package com.microservice.casedesk.domain.model.entities;
+
+import com.microservice.casedesk.domain.model.valueobjects.CaseStatus;
+import com.microservice.casedesk.domain.model.valueobjects.CaseTimelineEntryType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.util.Date;
+
+/**
+ * An entry of a case's clinical timeline: a note, an assignment or a status change.
+ * <p>
+ * Entries are append-only and stored apart from the case, so adding one is a single insert that
+ * neither loads the case nor bumps its version. They are read newest first, by id, from the
+ * (case_id, id) index.
+ * </p>
+ */
+@Getter
+@Entity
+@Immutable
+@Table(name = "case_timeline_entries", indexes = {
+        @Index(name = "idx_case_timeline_entries_case_id_id", columnList = "case_id, id")
+})
+@NoArgsConstructor
+public class CaseTimelineEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long caseId;
+
+    // Null for notes migrated from the former case_notes table, which had no author
+    private Long authorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CaseTimelineEntryType type;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Column(nullable = false)
+    private Date createdAt;
+
+    private CaseTimelineEntry(Long caseId, Long authorId, CaseTimelineEntryType type, String body) {
+        this.caseId = caseId;
+        this.authorId = authorId;
+        this.type = type;
+        this.body = body;
+        this.createdAt = new Date();
+    }
+
+    public static CaseTimelineEntry note(Long caseId, Long authorId, String note) {
+        if (note == null || note.isBlank()) {
+            throw new IllegalArgumentException("Note cannot be empty");
+        }
+        return new CaseTimelineEntry(caseId, authorId, CaseTimelineEntryType.NOTE, note);
+    }
+
+    public static CaseTimelineEntry assignment(Long caseId, Long authorId, Long doctorId) {
+        return new CaseTimelineEntry(caseId, authorId, CaseTimelineEntryType.ASSIGNMENT,
+                "Assigned to doctor " + doctorId);
+    }
+
+    public static CaseTimelineEntry statusChange(Long caseId, Long authorId, CaseStatus from, CaseStatus to) {
+        return new CaseTimelineEntry(caseId, authorId, CaseTimelineEntryType.STATUS_CHANGE,
+                "Status changed from " + from + " to " + to);
+    }
+}
@@ -0,0 +1,22 @@
+package com.microservice.casedesk.domain.model.queries;
+
+/**
+ * Query to get a page of a case's timeline, newest entry first.
+ *
+ * @param caseId The case
+ * @param beforeId Only entries older than this entry id (the nextCursor of the previous page), or null for the first page
+ * @param size Page size
+ */
+public record GetCaseTimelineQuery(Long caseId, Long beforeId, int size) {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    public GetCaseTimelineQuery {
+        if (caseId == null) {
+            throw new IllegalArgumentException("Case ID cannot be null");
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SIZE);
+        }
+    }
+}
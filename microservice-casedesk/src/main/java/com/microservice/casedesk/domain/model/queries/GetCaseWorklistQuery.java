@@ -0,0 +1,33 @@
+package com.microservice.casedesk.domain.model.queries;
+
+import com.microservice.casedesk.domain.model.valueobjects.CaseCursor;
+import com.microservice.casedesk.domain.model.valueobjects.CaseStatus;
+import com.microservice.casedesk.domain.model.valueobjects.TriageLevel;
+
+/**
+ * Query to get a page of cases, most severe triage level first, then oldest first.
+ *
+ * @param status Only cases with this status
+ * @param triageLevel Only cases with this triage level, or all if null
+ * @param assignedDoctorId Only cases assigned to this doctor, or all if null
+ * @param cursor Cursor returned with the previous page, or null for the first page
+ * @param size Page size
+ */
+public record GetCaseWorklistQuery(
+        CaseStatus status,
+        TriageLevel triageLevel,
+        Long assignedDoctorId,
+        CaseCursor cursor,
+        int size
+) {
+    public static final int MAX_SIZE = 100;
+
+    public GetCaseWorklistQuery {
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SIZE);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.microservice.casedesk.domain.model.valueobjects;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Keyset pagination cursor over the case worklist, ordered by triage level severity, then acuity
+ * score (highest first, unscored last), creation time and ID. Encoded as an opaque URL-safe string
+ * for clients.
+ *
+ * @param triageLevel Triage level of the last case of the previous page
+ * @param acuityScore Acuity score of the last case of the previous page, or null if unscored
+ * @param createdAt Creation time of the last case of the previous page
+ * @param id ID of the last case of the previous page
+ */
+public record CaseCursor(TriageLevel triageLevel, Double acuityScore, Date createdAt, Long id) {
+
+    public CaseCursor {
+        if (triageLevel == null || createdAt == null || id == null) {
+            throw new IllegalArgumentException("Cursor requires triage level, creation time and ID");
+        }
+    }
+
+    public String encode() {
+        String raw = triageLevel.name() + "|" + (acuityScore != null ? acuityScore : "") + "|"
+                + createdAt.getTime() + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static CaseCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new CaseCursor(TriageLevel.valueOf(parts[0]),
+                    parts[1].isEmpty() ? null : Double.valueOf(parts[1]),
+                    new Date(Long.parseLong(parts[2])), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.microservice.casedesk.domain.model.valueobjects;
+
+import java.util.Date;
+
+/**
+ * Read-only projection of a case for worklists: the case columns without its red flags.
+ */
+public record CaseSummary(
+        Long id,
+        Long patientId,
+        Long anamnesisSessionId,
+        TriageLevel triageLevel,
+        Double acuityScore,
+        String chiefComplaint,
+        CaseStatus status,
+        Long assignedDoctorId,
+        Date createdAt,
+        Date updatedAt
+) {
+}
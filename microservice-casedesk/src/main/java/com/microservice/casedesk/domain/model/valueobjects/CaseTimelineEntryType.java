@@ -0,0 +1,7 @@
+package com.microservice.casedesk.domain.model.valueobjects;
+
+public enum CaseTimelineEntryType {
+    NOTE,
+    ASSIGNMENT,
+    STATUS_CHANGE
+}
@@ -0,0 +1,14 @@
+package com.microservice.casedesk.domain.model.valueobjects;
+
+import com.microservice.casedesk.domain.model.entities.CaseTimelineEntry;
+
+import java.util.List;
+
+/**
+ * A page of a case's timeline.
+ *
+ * @param entries Entries of the page, newest first
+ * @param nextCursor Id to pass as beforeId for the next (older) page, or null on the last page
+ */
+public record CaseTimelinePage(List<CaseTimelineEntry> entries, Long nextCursor) {
+}
@@ -0,0 +1,12 @@
+package com.microservice.casedesk.domain.model.valueobjects;
+
+import java.util.List;
+
+/**
+ * A page of the case worklist.
+ *
+ * @param items Cases of the page, in worklist order
+ * @param nextCursor Cursor of the next page, or null on the last page
+ */
+public record CaseWorklistPage(List<CaseSummary> items, String nextCursor) {
+}
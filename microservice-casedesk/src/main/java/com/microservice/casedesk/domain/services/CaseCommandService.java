@@ -3,14 +3,17 @@ package com.microservice.casedesk.domain.services;
 import com.microservice.casedesk.domain.model.aggregates.Case;
 import com.microservice.casedesk.domain.model.commands.AddCaseNoteCommand;
 import com.microservice.casedesk.domain.model.commands.AssignCaseCommand;
+import com.microservice.casedesk.domain.model.commands.ClaimNextCaseCommand;
 import com.microservice.casedesk.domain.model.commands.CreateCaseCommand;
 import com.microservice.casedesk.domain.model.commands.UpdateCaseStatusCommand;
+import com.microservice.casedesk.domain.model.entities.CaseTimelineEntry;
 
 import java.util.Optional;
 
 public interface CaseCommandService {
     Case handle(AssignCaseCommand command);
+    Optional<Case> handle(ClaimNextCaseCommand command);
     Case handle(UpdateCaseStatusCommand command);
-    Case handle(AddCaseNoteCommand command);
+    CaseTimelineEntry handle(AddCaseNoteCommand command);
     Optional<Case> handle(CreateCaseCommand command);
 }
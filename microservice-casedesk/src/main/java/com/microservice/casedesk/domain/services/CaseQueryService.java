@@ -2,9 +2,13 @@ package com.microservice.casedesk.domain.services;
 
 import com.microservice.casedesk.domain.model.aggregates.Case;
 import com.microservice.casedesk.domain.model.queries.GetAllOpenCasesQuery;
+import com.microservice.casedesk.domain.model.queries.GetCaseWorklistQuery;
 import com.microservice.casedesk.domain.model.queries.GetCaseByIdQuery;
+import com.microservice.casedesk.domain.model.queries.GetCaseTimelineQuery;
 import com.microservice.casedesk.domain.model.queries.GetCasesByDoctorAndStatusQuery;
 import com.microservice.casedesk.domain.model.queries.GetCasesByPatientQuery;
+import com.microservice.casedesk.domain.model.valueobjects.CaseTimelinePage;
+import com.microservice.casedesk.domain.model.valueobjects.CaseWorklistPage;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +18,6 @@ public interface CaseQueryService {
     List<Case> handle(GetCasesByPatientQuery query);
     List<Case> handle(GetCasesByDoctorAndStatusQuery query);
     List<Case> handle(GetAllOpenCasesQuery query);
+    CaseWorklistPage handle(GetCaseWorklistQuery query);
+    CaseTimelinePage handle(GetCaseTimelineQuery query);
 }
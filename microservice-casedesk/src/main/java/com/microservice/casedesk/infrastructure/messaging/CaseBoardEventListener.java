@@ -0,0 +1,42 @@
+package com.microservice.casedesk.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.casedesk.interfaces.rest.sse.CaseBoardStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds the case board of this instance from the case events of every instance.
+ * <p>
+ * Each instance consumes casedesk.events through its own anonymous queue (see
+ * RabbitMQExplicitConfig#caseBoardQueue), so a change made through any instance reaches the
+ * dashboards connected to all of them. Only the case id is read: the board loads the current state
+ * itself.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CaseBoardEventListener {
+
+    private final CaseBoardStream caseBoardStream;
+    private final ObjectMapper objectMapper;
+
+    @RabbitListener(queues = "#{caseBoardQueue.name}")
+    public void onCaseEvent(Message message) {
+        try {
+            JsonNode event = objectMapper.readTree(message.getBody());
+            JsonNode caseId = event.get("caseId");
+            if (caseId != null && caseId.canConvertToLong()) {
+                caseBoardStream.markChanged(caseId.asLong());
+            }
+        } catch (Exception e) {
+            // Dropped rather than requeued: the board only misses one refresh of the case
+            log.warn("⚠️ Ignoring unreadable case event for the board: {}", e.getMessage());
+        }
+    }
+}
@@ -9,7 +9,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * Publishes case events to the casedesk.events exchange.
+ * <p>
+ * Inside a transaction the event is sent once it commits, so no consumer (the case board of every
+ * casedesk instance included, see {@link CaseBoardEventListener}) hears of a change it cannot read
+ * yet or that was rolled back.
+ * </p>
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -20,34 +30,39 @@ public class RabbitMQCaseEventPublisher implements CaseEventPublisher {
 
     @Override
     public void publish(CaseCreatedEvent event) {
-        try {
-            String message = objectMapper.writeValueAsString(event);
-            streamBridge.send("caseEvents-out-0", message);
-            log.info("Published CaseCreatedEvent: {}", event.getEventId());
-        } catch (Exception e) {
-            log.error("Error publishing CaseCreatedEvent", e);
-        }
+        sendAfterCommit("CaseCreatedEvent", event.getEventId(), event);
     }
 
     @Override
     public void publish(CaseAssignedEvent event) {
-        try {
-            String message = objectMapper.writeValueAsString(event);
-            streamBridge.send("caseEvents-out-0", message);
-            log.info("Published CaseAssignedEvent: {}", event.getEventId());
-        } catch (Exception e) {
-            log.error("Error publishing CaseAssignedEvent", e);
-        }
+        sendAfterCommit("CaseAssignedEvent", event.getEventId(), event);
     }
 
     @Override
     public void publish(CaseStatusChangedEvent event) {
+        sendAfterCommit("CaseStatusChangedEvent", event.getEventId(), event);
+    }
+
+    private void sendAfterCommit(String eventName, String eventId, Object event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(eventName, eventId, event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(eventName, eventId, event);
+            }
+        });
+    }
+
+    private void send(String eventName, String eventId, Object event) {
         try {
             String message = objectMapper.writeValueAsString(event);
             streamBridge.send("caseEvents-out-0", message);
-            log.info("Published CaseStatusChangedEvent: {}", event.getEventId());
+            log.info("Published {}: {}", eventName, eventId);
         } catch (Exception e) {
-            log.error("Error publishing CaseStatusChangedEvent", e);
+            log.error("Error publishing {}", eventName, e);
         }
     }
 }
@@ -1,7 +1,35 @@
 package com.microservice.casedesk.infrastructure.messaging;
 
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class RabbitMQConfig {
+
+    /**
+     * Container factory for the triage event listener: messages are delivered to the listener in
+     * batches of up to {@code casedesk.ingestion.batch-size}, or whatever arrived within
+     * {@code casedesk.ingestion.receive-timeout-ms}, and acknowledged together once the listener
+     * returns. If it throws, the batch is requeued.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory triageEventBatchContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${casedesk.ingestion.batch-size:50}") int batchSize,
+            @Value("${casedesk.ingestion.prefetch:250}") int prefetch,
+            @Value("${casedesk.ingestion.receive-timeout-ms:200}") long receiveTimeout) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        factory.setReceiveTimeout(receiveTimeout);
+        return factory;
+    }
 }
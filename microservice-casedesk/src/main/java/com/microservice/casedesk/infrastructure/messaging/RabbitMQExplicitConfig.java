@@ -24,7 +24,7 @@ public class RabbitMQExplicitConfig {
      */
     @Bean
     public Queue triageResultQueue() {
-        String queueName = "triage.events.casedesk-service";
+        String queueName = TriageEventListener.QUEUE;
         log.info("🔧 Creating queue explicitly: {}", queueName);
         return QueueBuilder.durable(queueName).build();
     }
@@ -43,6 +43,27 @@ public class RabbitMQExplicitConfig {
                 .with(routingKey);
     }
 
+    /**
+     * Exchange y cola de dead-letter para eventos de triage que no se pudieron procesar
+     */
+    @Bean
+    public DirectExchange triageDeadLetterExchange() {
+        return new DirectExchange(TriageEventDeadLetterPublisher.EXCHANGE, true, false);
+    }
+
+    @Bean
+    public Queue triageDeadLetterQueue() {
+        return QueueBuilder.durable(TriageEventDeadLetterPublisher.QUEUE).build();
+    }
+
+    @Bean
+    public Binding triageDeadLetterBinding(Queue triageDeadLetterQueue, DirectExchange triageDeadLetterExchange) {
+        return BindingBuilder
+                .bind(triageDeadLetterQueue)
+                .to(triageDeadLetterExchange)
+                .with(TriageEventDeadLetterPublisher.ROUTING_KEY);
+    }
+
     /**
      * Declarar explícitamente el exchange de salida de CaseDesk
      */
@@ -51,5 +72,22 @@ public class RabbitMQExplicitConfig {
         log.info("🔧 Creating casedeskEventsExchange explicitly");
         return new TopicExchange("casedesk.events", true, false);
     }
+
+    /**
+     * Cola anónima de esta instancia para el tablero de casos: recibe todos los eventos de
+     * casedesk.events y se borra al cerrar la conexión
+     */
+    @Bean
+    public Queue caseBoardQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("casedesk.board."));
+    }
+
+    @Bean
+    public Binding caseBoardBinding(Queue caseBoardQueue, TopicExchange casedeskEventsExchange) {
+        return BindingBuilder
+                .bind(caseBoardQueue)
+                .to(casedeskEventsExchange)
+                .with("#");
+    }
 }
 
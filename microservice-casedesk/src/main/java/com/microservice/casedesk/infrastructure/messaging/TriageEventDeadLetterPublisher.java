@@ -0,0 +1,34 @@
+package com.microservice.casedesk.infrastructure.messaging;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves triage messages that cannot be processed to the dead-letter queue, with the failure in
+ * the headers, instead of dropping them. If the move fails the exception reaches the listener
+ * container and the batch is redelivered.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TriageEventDeadLetterPublisher {
+
+    public static final String EXCHANGE = "triage.events.dlx";
+    public static final String QUEUE = "triage.events.casedesk-service.dlq";
+    public static final String ROUTING_KEY = "triage.result.created";
+
+    private final RabbitTemplate rabbitTemplate;
+
+    public void publish(Message message, Exception cause) {
+        MessageProperties properties = message.getMessageProperties();
+        properties.setHeader("x-original-queue", TriageEventListener.QUEUE);
+        properties.setHeader("x-exception-type", cause.getClass().getName());
+        properties.setHeader("x-exception-message", cause.getMessage());
+        rabbitTemplate.send(EXCHANGE, ROUTING_KEY, message);
+        log.error("☠️ Triage message dead-lettered to {}: {}", QUEUE, cause.getMessage());
+    }
+}
@@ -0,0 +1,11 @@
+package com.microservice.casedesk.infrastructure.messaging.inbox;
+
+/**
+ * Thrown when a concurrent delivery already recorded the same triage id.
+ */
+public class DuplicateTriageEventException extends RuntimeException {
+
+    public DuplicateTriageEventException(Long triageId, Throwable cause) {
+        super("Triage " + triageId + " is already being processed", cause);
+    }
+}
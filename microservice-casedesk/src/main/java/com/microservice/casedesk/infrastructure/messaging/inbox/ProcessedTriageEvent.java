@@ -0,0 +1,70 @@
+package com.microservice.casedesk.infrastructure.messaging.inbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * Idempotency record of a consumed TriageResultCreatedEvent, keyed on the triage id.
+ * <p>
+ * It is inserted in the same transaction as the case it creates, before the case, so a
+ * redelivered or concurrently delivered event for the same triage fails on the primary key
+ * and creates nothing.
+ * </p>
+ */
+@Getter
+@Entity
+@Table(name = "processed_triage_events")
+@NoArgsConstructor
+public class ProcessedTriageEvent implements Persistable<Long> {
+
+    @Id
+    private Long triageId;
+
+    @Column(nullable = false, length = 64)
+    private String eventId;
+
+    private Long caseId;
+
+    @Column(nullable = false)
+    private Instant processedAt;
+
+    @Transient
+    private boolean isNew;
+
+    public ProcessedTriageEvent(Long triageId, String eventId) {
+        if (triageId == null) {
+            throw new IllegalArgumentException("Triage ID cannot be null");
+        }
+        this.triageId = triageId;
+        this.eventId = eventId != null ? eventId : "unknown";
+        this.processedAt = Instant.now();
+        this.isNew = true;
+    }
+
+    public void recordCase(Long caseId) {
+        this.caseId = caseId;
+    }
+
+    @Override
+    public Long getId() {
+        return triageId;
+    }
+
+    /**
+     * Always persisted, never merged, so a duplicate triage id is a constraint violation.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,90 @@
+package com.microservice.casedesk.infrastructure.messaging.inbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of the triage ids already turned into cases, in front of processed_triage_events.
+ * <p>
+ * A negative answer is definite, so new triages (almost every delivery) skip the idempotency
+ * lookup; only a positive answer, true or false, is checked against the table. The table's
+ * primary key stays the authority: a triage processed by another instance and missing here is
+ * still rejected by the constraint. Loaded from the table on startup; lock-free.
+ * </p>
+ */
+@Component
+@Slf4j
+public class ProcessedTriageIdFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProcessedTriageIdFilter(JdbcTemplate jdbcTemplate,
+                                   @Value("${casedesk.ingestion.bloom.expected-insertions:1000000}") long expectedInsertions,
+                                   @Value("${casedesk.ingestion.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Invalid bloom filter size");
+        }
+        // Optimal size and hash count for the expected insertions and false positive rate
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray(Math.toIntExact((optimalBits + 63) / 64));
+        this.bitCount = (long) bits.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long[] loaded = new long[1];
+        jdbcTemplate.query("SELECT triage_id FROM processed_triage_events", rs -> {
+            put(rs.getLong(1));
+            loaded[0]++;
+        });
+        log.info("Processed triage filter loaded with {} ids ({} bits, {} hashes)", loaded[0], bitCount, hashCount);
+    }
+
+    public void put(long triageId) {
+        long hash1 = mix(triageId);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    /**
+     * @return false if the triage was definitely not processed; true if it may have been
+     */
+    public boolean mightContain(long triageId) {
+        long hash1 = mix(triageId);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // SplitMix64 finalizer: spreads sequential ids over the whole bit array
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,157 @@
+package com.microservice.casedesk.infrastructure.messaging.inbox;
+
+import com.microservice.casedesk.application.events.CaseEventPublisher;
+import com.microservice.casedesk.domain.model.aggregates.Case;
+import com.microservice.casedesk.domain.model.events.CaseCreatedEvent;
+import com.microservice.casedesk.infrastructure.messaging.TriageEventDeadLetterPublisher;
+import com.microservice.casedesk.infrastructure.persistence.jdbc.CaseBatchWriter;
+import com.microservice.casedesk.infrastructure.persistence.jpa.repositories.ProcessedTriageEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the cases of a batch of triage events, exactly one per triage result.
+ * <p>
+ * Duplicates are removed before writing: within the batch by triage id, and against earlier
+ * batches through {@link ProcessedTriageIdFilter}, which sends only possible duplicates to one
+ * lookup of processed_triage_events. The remaining cases and their idempotency records are
+ * inserted in one transaction with JDBC batches, and a CaseCreatedEvent is published for each
+ * after commit.
+ * </p>
+ * <p>
+ * If the batch fails (for example a concurrent delivery recorded one of its triages first), it
+ * is rolled back and its events are processed one by one through {@link TriageEventProcessor},
+ * retried up to {@code casedesk.ingestion.retry.max-attempts} times. Events that are invalid or
+ * keep failing are moved to the dead-letter queue.
+ * </p>
+ */
+@Component
+@Slf4j
+public class TriageEventBatchProcessor {
+
+    private final ProcessedTriageEventRepository processedEventRepository;
+    private final ProcessedTriageIdFilter processedTriageIdFilter;
+    private final CaseBatchWriter caseBatchWriter;
+    private final TriageEventProcessor triageEventProcessor;
+    private final TriageEventDeadLetterPublisher deadLetterPublisher;
+    private final CaseEventPublisher caseEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final Duration backoff;
+
+    public TriageEventBatchProcessor(ProcessedTriageEventRepository processedEventRepository,
+                                     ProcessedTriageIdFilter processedTriageIdFilter,
+                                     CaseBatchWriter caseBatchWriter,
+                                     TriageEventProcessor triageEventProcessor,
+                                     TriageEventDeadLetterPublisher deadLetterPublisher,
+                                     CaseEventPublisher caseEventPublisher,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${casedesk.ingestion.retry.max-attempts:3}") int maxAttempts,
+                                     @Value("${casedesk.ingestion.retry.backoff:200ms}") Duration backoff) {
+        this.processedEventRepository = processedEventRepository;
+        this.processedTriageIdFilter = processedTriageIdFilter;
+        this.caseBatchWriter = caseBatchWriter;
+        this.triageEventProcessor = triageEventProcessor;
+        this.deadLetterPublisher = deadLetterPublisher;
+        this.caseEventPublisher = caseEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoff = backoff;
+    }
+
+    public void process(List<TriageEventDelivery> deliveries) {
+        Map<Long, TriageEventDelivery> pending = new LinkedHashMap<>();
+        for (TriageEventDelivery delivery : deliveries) {
+            pending.putIfAbsent(delivery.triageId(), delivery);
+        }
+
+        List<Long> maybeProcessed = pending.keySet().stream()
+                .filter(processedTriageIdFilter::mightContain)
+                .toList();
+        if (!maybeProcessed.isEmpty()) {
+            for (ProcessedTriageEvent processed : processedEventRepository.findAllById(maybeProcessed)) {
+                pending.remove(processed.getTriageId());
+                log.info("⏭️ Triage {} already processed, skipping", processed.getTriageId());
+            }
+        }
+
+        List<TriageEventDelivery> batch = new ArrayList<>(pending.size());
+        List<Case> cases = new ArrayList<>(pending.size());
+        List<ProcessedTriageEvent> records = new ArrayList<>(pending.size());
+        for (TriageEventDelivery delivery : pending.values()) {
+            try {
+                cases.add(TriageEventProcessor.toCase(delivery.event(), delivery.triageId()));
+                records.add(new ProcessedTriageEvent(delivery.triageId(), delivery.event().getEventId()));
+                batch.add(delivery);
+            } catch (IllegalArgumentException e) {
+                deadLetterPublisher.publish(delivery.message(), e);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Long> caseIds;
+        try {
+            caseIds = transactionTemplate.execute(status -> caseBatchWriter.insertAll(cases, records));
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Batch of {} triage events failed ({}), processing them one by one",
+                    batch.size(), e.getMessage());
+            batch.forEach(this::processWithRetry);
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Case newCase = cases.get(i);
+            processedTriageIdFilter.put(batch.get(i).triageId());
+            caseEventPublisher.publish(CaseCreatedEvent.create(
+                    caseIds.get(i),
+                    newCase.getPatientId(),
+                    newCase.getAnamnesisSessionId(),
+                    newCase.getTriageLevel(),
+                    newCase.getChiefComplaint()
+            ));
+        }
+        log.info("✅ {} CASES CREATED from {} triage messages", batch.size(), deliveries.size());
+    }
+
+    private void processWithRetry(TriageEventDelivery delivery) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                triageEventProcessor.process(delivery.event(), delivery.triageId());
+                processedTriageIdFilter.put(delivery.triageId());
+                return;
+            } catch (DuplicateTriageEventException e) {
+                log.info("⏭️ {}, skipping duplicate delivery", e.getMessage());
+                processedTriageIdFilter.put(delivery.triageId());
+                return;
+            } catch (RuntimeException e) {
+                if (e instanceof IllegalArgumentException || attempt >= maxAttempts) {
+                    deadLetterPublisher.publish(delivery.message(), e);
+                    return;
+                }
+                log.warn("⚠️ Triage {} failed (attempt {}/{}): {}", delivery.triageId(), attempt, maxAttempts,
+                        e.getMessage());
+                sleep(backoff.multipliedBy(attempt));
+            }
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // Leave the rest of the batch unacknowledged; it is redelivered and deduplicated
+            throw new IllegalStateException("Interrupted while retrying triage event", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.microservice.casedesk.infrastructure.messaging.inbox;
+
+import com.microservice.casedesk.application.events.TriageResultCreatedEvent;
+import org.springframework.amqp.core.Message;
+
+/**
+ * A parsed TriageResultCreatedEvent with the message it was delivered in, kept for dead-lettering.
+ *
+ * @param message The AMQP message
+ * @param event The parsed event
+ * @param triageId The triage id the event refers to
+ */
+public record TriageEventDelivery(Message message, TriageResultCreatedEvent event, Long triageId) {
+}
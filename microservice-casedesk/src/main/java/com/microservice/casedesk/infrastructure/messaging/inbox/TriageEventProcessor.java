@@ -0,0 +1,91 @@
+package com.microservice.casedesk.infrastructure.messaging.inbox;
+
+import com.microservice.casedesk.application.events.CaseEventPublisher;
+import com.microservice.casedesk.application.events.TriageResultCreatedEvent;
+import com.microservice.casedesk.domain.model.aggregates.Case;
+import com.microservice.casedesk.domain.model.events.CaseCreatedEvent;
+import com.microservice.casedesk.domain.model.valueobjects.TriageLevel;
+import com.microservice.casedesk.infrastructure.persistence.jpa.repositories.CaseRepository;
+import com.microservice.casedesk.infrastructure.persistence.jpa.repositories.ProcessedTriageEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Creates exactly one case per triage result.
+ * <p>
+ * The idempotency record and the case are written in one transaction: a redelivery is skipped by
+ * the existence check, and a concurrent duplicate fails on the record's primary key and rolls back
+ * without creating a case.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TriageEventProcessor {
+
+    private final ProcessedTriageEventRepository processedEventRepository;
+    private final CaseRepository caseRepository;
+    private final CaseEventPublisher caseEventPublisher;
+
+    /**
+     * @param event The triage event
+     * @param triageId The triage id the event refers to
+     * @return The created case, or empty if the triage was already processed
+     * @throws DuplicateTriageEventException If a concurrent delivery won the race
+     */
+    @Transactional
+    public Optional<Case> process(TriageResultCreatedEvent event, Long triageId) {
+        if (processedEventRepository.existsById(triageId)) {
+            log.info("⏭️ Triage {} already processed, skipping event {}", triageId, event.getEventId());
+            return Optional.empty();
+        }
+
+        ProcessedTriageEvent processed;
+        try {
+            processed = processedEventRepository.saveAndFlush(new ProcessedTriageEvent(triageId, event.getEventId()));
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateTriageEventException(triageId, e);
+        }
+
+        Case savedCase = caseRepository.save(toCase(event, triageId));
+        processed.recordCase(savedCase.getId());
+        log.info("✅ CASE CREATED: ID={}, UserID={}, TriageLevel={}",
+                savedCase.getId(), event.getUserId(), savedCase.getTriageLevel());
+
+        CaseCreatedEvent caseEvent = CaseCreatedEvent.create(
+                savedCase.getId(),
+                savedCase.getPatientId(),
+                savedCase.getAnamnesisSessionId(),
+                savedCase.getTriageLevel(),
+                savedCase.getChiefComplaint()
+        );
+        caseEventPublisher.publish(caseEvent);
+        log.info("📤 CASE EVENT PUBLISHED: {}", savedCase.getId());
+
+        return Optional.of(savedCase);
+    }
+
+    /**
+     * @throws IllegalArgumentException If the event has no user or no valid triage level
+     */
+    static Case toCase(TriageResultCreatedEvent event, Long triageId) {
+        if (event.getUserId() == null || event.getTriageLevel() == null) {
+            throw new IllegalArgumentException("Triage event " + event.getEventId() + " has no user or triage level");
+        }
+        return new Case(
+                event.getUserId(),
+                triageId,
+                event.getAnamnesisSessionId(),
+                TriageLevel.valueOf(event.getTriageLevel().toUpperCase()),
+                event.getChiefComplaint(),
+                event.getRedFlags(),
+                event.getRecommendedAction(),
+                event.getAcuityScore()
+        );
+    }
+}
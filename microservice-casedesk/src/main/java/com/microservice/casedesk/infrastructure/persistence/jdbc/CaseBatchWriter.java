@@ -0,0 +1,108 @@
+package com.microservice.casedesk.infrastructure.persistence.jdbc;
+
+import com.microservice.casedesk.domain.model.aggregates.Case;
+import com.microservice.casedesk.infrastructure.messaging.inbox.ProcessedTriageEvent;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts new cases and their idempotency records with JDBC batches.
+ * <p>
+ * Cases use IDENTITY ids, which prevents Hibernate from batching their inserts. This writer sends
+ * the cases, their red flags and the processed_triage_events rows as three JDBC batches and reads
+ * the generated ids back. A triage id that is already recorded fails the whole batch on the
+ * primary key.
+ * </p>
+ */
+@Repository
+public class CaseBatchWriter {
+
+    private static final String INSERT_CASE =
+            "INSERT INTO cases (patient_id, triage_id, anamnesis_session_id, triage_level, acuity_score, "
+                    + "chief_complaint, status, triage_recommended_action, version, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+    private static final String INSERT_RED_FLAG =
+            "INSERT INTO case_red_flags (case_id, note) VALUES (?, ?)";
+    private static final String INSERT_PROCESSED =
+            "INSERT INTO processed_triage_events (triage_id, event_id, case_id, processed_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CaseBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the cases and records their triages as processed. Must run inside the caller's transaction.
+     *
+     * @param cases The new cases
+     * @param processed The idempotency records, in the order of {@code cases}
+     * @return Generated case ids, in the order of {@code cases}
+     */
+    public List<Long> insertAll(List<Case> cases, List<ProcessedTriageEvent> processed) {
+        if (cases.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_CASE, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Case newCase = cases.get(i);
+                        ps.setLong(1, newCase.getPatientId());
+                        ps.setObject(2, newCase.getTriageId(), Types.BIGINT);
+                        ps.setObject(3, newCase.getAnamnesisSessionId(), Types.BIGINT);
+                        ps.setString(4, newCase.getTriageLevel().name());
+                        ps.setObject(5, newCase.getAcuityScore(), Types.DOUBLE);
+                        ps.setString(6, newCase.getChiefComplaint());
+                        ps.setString(7, newCase.getStatus().name());
+                        ps.setString(8, newCase.getTriageRecommendedAction());
+                        ps.setTimestamp(9, now);
+                        ps.setTimestamp(10, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return cases.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(cases.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+
+        List<Object[]> redFlags = new ArrayList<>();
+        List<Object[]> records = new ArrayList<>(cases.size());
+        for (int i = 0; i < cases.size(); i++) {
+            for (String redFlag : cases.get(i).getMainRedFlags()) {
+                redFlags.add(new Object[]{ids.get(i), redFlag});
+            }
+            ProcessedTriageEvent record = processed.get(i);
+            records.add(new Object[]{record.getTriageId(), record.getEventId(), ids.get(i),
+                    Timestamp.from(record.getProcessedAt())});
+        }
+        if (!redFlags.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_RED_FLAG, redFlags);
+        }
+        jdbcTemplate.batchUpdate(INSERT_PROCESSED, records);
+        return ids;
+    }
+}
@@ -0,0 +1,107 @@
+package com.microservice.casedesk.infrastructure.persistence.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves notes from the former case_notes collection table into case_timeline_entries.
+ * <p>
+ * Runs once all singletons exist (so Hibernate has already created case_timeline_entries) but
+ * before the web server and message listeners start, so migrated notes get lower ids than any note
+ * added afterwards. A MySQL named lock keeps instances starting together from copying twice; the
+ * instance that waited finds the legacy table already renamed.
+ * </p>
+ * <p>
+ * case_notes had no author, timestamp or order column: migrated notes have no author and take the
+ * case's last update time. A case may hold the same note twice, so copies are not matched by body:
+ * a {@code migrated} column is added to case_notes and the copy and the marking of the copied rows
+ * commit together, so an interrupted run can be repeated without copying a note twice. The old
+ * table is then renamed to case_notes_migrated rather than dropped.
+ * </p>
+ */
+@Component
+@Slf4j
+public class CaseNotesTimelineMigration implements SmartInitializingSingleton {
+
+    private static final String LOCK_NAME = "casedesk.case-notes-timeline-migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+
+    private static final String ACQUIRE_LOCK = "SELECT GET_LOCK(?, ?)";
+    private static final String RELEASE_LOCK = "SELECT RELEASE_LOCK(?)";
+    private static final String LEGACY_TABLE_EXISTS =
+            "SELECT COUNT(*) FROM information_schema.tables "
+                    + "WHERE table_schema = DATABASE() AND table_name = 'case_notes'";
+    private static final String MARKER_COLUMN_EXISTS =
+            "SELECT COUNT(*) FROM information_schema.columns "
+                    + "WHERE table_schema = DATABASE() AND table_name = 'case_notes' AND column_name = 'migrated'";
+    private static final String ADD_MARKER_COLUMN =
+            "ALTER TABLE case_notes ADD COLUMN migrated BOOLEAN NOT NULL DEFAULT FALSE";
+    private static final String COPY_NOTES =
+            "INSERT INTO case_timeline_entries (case_id, author_id, type, body, created_at) "
+                    + "SELECT n.case_id, NULL, 'NOTE', n.note, c.updated_at "
+                    + "FROM case_notes n JOIN cases c ON c.id = n.case_id "
+                    + "WHERE n.note IS NOT NULL AND n.migrated = FALSE";
+    private static final String MARK_NOTES_MIGRATED =
+            "UPDATE case_notes SET migrated = TRUE WHERE migrated = FALSE";
+    private static final String RENAME_LEGACY_TABLE =
+            "RENAME TABLE case_notes TO case_notes_migrated";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CaseNotesTimelineMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!legacyTableExists(jdbcTemplate)) {
+            return;
+        }
+
+        // The named lock belongs to the connection, so every statement runs on the one holding it
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            SingleConnectionDataSource lockedDataSource = new SingleConnectionDataSource(connection, true);
+            JdbcTemplate locked = new JdbcTemplate(lockedDataSource);
+            Integer acquired = locked.queryForObject(ACQUIRE_LOCK, Integer.class, LOCK_NAME, LOCK_TIMEOUT_SECONDS);
+            if (acquired == null || acquired != 1) {
+                throw new IllegalStateException("Could not acquire lock " + LOCK_NAME + " to migrate case notes");
+            }
+            try {
+                migrate(locked, new TransactionTemplate(new DataSourceTransactionManager(lockedDataSource)));
+            } finally {
+                locked.queryForObject(RELEASE_LOCK, Integer.class, LOCK_NAME);
+            }
+            return null;
+        });
+    }
+
+    private void migrate(JdbcTemplate locked, TransactionTemplate transactionTemplate) {
+        if (!legacyTableExists(locked)) {
+            return;
+        }
+
+        Integer markerColumns = locked.queryForObject(MARKER_COLUMN_EXISTS, Integer.class);
+        if (markerColumns == null || markerColumns == 0) {
+            locked.execute(ADD_MARKER_COLUMN);
+        }
+        // DDL commits implicitly in MySQL, so the rename cannot join this transaction
+        Integer copied = transactionTemplate.execute(status -> {
+            int rows = locked.update(COPY_NOTES);
+            locked.update(MARK_NOTES_MIGRATED);
+            return rows;
+        });
+        locked.execute(RENAME_LEGACY_TABLE);
+        log.info("📋 Migrated {} case notes to the case timeline", copied);
+    }
+
+    private static boolean legacyTableExists(JdbcTemplate template) {
+        Integer legacyTables = template.queryForObject(LEGACY_TABLE_EXISTS, Integer.class);
+        return legacyTables != null && legacyTables > 0;
+    }
+}
@@ -2,10 +2,18 @@ package com.microservice.casedesk.infrastructure.persistence.jpa.repositories;
 
 import com.microservice.casedesk.domain.model.aggregates.Case;
 import com.microservice.casedesk.domain.model.valueobjects.CaseStatus;
+import com.microservice.casedesk.domain.model.valueobjects.CaseSummary;
+import com.microservice.casedesk.domain.model.valueobjects.TriageLevel;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CaseRepository extends JpaRepository<Case, Long> {
@@ -13,4 +21,62 @@ public interface CaseRepository extends JpaRepository<Case, Long> {
     List<Case> findByAssignedDoctorId(Long doctorId);
     List<Case> findByAssignedDoctorIdAndStatus(Long doctorId, CaseStatus status);
     List<Case> findByStatus(CaseStatus status);
+
+    /**
+     * One page of the cases of a status and triage level, highest acuity score first (unscored
+     * last, as MySQL sorts NULL last when descending), then oldest first, continued after the
+     * cursor when it is set. Selects columns only, so red flags are never loaded. Served by the
+     * (status, triage_level, acuity_score DESC, created_at, id) index, or (assigned_doctor_id,
+     * status) for one doctor.
+     */
+    @Query("""
+            select new com.microservice.casedesk.domain.model.valueobjects.CaseSummary(
+                c.id, c.patientId, c.anamnesisSessionId, c.triageLevel, c.acuityScore, c.chiefComplaint,
+                c.status, c.assignedDoctorId, c.createdAt, c.updatedAt)
+            from Case c
+            where c.status = :status
+              and c.triageLevel = :triageLevel
+              and (:assignedDoctorId is null or c.assignedDoctorId = :assignedDoctorId)
+              and (:cursorCreatedAt is null
+                   or (:cursorAcuityScore is not null
+                       and (c.acuityScore < :cursorAcuityScore or c.acuityScore is null))
+                   or ((c.acuityScore = :cursorAcuityScore
+                        or (:cursorAcuityScore is null and c.acuityScore is null))
+                       and (c.createdAt > :cursorCreatedAt
+                            or (c.createdAt = :cursorCreatedAt and c.id > :cursorId))))
+            order by c.acuityScore desc, c.createdAt asc, c.id asc
+            """)
+    List<CaseSummary> findWorklistPage(@Param("status") CaseStatus status,
+                                       @Param("triageLevel") TriageLevel triageLevel,
+                                       @Param("assignedDoctorId") Long assignedDoctorId,
+                                       @Param("cursorAcuityScore") Double cursorAcuityScore,
+                                       @Param("cursorCreatedAt") Date cursorCreatedAt,
+                                       @Param("cursorId") Long cursorId,
+                                       Limit limit);
+
+    @Query("""
+            select new com.microservice.casedesk.domain.model.valueobjects.CaseSummary(
+                c.id, c.patientId, c.anamnesisSessionId, c.triageLevel, c.acuityScore, c.chiefComplaint,
+                c.status, c.assignedDoctorId, c.createdAt, c.updatedAt)
+            from Case c
+            where c.id in :ids
+            """)
+    List<CaseSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Locks the next OPEN case in worklist order (most severe triage level, highest acuity score,
+     * oldest), skipping cases locked by other transactions, so concurrent claims each get a
+     * different case without waiting. Ordering by the stored severity_rank rather than
+     * FIELD(triage_level, ...) lets it walk the (status, severity_rank, acuity_score DESC,
+     * created_at, id) index and lock a single row instead of sorting, and locking, every open case.
+     * Must run in a transaction.
+     */
+    @Query(value = """
+            SELECT id FROM cases
+            WHERE status = 'OPEN'
+            ORDER BY severity_rank, acuity_score DESC, created_at, id
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    Optional<Long> lockNextOpenCaseId();
 }
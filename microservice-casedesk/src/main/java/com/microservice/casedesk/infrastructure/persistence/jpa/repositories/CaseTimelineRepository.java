@@ -0,0 +1,16 @@
+package com.microservice.casedesk.infrastructure.persistence.jpa.repositories;
+
+import com.microservice.casedesk.domain.model.entities.CaseTimelineEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CaseTimelineRepository extends JpaRepository<CaseTimelineEntry, Long> {
+
+    List<CaseTimelineEntry> findByCaseIdOrderByIdDesc(Long caseId, Limit limit);
+
+    List<CaseTimelineEntry> findByCaseIdAndIdLessThanOrderByIdDesc(Long caseId, Long beforeId, Limit limit);
+}
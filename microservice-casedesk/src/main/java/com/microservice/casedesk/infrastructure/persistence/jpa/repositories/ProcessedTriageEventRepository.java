@@ -0,0 +1,9 @@
+package com.microservice.casedesk.infrastructure.persistence.jpa.repositories;
+
+import com.microservice.casedesk.infrastructure.messaging.inbox.ProcessedTriageEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProcessedTriageEventRepository extends JpaRepository<ProcessedTriageEvent, Long> {
+}
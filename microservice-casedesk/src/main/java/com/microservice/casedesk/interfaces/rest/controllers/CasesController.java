@@ -3,27 +3,40 @@ package com.microservice.casedesk.interfaces.rest.controllers;
 import com.microservice.casedesk.domain.model.aggregates.Case;
 import com.microservice.casedesk.domain.model.commands.AddCaseNoteCommand;
 import com.microservice.casedesk.domain.model.commands.AssignCaseCommand;
+import com.microservice.casedesk.domain.model.commands.ClaimNextCaseCommand;
 import com.microservice.casedesk.domain.model.commands.UpdateCaseStatusCommand;
+import com.microservice.casedesk.domain.model.entities.CaseTimelineEntry;
 import com.microservice.casedesk.domain.model.queries.GetAllOpenCasesQuery;
 import com.microservice.casedesk.domain.model.queries.GetCaseByIdQuery;
+import com.microservice.casedesk.domain.model.queries.GetCaseTimelineQuery;
+import com.microservice.casedesk.domain.model.queries.GetCaseWorklistQuery;
 import com.microservice.casedesk.domain.model.queries.GetCasesByDoctorAndStatusQuery;
 import com.microservice.casedesk.domain.model.queries.GetCasesByPatientQuery;
+import com.microservice.casedesk.domain.model.valueobjects.CaseCursor;
 import com.microservice.casedesk.domain.model.valueobjects.CaseStatus;
+import com.microservice.casedesk.domain.model.valueobjects.CaseTimelinePage;
+import com.microservice.casedesk.domain.model.valueobjects.CaseWorklistPage;
+import com.microservice.casedesk.domain.model.valueobjects.TriageLevel;
 import com.microservice.casedesk.domain.services.CaseCommandService;
 import com.microservice.casedesk.domain.services.CaseQueryService;
 import com.microservice.casedesk.infrastructure.security.JwtAuthenticationToken;
 import com.microservice.casedesk.interfaces.rest.resources.*;
+import com.microservice.casedesk.interfaces.rest.sse.CaseBoardStream;
 import com.microservice.casedesk.interfaces.rest.transform.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -37,6 +50,7 @@ public class CasesController {
 
     private final CaseCommandService caseCommandService;
     private final CaseQueryService caseQueryService;
+    private final CaseBoardStream caseBoardStream;
 
     @GetMapping("/my")
     @PreAuthorize("hasAnyRole('PATIENT', 'DOCTOR')")
@@ -83,6 +97,62 @@ public class CasesController {
         return ResponseEntity.ok(resources);
     }
 
+    @GetMapping("/worklist")
+    @PreAuthorize("hasAnyRole('DOCTOR', 'ADMIN')")
+    @Operation(summary = "Get case worklist",
+            description = "Returns a page of cases, most severe triage level first, then oldest first. "
+                    + "Pass the returned nextCursor to get the next page")
+    public ResponseEntity<CaseWorklistPageResource> getWorklist(
+            @RequestParam(required = false, defaultValue = "OPEN") CaseStatus status,
+            @RequestParam(required = false) TriageLevel triageLevel,
+            @RequestParam(required = false, defaultValue = "false") boolean assignedToMe,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        JwtAuthenticationToken authentication =
+                (JwtAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
+
+        if (assignedToMe && authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        CaseWorklistPage page;
+        try {
+            page = caseQueryService.handle(new GetCaseWorklistQuery(
+                    status,
+                    triageLevel,
+                    assignedToMe ? authentication.getUserId() : null,
+                    cursor != null ? CaseCursor.decode(cursor) : null,
+                    size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<CaseResource> items = page.items().stream()
+                .map(CaseResourceAssembler::toResourceFromSummary)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(new CaseWorklistPageResource(items, page.nextCursor()));
+    }
+
+    @GetMapping(value = "/board/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('DOCTOR', 'ADMIN')")
+    @Operation(summary = "Stream the case board",
+            description = "Server-Sent Events: the open cases (or my assigned cases with assignedToMe=true), "
+                    + "then every created, assigned or status-changed case, batched. "
+                    + "On a resync event, reconnect to reload the board")
+    public ResponseEntity<SseEmitter> streamBoard(
+            @RequestParam(required = false) TriageLevel triageLevel,
+            @RequestParam(required = false, defaultValue = "false") boolean assignedToMe) {
+        JwtAuthenticationToken authentication =
+                (JwtAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
+
+        if (assignedToMe && authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(caseBoardStream.subscribe(triageLevel,
+                assignedToMe ? authentication.getUserId() : null));
+    }
+
     @GetMapping("/{caseId}")
     @PreAuthorize("hasAnyRole('PATIENT', 'DOCTOR', 'ADMIN')")
     @Operation(summary = "Get case by ID", description = "Returns detailed case information")
@@ -100,10 +170,61 @@ public class CasesController {
             }
         }
 
-        CaseDetailResource resource = CaseDetailResourceAssembler.toResourceFromEntity(caseEntity);
+        CaseTimelinePage timeline = caseQueryService.handle(
+                new GetCaseTimelineQuery(caseId, null, GetCaseTimelineQuery.DEFAULT_SIZE));
+        CaseDetailResource resource = CaseDetailResourceAssembler.toResourceFromEntity(caseEntity, timeline);
         return ResponseEntity.ok(resource);
     }
 
+    @GetMapping("/{caseId}/timeline")
+    @PreAuthorize("hasAnyRole('PATIENT', 'DOCTOR', 'ADMIN')")
+    @Operation(summary = "Get case timeline",
+            description = "Returns a page of the case timeline (notes, assignments and status changes), newest first. "
+                    + "Pass the returned nextCursor as before to get older entries")
+    public ResponseEntity<CaseTimelinePageResource> getCaseTimeline(
+            @PathVariable Long caseId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @AuthenticationPrincipal JwtAuthenticationToken authentication) {
+
+        Case caseEntity = caseQueryService.handle(new GetCaseByIdQuery(caseId))
+                .orElseThrow(() -> new IllegalArgumentException("Case not found"));
+
+        if (authentication.getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_PATIENT"))) {
+            if (!caseEntity.getPatientId().equals(authentication.getUserId())) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+        }
+
+        CaseTimelinePage page;
+        try {
+            page = caseQueryService.handle(new GetCaseTimelineQuery(caseId, before, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(CaseTimelineResourceAssembler.toResourceFromPage(page));
+    }
+
+    @PostMapping("/claim")
+    @PreAuthorize("hasRole('DOCTOR')")
+    @Operation(summary = "Claim next case",
+            description = "Assigns the most severe, oldest open case to the authenticated doctor. "
+                    + "Concurrent claims get distinct cases. Returns 204 when no case is open")
+    public ResponseEntity<CaseResource> claimNextCase() {
+        JwtAuthenticationToken authentication =
+                (JwtAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return caseCommandService.handle(new ClaimNextCaseCommand(authentication.getUserId()))
+                .map(CaseResourceAssembler::toResourceFromEntity)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.noContent().build());
+    }
+
     @PatchMapping("/{caseId}/assign")
     @PreAuthorize("hasAnyRole('DOCTOR', 'ADMIN')")
     @Operation(summary = "Assign case", description = "Assigns a case to a doctor")
@@ -116,7 +237,13 @@ public class CasesController {
         AssignCaseCommand command = AssignCaseCommandFromResourceAssembler.toCommandFromResource(
                 caseId, new AssignCaseResource(doctorId), authentication.getUserId());
 
-        Case updatedCase = caseCommandService.handle(command);
+        Case updatedCase;
+        try {
+            updatedCase = caseCommandService.handle(command);
+        } catch (OptimisticLockingFailureException e) {
+            // Another doctor changed the case concurrently
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
         CaseResource caseResource = CaseResourceAssembler.toResourceFromEntity(updatedCase);
         return ResponseEntity.ok(caseResource);
     }
@@ -132,24 +259,35 @@ public class CasesController {
         UpdateCaseStatusCommand command = UpdateCaseStatusCommandFromResourceAssembler.toCommandFromResource(
                 caseId, resource, authentication.getUserId());
 
-        Case updatedCase = caseCommandService.handle(command);
+        Case updatedCase;
+        try {
+            updatedCase = caseCommandService.handle(command);
+        } catch (OptimisticLockingFailureException e) {
+            // Another doctor changed the case concurrently
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
         CaseResource caseResource = CaseResourceAssembler.toResourceFromEntity(updatedCase);
         return ResponseEntity.ok(caseResource);
     }
 
     @PostMapping("/{caseId}/notes")
     @PreAuthorize("hasAnyRole('DOCTOR', 'ADMIN')")
-    @Operation(summary = "Add case note", description = "Adds a note to a case")
-    public ResponseEntity<CaseDetailResource> addCaseNote(
+    @Operation(summary = "Add case note", description = "Appends a note to the case timeline")
+    public ResponseEntity<CaseTimelineEntryResource> addCaseNote(
             @PathVariable Long caseId,
-            @RequestBody AddCaseNoteResource resource,
+            @Valid @RequestBody AddCaseNoteResource resource,
             @AuthenticationPrincipal JwtAuthenticationToken authentication) {
 
-        AddCaseNoteCommand command = AddCaseNoteCommandFromResourceAssembler.toCommandFromResource(
-                caseId, resource, authentication.getUserId());
+        AddCaseNoteCommand command;
+        try {
+            command = AddCaseNoteCommandFromResourceAssembler.toCommandFromResource(
+                    caseId, resource, authentication.getUserId());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
 
-        Case updatedCase = caseCommandService.handle(command);
-        CaseDetailResource caseResource = CaseDetailResourceAssembler.toResourceFromEntity(updatedCase);
-        return ResponseEntity.ok(caseResource);
+        CaseTimelineEntry entry = caseCommandService.handle(command);
+        CaseTimelineEntryResource entryResource = CaseTimelineResourceAssembler.toResourceFromEntity(entry);
+        return new ResponseEntity<>(entryResource, HttpStatus.CREATED);
     }
 }
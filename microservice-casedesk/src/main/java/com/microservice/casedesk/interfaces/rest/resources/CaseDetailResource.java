@@ -12,11 +12,12 @@ public record CaseDetailResource(
         Long patientId,
         Long anamnesisSessionId,
         TriageLevel triageLevel,
+        Double acuityScore,
         String chiefComplaint,
         List<String> mainRedFlags,
         CaseStatus status,
         Long assignedDoctorId,
-        List<String> notes,
+        CaseTimelinePageResource timeline,
         String triageRecommendedAction,
         Date createdAt,
         Date updatedAt,
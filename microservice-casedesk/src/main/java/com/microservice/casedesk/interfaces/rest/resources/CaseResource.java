@@ -11,6 +11,7 @@ public record CaseResource(
         Long patientId,
         Long anamnesisSessionId,
         TriageLevel triageLevel,
+        Double acuityScore,
         String chiefComplaint,
         CaseStatus status,
         Long assignedDoctorId,
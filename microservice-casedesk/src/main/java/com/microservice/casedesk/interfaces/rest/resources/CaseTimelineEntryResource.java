@@ -0,0 +1,13 @@
+package com.microservice.casedesk.interfaces.rest.resources;
+
+import com.microservice.casedesk.domain.model.valueobjects.CaseTimelineEntryType;
+
+import java.util.Date;
+
+public record CaseTimelineEntryResource(
+        Long id,
+        Long authorId,
+        CaseTimelineEntryType type,
+        String body,
+        Date createdAt
+) {}
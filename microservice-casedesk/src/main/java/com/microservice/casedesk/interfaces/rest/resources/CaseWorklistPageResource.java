@@ -0,0 +1,8 @@
+package com.microservice.casedesk.interfaces.rest.resources;
+
+import java.util.List;
+
+public record CaseWorklistPageResource(
+        List<CaseResource> items,
+        String nextCursor
+) {}
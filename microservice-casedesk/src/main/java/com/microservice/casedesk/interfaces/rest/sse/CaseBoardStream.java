@@ -0,0 +1,276 @@
+package com.microservice.casedesk.interfaces.rest.sse;
+
+import com.microservice.casedesk.domain.model.queries.GetCaseWorklistQuery;
+import com.microservice.casedesk.domain.model.valueobjects.CaseStatus;
+import com.microservice.casedesk.domain.model.valueobjects.CaseSummary;
+import com.microservice.casedesk.domain.model.valueobjects.TriageLevel;
+import com.microservice.casedesk.domain.services.CaseQueryService;
+import com.microservice.casedesk.infrastructure.persistence.jpa.repositories.CaseRepository;
+import com.microservice.casedesk.interfaces.rest.resources.CaseResource;
+import com.microservice.casedesk.interfaces.rest.transform.CaseResourceAssembler;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes case changes to clinician dashboards over Server-Sent Events.
+ * <p>
+ * A subscriber first receives a {@code board} event with the current cases, then a {@code cases}
+ * event with the cases that changed since the previous one. Clients upsert the received cases
+ * by id; a case whose status no longer fits the board is removed by the client.
+ * </p>
+ * <p>
+ * Case events mark cases as changed; they arrive through this instance's own queue on the case
+ * events exchange (see CaseBoardEventListener), so changes made through any instance are pushed,
+ * and are sent only once their transaction committed. Every
+ * {@code casedesk.board.coalesce-interval-ms} the changed cases are loaded in one projection
+ * query, however many clients are connected and however many events a case had, and queued per
+ * subscriber. A subscriber can filter by triage level and, for a doctor, by the cases assigned to
+ * them.
+ * </p>
+ * <p>
+ * Each subscriber has its own queue keyed by case id, so a burst for one case collapses to its
+ * latest state, and at most one send in flight on a small sender pool: a slow client delays only
+ * itself. If its queue grows beyond {@code casedesk.board.max-pending} cases it is cleared and the
+ * client is sent a {@code resync} event to reload the board instead.
+ * </p>
+ */
+@Component
+@Slf4j
+public class CaseBoardStream {
+
+    private static final Comparator<CaseResource> BOARD_ORDER = Comparator
+            .comparing((CaseResource c) -> c.triageLevel().ordinal())
+            .thenComparing(CaseResource::createdAt, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final class Subscriber {
+        private final SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        private final TriageLevel triageLevel;
+        private final Long doctorId;
+        // Cases sent to a doctor board, so a case reassigned away is sent once more and then dropped
+        private final Set<Long> doctorCaseIds = ConcurrentHashMap.newKeySet();
+        private final Map<Long, CaseResource> pending = new ConcurrentHashMap<>();
+        private final AtomicBoolean sending = new AtomicBoolean(true);
+        private volatile boolean resync;
+        private volatile boolean heartbeat;
+
+        private Subscriber(TriageLevel triageLevel, Long doctorId) {
+            this.triageLevel = triageLevel;
+            this.doctorId = doctorId;
+        }
+
+        private boolean accepts(CaseSummary summary) {
+            if (triageLevel != null && triageLevel != summary.triageLevel()) {
+                return false;
+            }
+            if (doctorId == null) {
+                return true;
+            }
+            if (doctorId.equals(summary.assignedDoctorId())) {
+                doctorCaseIds.add(summary.id());
+                return true;
+            }
+            return doctorCaseIds.remove(summary.id());
+        }
+    }
+
+    private final CaseRepository caseRepository;
+    private final CaseQueryService caseQueryService;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Set<Long> changedCaseIds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+    private final Duration emitterTimeout;
+    private final int initialLimit;
+    private final int maxPending;
+
+    public CaseBoardStream(CaseRepository caseRepository,
+                           CaseQueryService caseQueryService,
+                           @Value("${casedesk.board.timeout:30m}") Duration emitterTimeout,
+                           @Value("${casedesk.board.initial-limit:100}") int initialLimit,
+                           @Value("${casedesk.board.max-pending:500}") int maxPending,
+                           @Value("${casedesk.board.sender-threads:4}") int senderThreads) {
+        this.caseRepository = caseRepository;
+        this.caseQueryService = caseQueryService;
+        this.emitterTimeout = emitterTimeout;
+        this.initialLimit = Math.clamp(initialLimit, 1, GetCaseWorklistQuery.MAX_SIZE);
+        this.maxPending = maxPending;
+        this.senders = Executors.newFixedThreadPool(senderThreads,
+                Thread.ofPlatform().name("case-board-sse-", 0).daemon().factory());
+    }
+
+    /**
+     * Registers a subscriber and sends it the current board.
+     *
+     * @param triageLevel Only push cases with this triage level, or all if null
+     * @param doctorId Only push cases assigned to this doctor, or all if null
+     */
+    public SseEmitter subscribe(TriageLevel triageLevel, Long doctorId) {
+        Subscriber subscriber = new Subscriber(triageLevel, doctorId);
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(e -> subscribers.remove(subscriber));
+
+        // Registered before the snapshot is read and marked as sending, so changes made meanwhile
+        // are queued and sent right after it
+        subscribers.add(subscriber);
+        senders.execute(() -> {
+            List<CaseResource> board;
+            try {
+                board = board(subscriber);
+            } catch (Exception e) {
+                log.warn("Could not load the case board: {}", e.getMessage());
+                subscribers.remove(subscriber);
+                subscriber.emitter.completeWithError(e);
+                return;
+            }
+            if (send(subscriber, SseEmitter.event().name("board").data(board))) {
+                drain(subscriber);
+            }
+        });
+        return subscriber.emitter;
+    }
+
+    /**
+     * Marks a case as changed; it is pushed to the subscribers with the next flush.
+     *
+     * @param caseId Id of a case whose change has been committed
+     */
+    public void markChanged(Long caseId) {
+        changedCaseIds.add(caseId);
+    }
+
+    @Scheduled(fixedDelayString = "${casedesk.board.coalesce-interval-ms:200}")
+    public void flush() {
+        if (changedCaseIds.isEmpty()) {
+            return;
+        }
+        // Ids are removed one by one, so an id marked meanwhile is either taken now or left for the
+        // next flush. One marked again before its removal is not lost either: its state is read
+        // below, after the change that marked it was committed.
+        List<Long> changed = new ArrayList<>(changedCaseIds.size());
+        for (Iterator<Long> it = changedCaseIds.iterator(); it.hasNext(); ) {
+            changed.add(it.next());
+            it.remove();
+        }
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        List<CaseSummary> summaries = caseRepository.findSummariesByIdIn(changed);
+        for (Subscriber subscriber : subscribers) {
+            for (CaseSummary summary : summaries) {
+                if (subscriber.accepts(summary)) {
+                    subscriber.pending.put(summary.id(), CaseResourceAssembler.toResourceFromSummary(summary));
+                }
+            }
+            if (subscriber.pending.size() > maxPending) {
+                subscriber.pending.clear();
+                subscriber.resync = true;
+            }
+            if (!subscriber.pending.isEmpty() || subscriber.resync) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${casedesk.board.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeat = true;
+            schedule(subscriber);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * Loads the initial board: the open cases, or a doctor's assigned and in-progress cases.
+     */
+    private List<CaseResource> board(Subscriber subscriber) {
+        List<CaseStatus> statuses = subscriber.doctorId == null
+                ? List.of(CaseStatus.OPEN)
+                : List.of(CaseStatus.ASSIGNED, CaseStatus.IN_PROGRESS);
+        List<CaseResource> board = new ArrayList<>();
+        for (CaseStatus status : statuses) {
+            GetCaseWorklistQuery query = new GetCaseWorklistQuery(status, subscriber.triageLevel,
+                    subscriber.doctorId, null, initialLimit);
+            for (CaseSummary summary : caseQueryService.handle(query).items()) {
+                subscriber.accepts(summary);
+                board.add(CaseResourceAssembler.toResourceFromSummary(summary));
+            }
+        }
+        board.sort(BOARD_ORDER);
+        return board;
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.sending.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * Sends the queued changes of one subscriber until its queue is empty. Only one drain per
+     * subscriber runs at a time.
+     */
+    private void drain(Subscriber subscriber) {
+        do {
+            boolean ok = true;
+            if (subscriber.resync) {
+                subscriber.resync = false;
+                ok = send(subscriber, SseEmitter.event().name("resync").data("reload"));
+            }
+            if (ok && !subscriber.pending.isEmpty()) {
+                List<CaseResource> changes = new ArrayList<>(subscriber.pending.size());
+                for (Long caseId : List.copyOf(subscriber.pending.keySet())) {
+                    CaseResource resource = subscriber.pending.remove(caseId);
+                    if (resource != null) {
+                        changes.add(resource);
+                    }
+                }
+                changes.sort(BOARD_ORDER);
+                ok = send(subscriber, SseEmitter.event().name("cases").data(changes));
+            }
+            if (ok && subscriber.heartbeat) {
+                subscriber.heartbeat = false;
+                ok = send(subscriber, SseEmitter.event().comment("keep-alive"));
+            }
+            if (!ok) {
+                return;
+            }
+            subscriber.sending.set(false);
+        } while ((!subscriber.pending.isEmpty() || subscriber.resync) && subscriber.sending.compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+            return true;
+        } catch (Exception e) {
+            log.debug("Dropping case board subscriber: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -1,21 +1,23 @@
 package com.microservice.casedesk.interfaces.rest.transform;
 
 import com.microservice.casedesk.domain.model.aggregates.Case;
+import com.microservice.casedesk.domain.model.valueobjects.CaseTimelinePage;
 import com.microservice.casedesk.interfaces.rest.resources.CaseDetailResource;
 
 public class CaseDetailResourceAssembler {
 
-    public static CaseDetailResource toResourceFromEntity(Case entity) {
+    public static CaseDetailResource toResourceFromEntity(Case entity, CaseTimelinePage timeline) {
         return new CaseDetailResource(
                 entity.getId(),
                 entity.getPatientId(),
                 entity.getAnamnesisSessionId(),
                 entity.getTriageLevel(),
+                entity.getAcuityScore(),
                 entity.getChiefComplaint(),
                 entity.getMainRedFlags(),
                 entity.getStatus(),
                 entity.getAssignedDoctorId(),
-                entity.getNotes(),
+                CaseTimelineResourceAssembler.toResourceFromPage(timeline),
                 entity.getTriageRecommendedAction(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt(),
@@ -1,6 +1,7 @@
 package com.microservice.casedesk.interfaces.rest.transform;
 
 import com.microservice.casedesk.domain.model.aggregates.Case;
+import com.microservice.casedesk.domain.model.valueobjects.CaseSummary;
 import com.microservice.casedesk.interfaces.rest.resources.CaseResource;
 
 public class CaseResourceAssembler {
@@ -11,6 +12,7 @@ public class CaseResourceAssembler {
                 entity.getPatientId(),
                 entity.getAnamnesisSessionId(),
                 entity.getTriageLevel(),
+                entity.getAcuityScore(),
                 entity.getChiefComplaint(),
                 entity.getStatus(),
                 entity.getAssignedDoctorId(),
@@ -18,4 +20,19 @@ public class CaseResourceAssembler {
                 entity.getUpdatedAt()
         );
     }
+
+    public static CaseResource toResourceFromSummary(CaseSummary summary) {
+        return new CaseResource(
+                summary.id(),
+                summary.patientId(),
+                summary.anamnesisSessionId(),
+                summary.triageLevel(),
+                summary.acuityScore(),
+                summary.chiefComplaint(),
+                summary.status(),
+                summary.assignedDoctorId(),
+                summary.createdAt(),
+                summary.updatedAt()
+        );
+    }
 }
@@ -0,0 +1,28 @@
+package com.microservice.casedesk.interfaces.rest.transform;
+
+import com.microservice.casedesk.domain.model.entities.CaseTimelineEntry;
+import com.microservice.casedesk.domain.model.valueobjects.CaseTimelinePage;
+import com.microservice.casedesk.interfaces.rest.resources.CaseTimelineEntryResource;
+import com.microservice.casedesk.interfaces.rest.resources.CaseTimelinePageResource;
+
+public class CaseTimelineResourceAssembler {
+
+    public static CaseTimelineEntryResource toResourceFromEntity(CaseTimelineEntry entity) {
+        return new CaseTimelineEntryResource(
+                entity.getId(),
+                entity.getAuthorId(),
+                entity.getType(),
+                entity.getBody(),
+                entity.getCreatedAt()
+        );
+    }
+
+    public static CaseTimelinePageResource toResourceFromPage(CaseTimelinePage page) {
+        return new CaseTimelinePageResource(
+                page.entries().stream()
+                        .map(CaseTimelineResourceAssembler::toResourceFromEntity)
+                        .toList(),
+                page.nextCursor()
+        );
+    }
+}
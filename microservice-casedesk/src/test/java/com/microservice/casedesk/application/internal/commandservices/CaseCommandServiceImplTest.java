@@ -0,0 +1,117 @@
+package com.microservice.casedesk.application.internal.commandservices;
+
+import com.microservice.casedesk.application.events.CaseEventPublisher;
+import com.microservice.casedesk.domain.model.aggregates.Case;
+import com.microservice.casedesk.domain.model.commands.AssignCaseCommand;
+import com.microservice.casedesk.domain.model.commands.ClaimNextCaseCommand;
+import com.microservice.casedesk.domain.model.commands.UpdateCaseStatusCommand;
+import com.microservice.casedesk.domain.model.entities.CaseTimelineEntry;
+import com.microservice.casedesk.domain.model.events.CaseAssignedEvent;
+import com.microservice.casedesk.domain.model.events.CaseStatusChangedEvent;
+import com.microservice.casedesk.domain.model.valueobjects.CaseStatus;
+import com.microservice.casedesk.domain.model.valueobjects.TriageLevel;
+import com.microservice.casedesk.infrastructure.persistence.jpa.repositories.CaseRepository;
+import com.microservice.casedesk.infrastructure.persistence.jpa.repositories.CaseTimelineRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Claiming and assigning cases, and that a version conflict on the case is raised before any case
+ * event is published.
+ */
+class CaseCommandServiceImplTest {
+
+    private static final long DOCTOR_ID = 42L;
+
+    private final CaseRepository caseRepository = mock(CaseRepository.class);
+    private final CaseTimelineRepository caseTimelineRepository = mock(CaseTimelineRepository.class);
+    private final CaseEventPublisher caseEventPublisher = mock(CaseEventPublisher.class);
+    private final CaseCommandServiceImpl service =
+            new CaseCommandServiceImpl(caseRepository, caseTimelineRepository, caseEventPublisher);
+
+    @BeforeEach
+    void setUp() {
+        when(caseRepository.saveAndFlush(any(Case.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void claimAssignsTheNextOpenCase() {
+        Case highCase = openCase(7L, TriageLevel.HIGH);
+        when(caseRepository.lockNextOpenCaseId()).thenReturn(Optional.of(7L));
+        when(caseRepository.findById(7L)).thenReturn(Optional.of(highCase));
+
+        Optional<Case> claimed = service.handle(new ClaimNextCaseCommand(DOCTOR_ID));
+
+        assertTrue(claimed.isPresent());
+        assertEquals(CaseStatus.ASSIGNED, claimed.get().getStatus());
+        assertEquals(DOCTOR_ID, claimed.get().getAssignedDoctorId());
+        // One locking read picks the case across all triage levels
+        verify(caseRepository).lockNextOpenCaseId();
+
+        ArgumentCaptor<CaseAssignedEvent> event = ArgumentCaptor.forClass(CaseAssignedEvent.class);
+        var order = inOrder(caseRepository, caseEventPublisher);
+        order.verify(caseRepository).saveAndFlush(highCase);
+        order.verify(caseEventPublisher).publish(event.capture());
+        assertEquals(7L, event.getValue().getCaseId());
+        assertEquals(DOCTOR_ID, event.getValue().getAssignedDoctorId());
+    }
+
+    @Test
+    void claimReturnsEmptyWhenNoCaseIsOpen() {
+        Optional<Case> claimed = service.handle(new ClaimNextCaseCommand(DOCTOR_ID));
+
+        assertTrue(claimed.isEmpty());
+        verify(caseRepository, never()).saveAndFlush(any(Case.class));
+        verify(caseEventPublisher, never()).publish(any(CaseAssignedEvent.class));
+    }
+
+    @Test
+    void assignmentConflictIsNotPublished() {
+        when(caseRepository.findById(7L)).thenReturn(Optional.of(openCase(7L, TriageLevel.LOW)));
+        when(caseRepository.saveAndFlush(any(Case.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Case.class, 7L));
+
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> service.handle(new AssignCaseCommand(7L, DOCTOR_ID, DOCTOR_ID)));
+
+        verify(caseTimelineRepository, never()).save(any(CaseTimelineEntry.class));
+        verify(caseEventPublisher, never()).publish(any(CaseAssignedEvent.class));
+    }
+
+    @Test
+    void statusConflictIsNotPublished() {
+        Case assignedCase = openCase(7L, TriageLevel.LOW);
+        assignedCase.assignToDoctor(DOCTOR_ID);
+        when(caseRepository.findById(7L)).thenReturn(Optional.of(assignedCase));
+        when(caseRepository.saveAndFlush(any(Case.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Case.class, 7L));
+
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> service.handle(new UpdateCaseStatusCommand(7L, CaseStatus.IN_PROGRESS, DOCTOR_ID)));
+
+        verify(caseTimelineRepository, never()).save(any(CaseTimelineEntry.class));
+        verify(caseEventPublisher, never()).publish(any(CaseStatusChangedEvent.class));
+    }
+
+    private static Case openCase(long id, TriageLevel triageLevel) {
+        Case caseEntity = new Case(100L, 200L, 300L, triageLevel, null, null, null, null);
+        ReflectionTestUtils.setField(caseEntity, "id", id);
+        return caseEntity;
+    }
+}
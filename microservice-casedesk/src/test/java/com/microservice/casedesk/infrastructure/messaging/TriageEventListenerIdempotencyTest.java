@@ -0,0 +1,201 @@
+package com.microservice.casedesk.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.casedesk.application.events.CaseEventPublisher;
+import com.microservice.casedesk.domain.model.aggregates.Case;
+import com.microservice.casedesk.domain.model.events.CaseCreatedEvent;
+import com.microservice.casedesk.infrastructure.messaging.inbox.ProcessedTriageEvent;
+import com.microservice.casedesk.infrastructure.messaging.inbox.ProcessedTriageIdFilter;
+import com.microservice.casedesk.infrastructure.messaging.inbox.TriageEventBatchProcessor;
+import com.microservice.casedesk.infrastructure.messaging.inbox.TriageEventProcessor;
+import com.microservice.casedesk.infrastructure.persistence.jdbc.CaseBatchWriter;
+import com.microservice.casedesk.infrastructure.persistence.jpa.repositories.CaseRepository;
+import com.microservice.casedesk.infrastructure.persistence.jpa.repositories.ProcessedTriageEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Proves that redelivered and concurrently delivered TriageResultCreatedEvents create exactly one
+ * case per triage, through both the batch insert and the one-by-one fallback. The idempotency
+ * store is backed by a map that rejects duplicate triage ids, like the table's primary key.
+ */
+class TriageEventListenerIdempotencyTest {
+
+    private final ConcurrentHashMap<Long, ProcessedTriageEvent> processedEvents = new ConcurrentHashMap<>();
+    private final List<Case> savedCases = new ArrayList<>();
+
+    private CaseEventPublisher caseEventPublisher;
+    private TriageEventDeadLetterPublisher deadLetterPublisher;
+    private TriageEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        ProcessedTriageEventRepository processedEventRepository = mock(ProcessedTriageEventRepository.class);
+        when(processedEventRepository.existsById(anyLong()))
+                .thenAnswer(invocation -> processedEvents.containsKey(invocation.<Long>getArgument(0)));
+        when(processedEventRepository.findAllById(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(processedEvents::get).filter(processed -> processed != null).toList();
+        });
+        when(processedEventRepository.saveAndFlush(any(ProcessedTriageEvent.class))).thenAnswer(invocation -> {
+            ProcessedTriageEvent processed = invocation.getArgument(0);
+            if (processedEvents.putIfAbsent(processed.getTriageId(), processed) != null) {
+                throw new DataIntegrityViolationException("Duplicate entry for key 'PRIMARY'");
+            }
+            return processed;
+        });
+
+        CaseRepository caseRepository = mock(CaseRepository.class);
+        when(caseRepository.save(any(Case.class))).thenAnswer(invocation -> {
+            synchronized (savedCases) {
+                savedCases.add(invocation.getArgument(0));
+            }
+            return invocation.getArgument(0);
+        });
+
+        // Rejects the whole batch if any triage is already recorded, like the rolled back transaction
+        CaseBatchWriter caseBatchWriter = mock(CaseBatchWriter.class);
+        when(caseBatchWriter.insertAll(anyList(), anyList())).thenAnswer(invocation -> {
+            List<Case> cases = invocation.getArgument(0);
+            List<ProcessedTriageEvent> records = invocation.getArgument(1);
+            synchronized (savedCases) {
+                for (ProcessedTriageEvent record : records) {
+                    if (processedEvents.containsKey(record.getTriageId())) {
+                        throw new DataIntegrityViolationException("Duplicate entry for key 'PRIMARY'");
+                    }
+                }
+                records.forEach(record -> processedEvents.put(record.getTriageId(), record));
+                savedCases.addAll(cases);
+            }
+            return cases.stream().map(Case::getTriageId).toList();
+        });
+
+        caseEventPublisher = mock(CaseEventPublisher.class);
+        deadLetterPublisher = mock(TriageEventDeadLetterPublisher.class);
+        TriageEventProcessor processor = new TriageEventProcessor(processedEventRepository, caseRepository, caseEventPublisher);
+        TriageEventBatchProcessor batchProcessor = new TriageEventBatchProcessor(
+                processedEventRepository,
+                new ProcessedTriageIdFilter(mock(JdbcTemplate.class), 1000, 0.01),
+                caseBatchWriter,
+                processor,
+                deadLetterPublisher,
+                caseEventPublisher,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                3,
+                Duration.ZERO);
+        listener = new TriageEventListener(batchProcessor, deadLetterPublisher, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void redeliveredEventCreatesOneCase() {
+        Message message = triageEvent(42L);
+
+        listener.handleTriageResultsCreated(List.of(message));
+        listener.handleTriageResultsCreated(List.of(message));
+        listener.handleTriageResultsCreated(List.of(message));
+
+        assertEquals(1, savedCases.size());
+        assertEquals(42L, savedCases.get(0).getTriageId());
+        verify(caseEventPublisher, times(1)).publish(any(CaseCreatedEvent.class));
+    }
+
+    @Test
+    void concurrentDeliveriesCreateOneCase() throws Exception {
+        Message message = triageEvent(7L);
+        int deliveries = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(deliveries);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < deliveries; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    listener.handleTriageResultsCreated(List.of(message));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, savedCases.size());
+        verify(caseEventPublisher, times(1)).publish(any(CaseCreatedEvent.class));
+    }
+
+    @Test
+    void distinctTriagesCreateOneCaseEach() {
+        listener.handleTriageResultsCreated(List.of(triageEvent(1L)));
+        listener.handleTriageResultsCreated(List.of(triageEvent(2L)));
+        listener.handleTriageResultsCreated(List.of(triageEvent(1L)));
+
+        assertEquals(2, savedCases.size());
+        verify(caseEventPublisher, times(2)).publish(any(CaseCreatedEvent.class));
+    }
+
+    @Test
+    void batchWithRedeliveriesCreatesOneCasePerTriage() {
+        listener.handleTriageResultsCreated(List.of(triageEvent(1L), triageEvent(2L), triageEvent(1L)));
+        listener.handleTriageResultsCreated(List.of(triageEvent(2L), triageEvent(3L)));
+
+        assertEquals(3, savedCases.size());
+        verify(caseEventPublisher, times(3)).publish(any(CaseCreatedEvent.class));
+        verify(deadLetterPublisher, never()).publish(any(Message.class), any(Exception.class));
+    }
+
+    @Test
+    void invalidMessagesAreDeadLetteredWithoutBlockingTheBatch() {
+        Message unreadable = MessageBuilder.withBody("not json".getBytes(StandardCharsets.UTF_8)).build();
+        Message withoutLevel = message("""
+                {"eventId":"event-9","triageId":9,"userId":5,"sessionId":109}
+                """);
+
+        listener.handleTriageResultsCreated(List.of(unreadable, triageEvent(8L), withoutLevel));
+
+        assertEquals(1, savedCases.size());
+        assertEquals(8L, savedCases.get(0).getTriageId());
+        verify(deadLetterPublisher, times(2)).publish(any(Message.class), any(Exception.class));
+    }
+
+    private static Message triageEvent(Long triageId) {
+        return message("""
+                {"eventId":"event-%d","eventType":"TRIAGE_RESULT_CREATED","occurredAt":"2026-01-01T10:00:00Z",
+                 "triageId":%d,"userId":5,"sessionId":%d,"priority":"HIGH","riskFactors":[],
+                 "redFlags":["Dolor torácico"],"recommendations":"Acudir a emergencias","chiefComplaint":"Dolor de pecho"}
+                """.formatted(triageId, triageId, 100 + triageId));
+    }
+
+    private static Message message(String body) {
+        return MessageBuilder.withBody(body.getBytes(StandardCharsets.UTF_8)).build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.microservice.casedesk.interfaces.rest.controllers;
+
+import com.microservice.casedesk.domain.model.aggregates.Case;
+import com.microservice.casedesk.domain.model.commands.AddCaseNoteCommand;
+import com.microservice.casedesk.domain.model.commands.AssignCaseCommand;
+import com.microservice.casedesk.domain.model.commands.UpdateCaseStatusCommand;
+import com.microservice.casedesk.domain.services.CaseCommandService;
+import com.microservice.casedesk.domain.services.CaseQueryService;
+import com.microservice.casedesk.infrastructure.security.JwtAuthenticationToken;
+import com.microservice.casedesk.interfaces.rest.resources.AddCaseNoteResource;
+import com.microservice.casedesk.interfaces.rest.resources.AssignCaseResource;
+import com.microservice.casedesk.interfaces.rest.resources.UpdateCaseStatusResource;
+import com.microservice.casedesk.interfaces.rest.sse.CaseBoardStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Status codes of the case endpoints for invalid requests and failures raised by the command service.
+ */
+class CasesControllerTest {
+
+    private final CaseCommandService caseCommandService = mock(CaseCommandService.class);
+    private final CasesController controller = new CasesController(
+            caseCommandService, mock(CaseQueryService.class), mock(CaseBoardStream.class));
+    private final JwtAuthenticationToken doctor =
+            new JwtAuthenticationToken(42L, "doctor@ayllucare.pe", List.of(new SimpleGrantedAuthority("ROLE_DOCTOR")));
+
+    @Test
+    void concurrentAssignmentIsAConflict() {
+        when(caseCommandService.handle(any(AssignCaseCommand.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Case.class, 7L));
+
+        var response = controller.assignCase(7L, new AssignCaseResource(null), doctor);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    void concurrentStatusChangeIsAConflict() {
+        when(caseCommandService.handle(any(UpdateCaseStatusCommand.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Case.class, 7L));
+
+        var response = controller.updateCaseStatus(7L, new UpdateCaseStatusResource("in_progress"), doctor);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    void blankNoteIsABadRequest() {
+        var response = controller.addCaseNote(7L, new AddCaseNoteResource("   "), doctor);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(caseCommandService, never()).handle(any(AddCaseNoteCommand.class));
+    }
+}
@@ -0,0 +1,37 @@
+package com.microservice.profiles.application.events;
+
+import com.microservice.profiles.domain.model.aggregates.Profile;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Event published whenever a profile is created or its health data changes.
+ * Carries the clinical snapshot that other services (triage) cache locally.
+ */
+public record ProfileChangedEvent(
+        Long userId,
+        LocalDate dateOfBirth,
+        String gender,
+        String bloodType,
+        List<String> allergies,
+        List<String> chronicConditions,
+        List<String> currentMedications,
+        Boolean consentForAIProcessing,
+        Instant occurredAt
+) {
+    public static ProfileChangedEvent from(Profile profile) {
+        return new ProfileChangedEvent(
+                profile.getUserId(),
+                profile.getDateOfBirth(),
+                profile.getGender(),
+                profile.getBloodType(),
+                List.copyOf(profile.getAllergies()),
+                List.copyOf(profile.getChronicConditions()),
+                List.copyOf(profile.getCurrentMedications()),
+                profile.getConsentForAIProcessing(),
+                Instant.now()
+        );
+    }
+}
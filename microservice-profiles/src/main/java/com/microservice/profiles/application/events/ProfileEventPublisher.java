@@ -0,0 +1,14 @@
+package com.microservice.profiles.application.events;
+
+/**
+ * Publisher for profile events.
+ */
+public interface ProfileEventPublisher {
+
+    /**
+     * Publishes the current snapshot of a profile.
+     *
+     * @param event The event to publish
+     */
+    void publishProfileChanged(ProfileChangedEvent event);
+}
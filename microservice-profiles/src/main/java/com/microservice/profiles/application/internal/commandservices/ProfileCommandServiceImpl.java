@@ -1,5 +1,7 @@
 package com.microservice.profiles.application.internal.commandservices;
 
+import com.microservice.profiles.application.events.ProfileChangedEvent;
+import com.microservice.profiles.application.events.ProfileEventPublisher;
 import com.microservice.profiles.domain.model.aggregates.Profile;
 import com.microservice.profiles.domain.model.commands.CreateProfileCommand;
 import com.microservice.profiles.domain.model.commands.SignConsentCommand;
@@ -13,9 +15,11 @@ import java.util.Optional;
 @Service
 public class ProfileCommandServiceImpl implements ProfileCommandService {
     private final ProfileRepository userProfileRepository;
+    private final ProfileEventPublisher profileEventPublisher;
 
-    public ProfileCommandServiceImpl(ProfileRepository userProfileRepository) {
+    public ProfileCommandServiceImpl(ProfileRepository userProfileRepository, ProfileEventPublisher profileEventPublisher) {
         this.userProfileRepository = userProfileRepository;
+        this.profileEventPublisher = profileEventPublisher;
     }
 
     @Override
@@ -65,6 +69,7 @@ public class ProfileCommandServiceImpl implements ProfileCommandService {
         }
 
         var savedProfile = userProfileRepository.save(userProfile);
+        profileEventPublisher.publishProfileChanged(ProfileChangedEvent.from(savedProfile));
         return Optional.of(savedProfile);
     }
 
@@ -125,6 +130,7 @@ public class ProfileCommandServiceImpl implements ProfileCommandService {
         }
 
         var updatedProfile = userProfileRepository.save(profile);
+        profileEventPublisher.publishProfileChanged(ProfileChangedEvent.from(updatedProfile));
         return Optional.of(updatedProfile);
     }
 
@@ -139,6 +145,7 @@ public class ProfileCommandServiceImpl implements ProfileCommandService {
         profile.signConsent();
 
         var updatedProfile = userProfileRepository.save(profile);
+        profileEventPublisher.publishProfileChanged(ProfileChangedEvent.from(updatedProfile));
         return Optional.of(updatedProfile);
     }
 }
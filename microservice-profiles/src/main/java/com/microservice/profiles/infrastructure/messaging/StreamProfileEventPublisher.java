@@ -0,0 +1,36 @@
+package com.microservice.profiles.infrastructure.messaging;
+
+import com.microservice.profiles.application.events.ProfileChangedEvent;
+import com.microservice.profiles.application.events.ProfileEventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring Cloud Stream implementation of ProfileEventPublisher.
+ */
+@Component
+public class StreamProfileEventPublisher implements ProfileEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamProfileEventPublisher.class);
+    private static final String PROFILE_CHANGED_BINDING = "profileChanged-out-0";
+
+    private final StreamBridge streamBridge;
+
+    public StreamProfileEventPublisher(StreamBridge streamBridge) {
+        this.streamBridge = streamBridge;
+    }
+
+    @Override
+    public void publishProfileChanged(ProfileChangedEvent event) {
+        try {
+            if (!streamBridge.send(PROFILE_CHANGED_BINDING, event)) {
+                log.warn("ProfileChangedEvent for userId {} was not accepted by the binder", event.userId());
+            }
+        } catch (Exception e) {
+            // Consumers fall back to the REST API; a lost event only delays their cache refresh
+            log.error("Error publishing ProfileChangedEvent for userId: {}", event.userId(), e);
+        }
+    }
+}
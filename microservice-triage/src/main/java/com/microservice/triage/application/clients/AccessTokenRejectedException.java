@@ -0,0 +1,12 @@
+package com.microservice.triage.application.clients;
+
+/**
+ * Thrown when a service rejects the bearer token a request was made with (401 or 403), typically
+ * because it expired. Retrying with the same token cannot succeed.
+ */
+public class AccessTokenRejectedException extends RuntimeException {
+
+    public AccessTokenRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
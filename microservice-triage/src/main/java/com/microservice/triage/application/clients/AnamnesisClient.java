@@ -0,0 +1,22 @@
+package com.microservice.triage.application.clients;
+
+import com.microservice.triage.application.dto.AnamnesisSummaryDTO;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Client interface for Anamnesis microservice.
+ */
+public interface AnamnesisClient {
+
+    /**
+     * Gets the chief complaint and history of present illness of several completed sessions.
+     *
+     * @param sessionIds The anamnesis session IDs
+     * @param accessToken Bearer token the request is made with
+     * @return Summaries by session ID; sessions not found or not completed are absent
+     * @throws AccessTokenRejectedException if anamnesis rejects the token
+     */
+    Map<Long, AnamnesisSummaryDTO> getSummariesBySessionIds(Collection<Long> sessionIds, String accessToken);
+}
@@ -1,7 +1,10 @@
 package com.microservice.triage.application.clients;
 
+import com.microservice.triage.application.dto.ProfileLookupDTO;
 import com.microservice.triage.application.dto.ProfileSnapshotDTO;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -16,5 +19,24 @@ public interface ProfileClient {
      * @return The profile snapshot if found
      */
     Optional<ProfileSnapshotDTO> getProfileByUserId(Long userId);
-}
 
+    /**
+     * Gets profile snapshots for several users.
+     *
+     * @param userIds The user IDs
+     * @return Profiles by user ID; users without a profile, or whose profile could not be fetched,
+     *         are absent
+     */
+    default Map<Long, ProfileSnapshotDTO> getProfilesByUserIds(Collection<Long> userIds) {
+        return lookupProfilesByUserIds(userIds).profiles();
+    }
+
+    /**
+     * Gets profile snapshots for several users, telling users without a profile apart from users
+     * whose profile could not be fetched.
+     *
+     * @param userIds The user IDs
+     * @return The profiles found and the users whose lookup failed
+     */
+    ProfileLookupDTO lookupProfilesByUserIds(Collection<Long> userIds);
+}
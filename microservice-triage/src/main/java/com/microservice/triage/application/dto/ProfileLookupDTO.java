@@ -0,0 +1,19 @@
+package com.microservice.triage.application.dto;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Result of looking up the profiles of several users.
+ *
+ * @param profiles Profiles by user ID
+ * @param unavailable Users whose profile could not be fetched (error or timeout); users without a
+ *                    profile are in neither collection
+ */
+public record ProfileLookupDTO(Map<Long, ProfileSnapshotDTO> profiles, Set<Long> unavailable) {
+
+    public ProfileLookupDTO {
+        profiles = Map.copyOf(profiles);
+        unavailable = Set.copyOf(unavailable);
+    }
+}
@@ -0,0 +1,27 @@
+package com.microservice.triage.application.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Event received from Profile microservice when a profile is created or updated.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileChangedEvent {
+    private Long userId;
+    private LocalDate dateOfBirth;
+    private String gender;
+    private String bloodType;
+    private List<String> allergies;
+    private List<String> chronicConditions;
+    private List<String> currentMedications;
+    private Boolean consentForAIProcessing;
+    private Instant occurredAt;
+}
@@ -1,5 +1,7 @@
 package com.microservice.triage.application.events;
 
+import java.util.List;
+
 /**
  * Event publisher interface for triage events.
  */
@@ -11,5 +13,12 @@ public interface TriageEventPublisher {
      * @param event The event to publish
      */
     void publishTriageResultCreated(TriageResultCreatedEvent event);
+
+    /**
+     * Publishes several TriageResultCreatedEvents together.
+     *
+     * @param events The events to publish
+     */
+    void publishTriageResultsCreated(List<TriageResultCreatedEvent> events);
 }
 
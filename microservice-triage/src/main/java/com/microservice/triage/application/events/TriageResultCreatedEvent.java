@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -12,6 +13,10 @@ import java.util.UUID;
 /**
  * Event published when a triage result is created.
  * To be consumed by CaseDesk microservice.
+ * <p>
+ * The event id is a name-based UUID of the triage id, so every publication of the same triage
+ * result carries the same id.
+ * </p>
  */
 @Data
 @NoArgsConstructor
@@ -24,41 +29,36 @@ public class TriageResultCreatedEvent {
     private Long userId;
     private Long sessionId;
     private PriorityLevel priority;
+    private Double acuityScore;
     private List<String> riskFactors;
     private List<String> redFlags;
     private String recommendations;
     private String chiefComplaint;
 
-    public TriageResultCreatedEvent(Long triageId, Long userId, Long sessionId,
-                                   PriorityLevel priority, List<String> riskFactors,
-                                   List<String> redFlags, String recommendations) {
-        this.eventId = UUID.randomUUID().toString();
-        this.eventType = "TRIAGE_RESULT_CREATED";
-        this.occurredAt = Instant.now();
-        this.triageId = triageId;
-        this.userId = userId;
-        this.sessionId = sessionId;
-        this.priority = priority;
-        this.riskFactors = riskFactors;
-        this.redFlags = redFlags;
-        this.recommendations = recommendations;
-        this.chiefComplaint = null; // Se puede agregar como parámetro si es necesario
-    }
+    public static final String EVENT_TYPE = "TRIAGE_RESULT_CREATED";
 
     public TriageResultCreatedEvent(Long triageId, Long userId, Long sessionId,
-                                   PriorityLevel priority, List<String> riskFactors,
+                                   PriorityLevel priority, Double acuityScore, List<String> riskFactors,
                                    List<String> redFlags, String recommendations, String chiefComplaint) {
-        this.eventId = UUID.randomUUID().toString();
-        this.eventType = "TRIAGE_RESULT_CREATED";
+        this.eventId = eventIdFor(triageId);
+        this.eventType = EVENT_TYPE;
         this.occurredAt = Instant.now();
         this.triageId = triageId;
         this.userId = userId;
         this.sessionId = sessionId;
         this.priority = priority;
+        this.acuityScore = acuityScore;
         this.riskFactors = riskFactors;
         this.redFlags = redFlags;
         this.recommendations = recommendations;
         this.chiefComplaint = chiefComplaint;
     }
-}
 
+    /**
+     * @param triageId The triage result ID
+     * @return The stable event id of the triage result's created event
+     */
+    public static String eventIdFor(Long triageId) {
+        return UUID.nameUUIDFromBytes((EVENT_TYPE + ":" + triageId).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
@@ -3,19 +3,36 @@ package com.microservice.triage.application.internal.commandservices;
 import com.microservice.triage.application.events.TriageEventPublisher;
 import com.microservice.triage.application.events.TriageResultCreatedEvent;
 import com.microservice.triage.domain.model.aggregates.TriageResult;
+import com.microservice.triage.domain.model.commands.CreateTriageResultBatchCommand;
 import com.microservice.triage.domain.model.commands.CreateTriageResultCommand;
+import com.microservice.triage.domain.model.events.TriageResultCreatedDomainEvent;
 import com.microservice.triage.domain.services.TriageCommandService;
+import com.microservice.triage.infrastructure.persistence.jdbc.TriageResultBatchWriter;
 import com.microservice.triage.infrastructure.persistence.jpa.repositories.TriageResultRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementation of Triage Command Service.
  * Handles write operations for triage results.
+ * <p>
+ * This is the only place that publishes TriageResultCreatedEvent; the event id is derived from
+ * the triage id so consumers can deduplicate redeliveries. A TriageResultCreatedDomainEvent is
+ * also published in-process for local read models (the worklist). Both are delivered only after
+ * the transaction commits, so a rolled-back batch publishes nothing.
+ * </p>
  */
 @Service
 public class TriageCommandServiceImpl implements TriageCommandService {
@@ -23,12 +40,18 @@ public class TriageCommandServiceImpl implements TriageCommandService {
     private static final Logger logger = LoggerFactory.getLogger(TriageCommandServiceImpl.class);
 
     private final TriageResultRepository triageResultRepository;
+    private final TriageResultBatchWriter batchWriter;
     private final TriageEventPublisher eventPublisher;
+    private final ApplicationEventPublisher domainEventPublisher;
 
     public TriageCommandServiceImpl(TriageResultRepository triageResultRepository,
-                                   TriageEventPublisher eventPublisher) {
+                                   TriageResultBatchWriter batchWriter,
+                                   TriageEventPublisher eventPublisher,
+                                   ApplicationEventPublisher domainEventPublisher) {
         this.triageResultRepository = triageResultRepository;
+        this.batchWriter = batchWriter;
         this.eventPublisher = eventPublisher;
+        this.domainEventPublisher = domainEventPublisher;
     }
 
     @Override
@@ -50,18 +73,21 @@ public class TriageCommandServiceImpl implements TriageCommandService {
                 command.userId(),
                 command.sessionId(),
                 command.priority(),
+                command.acuityScore(),
                 command.riskFactors(),
                 command.redFlagsDetected(),
-                command.recommendations()
+                command.recommendation()
             );
 
             // Save to database
-            TriageResult savedTriage = triageResultRepository.save(triageResult);
+            TriageResult savedTriage = triageResultRepository.saveAndFlush(triageResult);
+            batchWriter.insertEvaluationInputs(List.of(savedTriage.getId()), List.of(command));
             logger.info("Triage result created successfully with ID: {}, Priority: {}",
                        savedTriage.getId(), savedTriage.getPriority());
 
-            // Publish event to RabbitMQ
-            publishTriageCreatedEvent(savedTriage);
+            // Publish event to RabbitMQ once the transaction commits
+            publishTriageCreatedEvent(savedTriage, command.chiefComplaint());
+            publishDomainEvent(savedTriage, command.chiefComplaint());
 
             return Optional.of(savedTriage);
 
@@ -71,26 +97,81 @@ public class TriageCommandServiceImpl implements TriageCommandService {
         }
     }
 
-    private void publishTriageCreatedEvent(TriageResult triageResult) {
-        try {
-            TriageResultCreatedEvent event = new TriageResultCreatedEvent(
-                triageResult.getId(),
-                triageResult.getUserId(),
-                triageResult.getSessionId(),
-                triageResult.getPriority(),
-                triageResult.getRiskFactors(),
-                triageResult.getRedFlagsDetected(),
-                triageResult.getRecommendations()
-            );
+    @Override
+    @Transactional
+    public List<TriageResult> handle(CreateTriageResultBatchCommand command) {
+        // Deduplicate within the batch, then against the database with a single IN query
+        Map<Long, CreateTriageResultCommand> bySession = new LinkedHashMap<>();
+        command.results().forEach(result -> bySession.putIfAbsent(result.sessionId(), result));
+
+        Set<Long> triaged = triageResultRepository.findTriagedSessionIds(bySession.keySet());
+        List<CreateTriageResultCommand> pending = bySession.values().stream()
+                .filter(result -> !triaged.contains(result.sessionId()))
+                .toList();
+
+        if (!triaged.isEmpty()) {
+            logger.warn("Skipping {} session(s) already triaged: {}", triaged.size(), triaged);
+        }
+        if (pending.isEmpty()) {
+            return List.of();
+        }
 
-            eventPublisher.publishTriageResultCreated(event);
-            logger.info("Published TriageResultCreatedEvent for triage ID: {}", triageResult.getId());
+        List<Long> ids = batchWriter.insertAll(pending);
+        List<TriageResult> created = new ArrayList<>(triageResultRepository.findAllById(ids));
+        created.sort(Comparator.comparing(TriageResult::getId));
+        logger.info("Created {} triage results in batch ({} received)", created.size(), command.results().size());
 
-        } catch (Exception e) {
-            logger.error("Error publishing TriageResultCreatedEvent for triage ID: {}",
-                        triageResult.getId(), e);
-            // Don't fail the transaction if event publishing fails
-        }
+        Map<Long, String> chiefComplaints = new HashMap<>();
+        pending.forEach(result -> {
+            if (result.chiefComplaint() != null) {
+                chiefComplaints.put(result.sessionId(), result.chiefComplaint());
+            }
+        });
+        publishTriageCreatedEvents(created, chiefComplaints);
+        created.forEach(triageResult ->
+                publishDomainEvent(triageResult, chiefComplaints.get(triageResult.getSessionId())));
+        return created;
+    }
+
+    private void publishDomainEvent(TriageResult triageResult, String chiefComplaint) {
+        domainEventPublisher.publishEvent(new TriageResultCreatedDomainEvent(
+            triageResult.getId(),
+            triageResult.getUserId(),
+            triageResult.getSessionId(),
+            triageResult.getPriority(),
+            List.copyOf(triageResult.getRiskFactors()),
+            List.copyOf(triageResult.getRedFlagsDetected()),
+            chiefComplaint
+        ));
+    }
+
+    private void publishTriageCreatedEvents(List<TriageResult> triageResults, Map<Long, String> chiefComplaints) {
+        List<TriageResultCreatedEvent> events = triageResults.stream()
+                .map(triageResult -> toCreatedEvent(triageResult, chiefComplaints.get(triageResult.getSessionId())))
+                .toList();
+
+        eventPublisher.publishTriageResultsCreated(events);
+        logger.info("Queued {} TriageResultCreatedEvents for publishing after commit", events.size());
+    }
+
+    private TriageResultCreatedEvent toCreatedEvent(TriageResult triageResult, String chiefComplaint) {
+        return new TriageResultCreatedEvent(
+            triageResult.getId(),
+            triageResult.getUserId(),
+            triageResult.getSessionId(),
+            triageResult.getPriority(),
+            triageResult.getAcuityScore(),
+            // Copied now: the event is serialized after commit
+            List.copyOf(triageResult.getRiskFactors()),
+            List.copyOf(triageResult.getRedFlagsDetected()),
+            triageResult.getRecommendations(),
+            chiefComplaint
+        );
+    }
+
+    private void publishTriageCreatedEvent(TriageResult triageResult, String chiefComplaint) {
+        eventPublisher.publishTriageResultCreated(toCreatedEvent(triageResult, chiefComplaint));
+        logger.info("Queued TriageResultCreatedEvent for triage ID: {} for publishing after commit", triageResult.getId());
     }
 }
 
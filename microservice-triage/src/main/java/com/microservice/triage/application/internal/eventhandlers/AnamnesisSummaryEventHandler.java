@@ -3,20 +3,23 @@ package com.microservice.triage.application.internal.eventhandlers;
 import com.microservice.triage.application.clients.ProfileClient;
 import com.microservice.triage.application.dto.ProfileSnapshotDTO;
 import com.microservice.triage.application.events.AnamnesisSummaryCreatedEvent;
-import com.microservice.triage.application.events.TriageResultCreatedEvent;
+import com.microservice.triage.domain.model.aggregates.TriageResult;
+import com.microservice.triage.domain.model.commands.CreateTriageResultBatchCommand;
 import com.microservice.triage.domain.model.commands.CreateTriageResultCommand;
 import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import com.microservice.triage.domain.model.valueobjects.TriageAssessment;
+import com.microservice.triage.domain.model.valueobjects.TriageRecommendation;
 import com.microservice.triage.domain.services.TriageCommandService;
 import com.microservice.triage.domain.services.TriageDomainService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.messaging.Message;
-import org.springframework.messaging.support.MessageBuilder;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -28,90 +31,109 @@ public class AnamnesisSummaryEventHandler {
     private final TriageCommandService triageCommandService;
     private final TriageDomainService triageDomainService;
     private final ProfileClient profileClient;
-    private final StreamBridge streamBridge;
 
     public AnamnesisSummaryEventHandler(TriageCommandService triageCommandService,
                                         TriageDomainService triageDomainService,
-                                        ProfileClient profileClient,
-                                        StreamBridge streamBridge) {
+                                        ProfileClient profileClient) {
         this.triageCommandService = triageCommandService;
         this.triageDomainService = triageDomainService;
         this.profileClient = profileClient;
-        this.streamBridge = streamBridge;
     }
 
+    /**
+     * Batch consumer: the binding runs in batch mode, so each invocation receives up to
+     * {@code batchSize} events. Profiles are fetched once per distinct user, sessions are
+     * deduplicated with a single query and results are inserted and published together.
+     * TriageResultCreatedEvents are published only by {@link TriageCommandService}.
+     * If the batch fails as a whole, its events are retried one by one so a single bad
+     * event does not drop the rest.
+     */
     @Bean
-    public Consumer<AnamnesisSummaryCreatedEvent> anamnesisSummaryCreated() {
-        return event -> {
+    public Consumer<List<AnamnesisSummaryCreatedEvent>> anamnesisSummaryCreated() {
+        return events -> {
+            logger.info("📩 Received batch of {} AnamnesisSummaryCreatedEvents", events.size());
             try {
-                logger.info("📩 Received AnamnesisSummaryCreatedEvent for userId: {}, sessionId: {}",
-                        event.getUserId(), event.getSessionId());
-
-                processAnamnesisSummary(event);
-
+                processAnamnesisSummaries(events);
             } catch (Exception e) {
-                logger.error("❌ Error processing AnamnesisSummaryCreatedEvent for sessionId: {}",
-                        event.getSessionId(), e);
+                logger.error("❌ Error processing batch of {} events, falling back to one by one", events.size(), e);
+                events.forEach(this::processSingle);
             }
         };
     }
 
-    private void processAnamnesisSummary(AnamnesisSummaryCreatedEvent event) {
-        Optional<ProfileSnapshotDTO> profileOpt = profileClient.getProfileByUserId(event.getUserId());
-        ProfileSnapshotDTO profile = profileOpt.orElse(null);
+    private void processSingle(AnamnesisSummaryCreatedEvent event) {
+        try {
+            logger.info("📩 Processing AnamnesisSummaryCreatedEvent for userId: {}, sessionId: {}",
+                    event.getUserId(), event.getSessionId());
+
+            processAnamnesisSummary(event);
+
+        } catch (Exception e) {
+            logger.error("❌ Error processing AnamnesisSummaryCreatedEvent for sessionId: {}",
+                    event.getSessionId(), e);
+        }
+    }
+
+    private void processAnamnesisSummaries(List<AnamnesisSummaryCreatedEvent> events) {
+        // Keep the first valid event per session
+        Map<Long, AnamnesisSummaryCreatedEvent> bySession = new LinkedHashMap<>();
+        for (AnamnesisSummaryCreatedEvent event : events) {
+            if (event.getSessionId() == null || event.getUserId() == null || event.getSummary() == null) {
+                logger.warn("⚠️ Discarding incomplete AnamnesisSummaryCreatedEvent: {}", event.getEventId());
+                continue;
+            }
+            bySession.putIfAbsent(event.getSessionId(), event);
+        }
+        if (bySession.isEmpty()) {
+            return;
+        }
+
+        Map<Long, ProfileSnapshotDTO> profiles = profileClient.getProfilesByUserIds(
+                bySession.values().stream().map(AnamnesisSummaryCreatedEvent::getUserId).toList());
 
-        PriorityLevel priority = triageDomainService.calculatePriority(event.getSummary(), profile);
+        List<CreateTriageResultCommand> commands = new ArrayList<>(bySession.size());
+        for (AnamnesisSummaryCreatedEvent event : bySession.values()) {
+            commands.add(toCommand(event, profiles.get(event.getUserId())));
+        }
+
+        List<TriageResult> created = triageCommandService.handle(new CreateTriageResultBatchCommand(commands));
+        created.forEach(this::logTriageResult);
+    }
+
+    private CreateTriageResultCommand toCommand(AnamnesisSummaryCreatedEvent event, ProfileSnapshotDTO profile) {
+        TriageAssessment assessment = triageDomainService.assess(event.getSummary(), profile);
+        PriorityLevel priority = assessment.priority();
         List<String> riskFactors = triageDomainService.identifyRiskFactors(event.getSummary(), profile);
-        List<String> redFlags = event.getSummary().getRedFlags();
-        String recommendations = triageDomainService.generateRecommendations(priority, event.getSummary(), profile);
+        TriageRecommendation recommendation = triageDomainService.recommend(priority, event.getSummary(), profile);
 
-        CreateTriageResultCommand command = new CreateTriageResultCommand(
+        return new CreateTriageResultCommand(
                 event.getUserId(),
                 event.getSessionId(),
                 priority,
+                assessment.acuityScore(),
                 riskFactors,
-                redFlags,
-                recommendations
+                event.getSummary().getRedFlags(),
+                recommendation,
+                event.getSummary().getChiefComplaint(),
+                event.getSummary().getHistoryOfPresentIllness()
         );
+    }
 
-        var result = triageCommandService.handle(command);
-
-        if (result.isPresent()) {
-            var triageResult = result.get();
-
-            logger.info("✅ Triage result created successfully with ID: {} and priority: {}",
-                    triageResult.getId(), triageResult.getPriority());
-
-            // 🚀 PUBLICAR EL EVENTO
-            TriageResultCreatedEvent triageEvent = new TriageResultCreatedEvent(
-                    triageResult.getId(),
-                    triageResult.getUserId(),
-                    triageResult.getSessionId(),
-                    triageResult.getPriority(),
-                    riskFactors,
-                    redFlags,
-                    recommendations,
-                    event.getSummary() != null ? event.getSummary().getChiefComplaint() : null
-            );
-
-            Message<TriageResultCreatedEvent> message = MessageBuilder
-                    .withPayload(triageEvent)
-                    .setHeader("routingKey", "triage.result.created")
-                    .build();
-
-            boolean sent = streamBridge.send("triageResultCreated-out-0", message);
-
-            if (sent) {
-                logger.info("🚀 Published TriageResultCreatedEvent for userId: {} with priority: {}",
-                        triageResult.getUserId(), triageResult.getPriority());
-            } else {
-                logger.error("❌ Failed to publish TriageResultCreatedEvent");
-            }
+    private void processAnamnesisSummary(AnamnesisSummaryCreatedEvent event) {
+        Optional<ProfileSnapshotDTO> profileOpt = profileClient.getProfileByUserId(event.getUserId());
+        ProfileSnapshotDTO profile = profileOpt.orElse(null);
 
-            if (triageResult.isEmergency()) {
-                logger.warn("🚨 EMERGENCY CASE DETECTED! Triage ID: {}, User ID: {}",
-                        triageResult.getId(), triageResult.getUserId());
-            }
+        var result = triageCommandService.handle(toCommand(event, profile));
+        result.ifPresent(this::logTriageResult);
+    }
+
+    private void logTriageResult(TriageResult triageResult) {
+        logger.info("✅ Triage result created successfully with ID: {} and priority: {}",
+                triageResult.getId(), triageResult.getPriority());
+
+        if (triageResult.isEmergency()) {
+            logger.warn("🚨 EMERGENCY CASE DETECTED! Triage ID: {}, User ID: {}",
+                    triageResult.getId(), triageResult.getUserId());
         }
     }
 }
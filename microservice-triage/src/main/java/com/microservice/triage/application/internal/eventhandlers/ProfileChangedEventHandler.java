@@ -0,0 +1,58 @@
+package com.microservice.triage.application.internal.eventhandlers;
+
+import com.microservice.triage.application.dto.ProfileSnapshotDTO;
+import com.microservice.triage.application.events.ProfileChangedEvent;
+import com.microservice.triage.infrastructure.clients.ProfileSnapshotCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the local profile snapshot cache up to date from ProfileChangedEvents, so triage
+ * scoring rarely has to call the Profile microservice.
+ */
+@Configuration
+public class ProfileChangedEventHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfileChangedEventHandler.class);
+
+    private final ProfileSnapshotCache profileSnapshotCache;
+
+    public ProfileChangedEventHandler(ProfileSnapshotCache profileSnapshotCache) {
+        this.profileSnapshotCache = profileSnapshotCache;
+    }
+
+    @Bean
+    public Consumer<ProfileChangedEvent> profileChanged() {
+        return event -> {
+            if (event.getUserId() == null) {
+                logger.warn("⚠️ Discarding ProfileChangedEvent without userId");
+                return;
+            }
+            profileSnapshotCache.put(toSnapshot(event));
+            logger.debug("Profile snapshot updated for userId: {}", event.getUserId());
+        };
+    }
+
+    private ProfileSnapshotDTO toSnapshot(ProfileChangedEvent event) {
+        Integer age = event.getDateOfBirth() != null
+                ? Period.between(event.getDateOfBirth(), LocalDate.now()).getYears()
+                : null;
+
+        return new ProfileSnapshotDTO(
+                event.getUserId(),
+                age,
+                event.getBloodType(),
+                event.getChronicConditions(),
+                event.getAllergies(),
+                event.getCurrentMedications(),
+                null,
+                event.getConsentForAIProcessing()
+        );
+    }
+}
@@ -5,14 +5,21 @@ import com.microservice.triage.domain.model.queries.GetAllTriagesQuery;
 import com.microservice.triage.domain.model.queries.GetTriageByIdQuery;
 import com.microservice.triage.domain.model.queries.GetTriageBySessionIdQuery;
 import com.microservice.triage.domain.model.queries.GetTriageByUserIdQuery;
+import com.microservice.triage.domain.model.queries.SearchTriagesQuery;
+import com.microservice.triage.domain.model.valueobjects.TriageCursor;
+import com.microservice.triage.domain.model.valueobjects.TriageResultPage;
 import com.microservice.triage.domain.services.TriageQueryService;
 import com.microservice.triage.infrastructure.persistence.jpa.repositories.TriageResultRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -49,9 +56,63 @@ public class TriageQueryServiceImpl implements TriageQueryService {
         return triageResultRepository.findBySessionId(query.sessionId());
     }
 
+    /**
+     * Bounded by the query limit and read like a search page: the keyset ID query, then the
+     * results with risk factors and their red flags in batched queries.
+     */
     @Override
     public List<TriageResult> handle(GetAllTriagesQuery query) {
-        logger.debug("Fetching all triage results");
-        return triageResultRepository.findAll();
+        logger.debug("Fetching the {} most recent triage results", query.limit());
+        List<Long> ids = triageResultRepository.findPageIds(null, null, null, null, null, null,
+                Limit.of(query.limit()));
+        return loadInOrder(ids);
+    }
+
+    /**
+     * Reads one page in three queries regardless of its size: the page IDs (keyset, one extra row
+     * to detect a next page), the results with risk factors, and their red flags.
+     */
+    @Override
+    public TriageResultPage handle(SearchTriagesQuery query) {
+        logger.debug("Searching triage results: {}", query);
+        TriageCursor cursor = query.cursor();
+        List<Long> ids = triageResultRepository.findPageIds(
+                query.userId(),
+                query.priority(),
+                query.from(),
+                query.to(),
+                cursor != null ? cursor.createdAt() : null,
+                cursor != null ? cursor.id() : null,
+                Limit.of(query.size() + 1));
+
+        boolean hasNext = ids.size() > query.size();
+        List<Long> pageIds = hasNext ? ids.subList(0, query.size()) : ids;
+        if (pageIds.isEmpty()) {
+            return new TriageResultPage(List.of(), null);
+        }
+
+        List<TriageResult> items = loadInOrder(pageIds);
+        TriageResult last = items.get(items.size() - 1);
+        TriageCursor nextCursor = hasNext ? new TriageCursor(last.getCreatedAt(), last.getId()) : null;
+        return new TriageResultPage(items, nextCursor);
+    }
+
+    /**
+     * Loads the results with the given IDs, in the order of the IDs.
+     */
+    private List<TriageResult> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> position = new HashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            position.put(ids.get(i), i);
+        }
+        List<TriageResult> items = triageResultRepository.findByIdIn(ids).stream()
+                .sorted(Comparator.comparing(result -> position.get(result.getId())))
+                .toList();
+        // Initialize red flags inside the transaction: one batched query for the whole page
+        items.forEach(result -> result.getRedFlagsDetected().size());
+        return items;
     }
 }
@@ -0,0 +1,36 @@
+package com.microservice.triage.application.internal.retriage;
+
+import java.time.Instant;
+
+/**
+ * Progress of a re-triage run.
+ *
+ * @param state Current state of the run
+ * @param dryRun Whether changes are only counted, not written
+ * @param startedAt When the run started
+ * @param finishedAt When the run finished, or null while running
+ * @param scanned Triage results re-evaluated so far
+ * @param scoreChanged Results whose acuity score changed but priority did not
+ * @param priorityChanged Results whose priority changed
+ * @param skipped Results without stored inputs whose anamnesis summary could not be fetched
+ * @param lastTriageId Id of the last result processed; the run continues after it
+ * @param error Failure message, if the run failed
+ */
+public record RetriageStatus(
+        State state,
+        boolean dryRun,
+        Instant startedAt,
+        Instant finishedAt,
+        long scanned,
+        long scoreChanged,
+        long priorityChanged,
+        long skipped,
+        long lastTriageId,
+        String error
+) {
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
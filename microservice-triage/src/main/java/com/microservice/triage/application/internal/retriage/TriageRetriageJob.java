@@ -0,0 +1,273 @@
+package com.microservice.triage.application.internal.retriage;
+
+import com.microservice.triage.application.clients.AccessTokenRejectedException;
+import com.microservice.triage.application.clients.AnamnesisClient;
+import com.microservice.triage.application.clients.ProfileClient;
+import com.microservice.triage.application.dto.AnamnesisSummaryDTO;
+import com.microservice.triage.application.dto.ProfileLookupDTO;
+import com.microservice.triage.application.dto.ProfileSnapshotDTO;
+import com.microservice.triage.domain.model.events.TriageResultUpdatedDomainEvent;
+import com.microservice.triage.domain.model.valueobjects.RecommendationTemplate;
+import com.microservice.triage.domain.model.valueobjects.TriageAssessment;
+import com.microservice.triage.domain.services.TriageDomainService;
+import com.microservice.triage.domain.services.rules.CompiledRuleSet;
+import com.microservice.triage.domain.services.rules.TriageRuleEngine;
+import com.microservice.triage.infrastructure.persistence.jdbc.TriageReplayRepository;
+import com.microservice.triage.infrastructure.persistence.jdbc.TriageReplayRepository.PriorityChange;
+import com.microservice.triage.infrastructure.persistence.jdbc.TriageReplayRepository.ReplayRow;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Re-evaluates stored triage results with the current rules.
+ * <p>
+ * The rule set is pinned when the run starts, so a reload during the run does not mix rule
+ * versions. Results are streamed in keyset chunks of {@code triage.retriage.chunk-size}; each
+ * chunk's profiles are fetched in one call and its rows are evaluated in parallel on a dedicated
+ * pool of {@code triage.retriage.parallelism} threads (0 uses every core), leaving the common pool
+ * to request handling. Results whose profile could not be fetched are skipped and counted rather
+ * than scored as if the patient had no profile.
+ * </p>
+ * <p>
+ * Results stored before their evaluation inputs were kept get them from their anamnesis session
+ * summaries, fetched in one call per chunk with the token of the admin who started the run, and
+ * the backfilled inputs are stored. Results whose summary cannot be fetched are skipped and
+ * counted; a later run picks them up again. If anamnesis rejects the token, typically because it
+ * expired during a long run, the run fails instead of skipping every remaining result.
+ * </p>
+ * <p>
+ * Changed priorities and scores are written in one JDBC batch and transaction per chunk. A
+ * TriageResultUpdatedDomainEvent is published after the chunk commits, only for results whose
+ * priority changed. One run at a time; a dry run evaluates and counts without writing anything,
+ * backfilled inputs included.
+ * </p>
+ */
+@Component
+public class TriageRetriageJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(TriageRetriageJob.class);
+
+    private static final String REASON = "Re-triage with current rules";
+
+    private final TriageReplayRepository replayRepository;
+    private final ProfileClient profileClient;
+    private final AnamnesisClient anamnesisClient;
+    private final TriageRuleEngine ruleEngine;
+    private final TriageDomainService triageDomainService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher domainEventPublisher;
+    private final int chunkSize;
+    private final ForkJoinPool evaluationPool;
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("triage-retriage").daemon().factory());
+    private final AtomicReference<RetriageStatus> status = new AtomicReference<>();
+
+    public TriageRetriageJob(TriageReplayRepository replayRepository,
+                             ProfileClient profileClient,
+                             AnamnesisClient anamnesisClient,
+                             TriageRuleEngine ruleEngine,
+                             TriageDomainService triageDomainService,
+                             TransactionTemplate transactionTemplate,
+                             ApplicationEventPublisher domainEventPublisher,
+                             @Value("${triage.retriage.chunk-size:1000}") int chunkSize,
+                             @Value("${triage.retriage.parallelism:0}") int parallelism) {
+        this.replayRepository = replayRepository;
+        this.profileClient = profileClient;
+        this.anamnesisClient = anamnesisClient;
+        this.ruleEngine = ruleEngine;
+        this.triageDomainService = triageDomainService;
+        this.transactionTemplate = transactionTemplate;
+        this.domainEventPublisher = domainEventPublisher;
+        this.chunkSize = chunkSize;
+        this.evaluationPool = new ForkJoinPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Starts a run in the background.
+     *
+     * @param dryRun Only count the changes
+     * @param accessToken Bearer token of the caller, used to fetch missing inputs from anamnesis
+     * @return The status of the new run, or empty if a run is already in progress
+     */
+    public Optional<RetriageStatus> start(boolean dryRun, String accessToken) {
+        RetriageStatus current = status.get();
+        if (current != null && current.state() == RetriageStatus.State.RUNNING) {
+            return Optional.empty();
+        }
+        RetriageStatus started = new RetriageStatus(RetriageStatus.State.RUNNING, dryRun, Instant.now(), null,
+                0, 0, 0, 0, 0, null);
+        if (!status.compareAndSet(current, started)) {
+            return Optional.empty();
+        }
+        runner.execute(() -> run(started, accessToken));
+        return Optional.of(started);
+    }
+
+    /**
+     * @return Status of the current or last run, if any
+     */
+    public Optional<RetriageStatus> status() {
+        return Optional.ofNullable(status.get());
+    }
+
+    private void run(RetriageStatus started, String accessToken) {
+        long afterId = 0;
+        long scanned = 0;
+        long scoreChanged = 0;
+        long priorityChanged = 0;
+        long skipped = 0;
+        try {
+            CompiledRuleSet rules = ruleEngine.current();
+            logger.info("Re-triage started with {} rules (dry run: {})", rules.ruleCount(), started.dryRun());
+
+            List<ReplayRow> rows;
+            while (!(rows = replayRepository.findChunk(afterId, chunkSize)).isEmpty()) {
+                List<ReplayRow> withInputs = withInputs(rows, started.dryRun(), accessToken);
+                List<Long> userIds = withInputs.stream().map(ReplayRow::userId)
+                        .filter(Objects::nonNull).distinct().toList();
+                ProfileLookupDTO profiles = profileClient.lookupProfilesByUserIds(userIds);
+                List<ReplayRow> evaluable = withInputs.stream()
+                        .filter(row -> row.userId() == null || !profiles.unavailable().contains(row.userId()))
+                        .toList();
+                List<PriorityChange> changes = evaluate(rules, evaluable, profiles.profiles());
+                List<PriorityChange> applied = started.dryRun() ? changes : write(changes);
+
+                afterId = rows.get(rows.size() - 1).id();
+                scanned += evaluable.size();
+                skipped += rows.size() - evaluable.size();
+                for (PriorityChange change : applied) {
+                    if (change.priorityChanged()) {
+                        priorityChanged++;
+                    } else {
+                        scoreChanged++;
+                    }
+                }
+                status.set(new RetriageStatus(RetriageStatus.State.RUNNING, started.dryRun(), started.startedAt(),
+                        null, scanned, scoreChanged, priorityChanged, skipped, afterId, null));
+            }
+            status.set(new RetriageStatus(RetriageStatus.State.COMPLETED, started.dryRun(), started.startedAt(),
+                    Instant.now(), scanned, scoreChanged, priorityChanged, skipped, afterId, null));
+            logger.info("Re-triage completed: {} results scanned, {} priorities and {} scores changed, "
+                            + "{} skipped without inputs or profile (dry run: {})",
+                    scanned, priorityChanged, scoreChanged, skipped, started.dryRun());
+        } catch (Exception e) {
+            logger.error("Re-triage failed after triage result {}: {}", afterId, e.getMessage(), e);
+            status.set(new RetriageStatus(RetriageStatus.State.FAILED, started.dryRun(), started.startedAt(),
+                    Instant.now(), scanned, scoreChanged, priorityChanged, skipped, afterId, e.getMessage()));
+        }
+    }
+
+    /**
+     * Fills in the summary text of the rows stored without evaluation inputs and, unless this is a
+     * dry run, stores it.
+     *
+     * @return The rows that can be evaluated; rows whose summary could not be fetched are left out
+     */
+    private List<ReplayRow> withInputs(List<ReplayRow> rows, boolean dryRun, String accessToken) {
+        List<Long> sessionIds = rows.stream()
+                .filter(row -> !row.inputsStored())
+                .map(ReplayRow::sessionId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (rows.stream().allMatch(ReplayRow::inputsStored)) {
+            return rows;
+        }
+
+        Map<Long, AnamnesisSummaryDTO> summaries = Map.of();
+        if (!sessionIds.isEmpty()) {
+            try {
+                summaries = anamnesisClient.getSummariesBySessionIds(sessionIds, accessToken);
+            } catch (AccessTokenRejectedException e) {
+                // Every later chunk would be rejected too: fail the run rather than skip them all
+                throw e;
+            } catch (Exception e) {
+                logger.warn("Could not fetch anamnesis summaries for {} sessions: {}", sessionIds.size(), e.getMessage());
+            }
+        }
+
+        List<ReplayRow> evaluable = new ArrayList<>(rows.size());
+        List<ReplayRow> backfilled = new ArrayList<>();
+        for (ReplayRow row : rows) {
+            if (row.inputsStored()) {
+                evaluable.add(row);
+                continue;
+            }
+            AnamnesisSummaryDTO summary = row.sessionId() != null ? summaries.get(row.sessionId()) : null;
+            if (summary != null) {
+                ReplayRow filled = row.withInputs(summary.getChiefComplaint(), summary.getHistoryOfPresentIllness());
+                evaluable.add(filled);
+                backfilled.add(filled);
+            }
+        }
+
+        if (!dryRun && !backfilled.isEmpty()) {
+            transactionTemplate.execute(tx -> {
+                replayRepository.insertInputs(backfilled);
+                return null;
+            });
+        }
+        return evaluable;
+    }
+
+    private List<PriorityChange> evaluate(CompiledRuleSet rules, List<ReplayRow> rows,
+                                          Map<Long, ProfileSnapshotDTO> profiles) {
+        return evaluationPool.submit(() -> rows.parallelStream()
+                        .map(row -> reevaluate(rules, row, row.userId() != null ? profiles.get(row.userId()) : null))
+                        .filter(Objects::nonNull)
+                        .toList())
+                .join();
+    }
+
+    private PriorityChange reevaluate(CompiledRuleSet rules, ReplayRow row, ProfileSnapshotDTO profile) {
+        AnamnesisSummaryDTO summary = new AnamnesisSummaryDTO(row.chiefComplaint(), row.historyOfPresentIllness(),
+                null, null, null, row.redFlags(), null);
+        TriageAssessment assessment = triageDomainService.assess(rules, summary, profile);
+
+        if (assessment.priority() == row.priority() && Objects.equals(assessment.acuityScore(), row.acuityScore())) {
+            return null;
+        }
+        return new PriorityChange(row.id(), row.userId(), row.priority(), assessment.priority(),
+                assessment.acuityScore(), RecommendationTemplate.forPriority(assessment.priority()).name());
+    }
+
+    private List<PriorityChange> write(List<PriorityChange> changes) {
+        if (changes.isEmpty()) {
+            return changes;
+        }
+        List<PriorityChange> applied = transactionTemplate.execute(tx -> replayRepository.updateAll(changes));
+        if (applied == null) {
+            return List.of();
+        }
+        for (PriorityChange change : applied) {
+            if (change.priorityChanged()) {
+                domainEventPublisher.publishEvent(new TriageResultUpdatedDomainEvent(
+                        change.id(), change.userId(), change.oldPriority(), change.newPriority(), REASON));
+            }
+        }
+        return applied;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+        evaluationPool.shutdownNow();
+    }
+}
@@ -0,0 +1,185 @@
+package com.microservice.triage.application.internal.worklist;
+
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory read model of triage results waiting for a clinician, ordered by priority and age.
+ * <p>
+ * Entries are kept in a concurrent skip list sorted by {@link WorklistEntry#ORDER}, so readers
+ * iterate the most urgent cases first without locking or querying the database. A map by triage
+ * ID makes removals O(log n); all writes to an ID go through {@code ConcurrentHashMap.compute} so
+ * the two structures stay consistent.
+ * </p>
+ * <p>
+ * Every instance holds its own copy, fed through the broker: new triage results, re-triaged
+ * priorities and acknowledgements made through any instance are applied to all of them. Entries
+ * leave the worklist when a clinician acknowledges them or when they are older than the retention
+ * window. Listeners are notified of every change; the state is snapshotted to the database and
+ * restored on startup.
+ * </p>
+ */
+@Component
+public class TriageWorklist {
+
+    /**
+     * Receives worklist changes. Called on the thread that made the change; must not block.
+     */
+    public interface Listener {
+        void entryAdded(WorklistEntry entry);
+
+        void entryRemoved(WorklistEntry entry);
+    }
+
+    private final ConcurrentSkipListSet<WorklistEntry> entries = new ConcurrentSkipListSet<>(WorklistEntry.ORDER);
+    private final ConcurrentHashMap<Long, WorklistEntry> byTriageId = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong version = new AtomicLong();
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Adds an entry, replacing any entry with the same triage ID.
+     */
+    public void add(WorklistEntry entry) {
+        byTriageId.compute(entry.triageId(), (id, previous) -> {
+            if (previous != null) {
+                entries.remove(previous);
+            }
+            entries.add(entry);
+            return entry;
+        });
+        version.incrementAndGet();
+        listeners.forEach(listener -> listener.entryAdded(entry));
+    }
+
+    /**
+     * Adds entries restored from a snapshot without notifying listeners.
+     */
+    public void restore(Collection<WorklistEntry> restored) {
+        for (WorklistEntry entry : restored) {
+            byTriageId.compute(entry.triageId(), (id, previous) -> {
+                if (previous != null) {
+                    entries.remove(previous);
+                }
+                entries.add(entry);
+                return entry;
+            });
+        }
+        version.incrementAndGet();
+    }
+
+    /**
+     * Moves the entry of a triage result to a new priority, keeping its place in time. Listeners
+     * receive the moved entry as added; results not on the worklist are ignored.
+     *
+     * @return The moved entry, if it was on the worklist with another priority
+     */
+    public Optional<WorklistEntry> reprioritize(Long triageId, PriorityLevel priority) {
+        WorklistEntry[] moved = new WorklistEntry[1];
+        byTriageId.computeIfPresent(triageId, (id, previous) -> {
+            if (previous.priority() == priority) {
+                return previous;
+            }
+            WorklistEntry entry = new WorklistEntry(previous.triageId(), previous.userId(), previous.sessionId(),
+                    priority, previous.chiefComplaint(), previous.redFlagCount(), previous.createdAt());
+            entries.remove(previous);
+            entries.add(entry);
+            moved[0] = entry;
+            return entry;
+        });
+        if (moved[0] == null) {
+            return Optional.empty();
+        }
+        version.incrementAndGet();
+        listeners.forEach(listener -> listener.entryAdded(moved[0]));
+        return Optional.of(moved[0]);
+    }
+
+    /**
+     * Removes the entry of a triage result.
+     *
+     * @return The removed entry, if it was on the worklist
+     */
+    public Optional<WorklistEntry> remove(Long triageId) {
+        WorklistEntry[] removed = new WorklistEntry[1];
+        byTriageId.computeIfPresent(triageId, (id, previous) -> {
+            entries.remove(previous);
+            removed[0] = previous;
+            return null;
+        });
+        if (removed[0] == null) {
+            return Optional.empty();
+        }
+        version.incrementAndGet();
+        listeners.forEach(listener -> listener.entryRemoved(removed[0]));
+        return Optional.of(removed[0]);
+    }
+
+    /**
+     * Removes the entries created before the given instant.
+     *
+     * @return Number of entries removed
+     */
+    public int removeCreatedBefore(Instant cutoff) {
+        int removed = 0;
+        for (WorklistEntry entry : entries) {
+            if (entry.createdAt().isBefore(cutoff) && remove(entry.triageId()).isPresent()) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * @param priority Only entries with this priority, or all if null
+     * @param limit Maximum number of entries
+     * @return Entries in worklist order
+     */
+    public List<WorklistEntry> top(PriorityLevel priority, int limit) {
+        // Entries of one priority are contiguous in the skip list: start at the first of them
+        Iterable<WorklistEntry> candidates = priority == null ? entries : entries.tailSet(firstOf(priority));
+        List<WorklistEntry> result = new ArrayList<>(Math.min(limit, 64));
+        for (WorklistEntry entry : candidates) {
+            if (result.size() >= limit || (priority != null && entry.priority() != priority)) {
+                break;
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+
+    /**
+     * @return All entries in worklist order
+     */
+    public List<WorklistEntry> entries() {
+        return List.copyOf(entries);
+    }
+
+    public int size() {
+        return byTriageId.size();
+    }
+
+    /**
+     * @return A counter incremented on every change, used to skip unchanged snapshots
+     */
+    public long version() {
+        return version.get();
+    }
+
+    private static WorklistEntry firstOf(PriorityLevel priority) {
+        return new WorklistEntry(Long.MIN_VALUE, null, null, priority, null, 0, Instant.MIN);
+    }
+}
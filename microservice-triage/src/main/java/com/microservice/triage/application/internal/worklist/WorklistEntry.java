@@ -0,0 +1,41 @@
+package com.microservice.triage.application.internal.worklist;
+
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+
+import java.time.Instant;
+import java.util.Comparator;
+
+/**
+ * Entry of the triage worklist: a triage result waiting for a clinician.
+ *
+ * @param triageId The triage result ID
+ * @param userId The patient's user ID
+ * @param sessionId The anamnesis session ID
+ * @param priority The triage priority
+ * @param chiefComplaint The chief complaint, if known
+ * @param redFlagCount Number of red flags detected
+ * @param createdAt When the triage result was created
+ */
+public record WorklistEntry(
+        Long triageId,
+        Long userId,
+        Long sessionId,
+        PriorityLevel priority,
+        String chiefComplaint,
+        int redFlagCount,
+        Instant createdAt
+) {
+    /**
+     * Worklist order: most urgent priority first, then longest waiting, then triage ID.
+     */
+    public static final Comparator<WorklistEntry> ORDER = Comparator
+            .comparingInt((WorklistEntry entry) -> entry.priority().ordinal())
+            .thenComparing(WorklistEntry::createdAt)
+            .thenComparing(WorklistEntry::triageId);
+
+    public WorklistEntry {
+        if (triageId == null || priority == null || createdAt == null) {
+            throw new IllegalArgumentException("Worklist entry requires triage ID, priority and creation time");
+        }
+    }
+}
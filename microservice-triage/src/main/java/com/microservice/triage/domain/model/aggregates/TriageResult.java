@@ -1,6 +1,7 @@
 package com.microservice.triage.domain.model.aggregates;
 
 import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import com.microservice.triage.domain.model.valueobjects.TriageRecommendation;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,9 +19,17 @@ import java.util.List;
  * - Must be associated with a user and an anamnesis session
  * - Once created, the priority can be updated if new information arrives
  * - Risk factors and red flags must be preserved for audit
+ *
+ * Recommendations are stored as a template ID plus patient-specific additions and rendered on
+ * read. Free-text recommendations (and rows written before templates) use the TEXT column.
  */
 @Entity
-@Table(name = "triage_results")
+@Table(name = "triage_results", indexes = {
+        @Index(name = "uk_triage_results_session_id", columnList = "session_id", unique = true),
+        @Index(name = "idx_triage_results_user_id_created_at", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_triage_results_priority_created_at", columnList = "priority, created_at, id"),
+        @Index(name = "idx_triage_results_created_at", columnList = "created_at, id")
+})
 @Getter
 @NoArgsConstructor
 public class TriageResult {
@@ -39,6 +48,9 @@ public class TriageResult {
     @Column(nullable = false, length = 20)
     private PriorityLevel priority;
 
+    /** Weighted acuity score ranking results within a priority; null for results scored before it existed. */
+    private Double acuityScore;
+
     @ElementCollection
     @CollectionTable(name = "triage_risk_factors", joinColumns = @JoinColumn(name = "triage_result_id"))
     @Column(name = "risk_factor", length = 500)
@@ -49,6 +61,9 @@ public class TriageResult {
     @Column(name = "red_flag", length = 500)
     private List<String> redFlagsDetected = new ArrayList<>();
 
+    @Embedded
+    private TriageRecommendation recommendation;
+
     @Column(columnDefinition = "TEXT")
     private String recommendations;
 
@@ -64,13 +79,14 @@ public class TriageResult {
      * @param userId The patient's user ID
      * @param sessionId The anamnesis session ID
      * @param priority The calculated priority level
+     * @param acuityScore The acuity score within the priority
      * @param riskFactors List of identified risk factors
      * @param redFlags List of detected red flags
-     * @param recommendations Medical recommendations
+     * @param recommendation Medical recommendations
      */
-    public TriageResult(Long userId, Long sessionId, PriorityLevel priority,
+    public TriageResult(Long userId, Long sessionId, PriorityLevel priority, Double acuityScore,
                        List<String> riskFactors, List<String> redFlags,
-                       String recommendations) {
+                       TriageRecommendation recommendation) {
         validateUserId(userId);
         validateSessionId(sessionId);
         validatePriority(priority);
@@ -78,9 +94,10 @@ public class TriageResult {
         this.userId = userId;
         this.sessionId = sessionId;
         this.priority = priority;
+        this.acuityScore = acuityScore;
         this.riskFactors = riskFactors != null ? new ArrayList<>(riskFactors) : new ArrayList<>();
         this.redFlagsDetected = redFlags != null ? new ArrayList<>(redFlags) : new ArrayList<>();
-        this.recommendations = recommendations;
+        this.recommendation = recommendation;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -130,10 +147,20 @@ public class TriageResult {
      * @param recommendations New recommendations
      */
     public void updateRecommendations(String recommendations) {
+        this.recommendation = null;
         this.recommendations = recommendations;
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Gets the recommendations text.
+     *
+     * @return The rendered template, or the free-text recommendations
+     */
+    public String getRecommendations() {
+        return recommendation != null ? recommendation.render() : recommendations;
+    }
+
     /**
      * Checks if this is an emergency case.
      *
@@ -0,0 +1,18 @@
+package com.microservice.triage.domain.model.commands;
+
+import java.util.List;
+
+/**
+ * Command to create several triage results in one transaction.
+ * Results for sessions that already have a triage (or repeated within the batch) are skipped.
+ */
+public record CreateTriageResultBatchCommand(
+    List<CreateTriageResultCommand> results
+) {
+    public CreateTriageResultBatchCommand {
+        if (results == null || results.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one triage result");
+        }
+        results = List.copyOf(results);
+    }
+}
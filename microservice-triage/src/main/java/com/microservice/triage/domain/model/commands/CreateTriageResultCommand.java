@@ -1,19 +1,25 @@
 package com.microservice.triage.domain.model.commands;
 
 import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import com.microservice.triage.domain.model.valueobjects.TriageRecommendation;
 
 import java.util.List;
 
 /**
  * Command to create a new triage result.
+ * The chief complaint is forwarded to CaseDesk in the created event; it and the history of present
+ * illness are kept apart from the result, as the inputs a re-triage evaluates again.
  */
 public record CreateTriageResultCommand(
     Long userId,
     Long sessionId,
     PriorityLevel priority,
+    Double acuityScore,
     List<String> riskFactors,
     List<String> redFlagsDetected,
-    String recommendations
+    TriageRecommendation recommendation,
+    String chiefComplaint,
+    String historyOfPresentIllness
 ) {
     public CreateTriageResultCommand {
         if (userId == null || userId <= 0) {
@@ -17,12 +17,13 @@ public record TriageResultCreatedDomainEvent(
     PriorityLevel priority,
     List<String> riskFactors,
     List<String> redFlags,
+    String chiefComplaint,
     Instant occurredAt
 ) {
     public TriageResultCreatedDomainEvent(Long triageId, Long userId, Long sessionId,
                                          PriorityLevel priority, List<String> riskFactors,
-                                         List<String> redFlags) {
-        this(triageId, userId, sessionId, priority, riskFactors, redFlags, Instant.now());
+                                         List<String> redFlags, String chiefComplaint) {
+        this(triageId, userId, sessionId, priority, riskFactors, redFlags, chiefComplaint, Instant.now());
     }
 }
 
@@ -1,8 +1,17 @@
 package com.microservice.triage.domain.model.queries;
 
 /**
- * Query to get all triage results (admin only).
+ * Query to get the most recent triage results (admin only), newest first.
+ *
+ * @param limit Maximum number of results
  */
-public record GetAllTriagesQuery() {
-}
+public record GetAllTriagesQuery(int limit) {
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
 
+    public GetAllTriagesQuery {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.microservice.triage.domain.model.queries;
+
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import com.microservice.triage.domain.model.valueobjects.TriageCursor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query to get a page of triage results, newest first, with optional filters.
+ *
+ * @param userId Only results of this user, or all if null
+ * @param priority Only results with this priority, or all if null
+ * @param from Only results created at or after this time, if set
+ * @param to Only results created before this time, if set
+ * @param cursor Cursor returned with the previous page, or null for the first page
+ * @param size Page size
+ */
+public record SearchTriagesQuery(
+        Long userId,
+        PriorityLevel priority,
+        LocalDateTime from,
+        LocalDateTime to,
+        TriageCursor cursor,
+        int size
+) {
+    public static final int MAX_SIZE = 100;
+
+    public SearchTriagesQuery {
+        if (userId != null && userId <= 0) {
+            throw new IllegalArgumentException("User ID must be a positive number");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SIZE);
+        }
+    }
+}
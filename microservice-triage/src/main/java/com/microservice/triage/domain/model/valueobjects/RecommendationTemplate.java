@@ -0,0 +1,52 @@
+package com.microservice.triage.domain.model.valueobjects;
+
+/**
+ * Recommendation text shared by every triage result of a priority level.
+ * <p>
+ * Triage results store the template ID instead of the text. Template texts must never change
+ * once stored: to reword one, add a new version and point {@link #forPriority} to it.
+ * </p>
+ */
+public enum RecommendationTemplate {
+    EMERGENCY_V1("⚠️ ATENCIÓN MÉDICA INMEDIATA REQUERIDA:\n"
+            + "- Acudir a emergencias inmediatamente o llamar al 911/105\n"
+            + "- No conducir, solicitar ambulancia o transporte asistido\n"
+            + "- No ingerir alimentos ni medicamentos hasta evaluación médica\n"),
+
+    HIGH_V1("🔴 ATENCIÓN MÉDICA URGENTE (dentro de las próximas horas):\n"
+            + "- Acudir a centro de salud u hospital en las próximas 2-4 horas\n"
+            + "- Monitorear síntomas de cerca\n"
+            + "- Preparar lista de medicamentos actuales y alergias\n"),
+
+    MODERATE_V1("🟡 ATENCIÓN MÉDICA NECESARIA (24-48 horas):\n"
+            + "- Agendar cita médica en las próximas 24-48 horas\n"
+            + "- Mantener reposo relativo\n"
+            + "- Hidratación adecuada\n"),
+
+    LOW_V1("🟢 CUIDADOS GENERALES:\n"
+            + "- Descanso adecuado\n"
+            + "- Hidratación\n"
+            + "- Consultar si los síntomas empeoran\n");
+
+    private final String text;
+
+    RecommendationTemplate(String text) {
+        this.text = text;
+    }
+
+    public String text() {
+        return text;
+    }
+
+    /**
+     * @return The current template of a priority level
+     */
+    public static RecommendationTemplate forPriority(PriorityLevel priority) {
+        return switch (priority) {
+            case EMERGENCY -> EMERGENCY_V1;
+            case HIGH -> HIGH_V1;
+            case MODERATE -> MODERATE_V1;
+            case LOW -> LOW_V1;
+        };
+    }
+}
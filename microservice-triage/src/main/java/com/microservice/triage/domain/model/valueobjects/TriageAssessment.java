@@ -0,0 +1,16 @@
+package com.microservice.triage.domain.model.valueobjects;
+
+/**
+ * Outcome of evaluating the triage rules for a summary.
+ *
+ * @param priority The priority of the rule that fired
+ * @param acuityScore Weighted score ranking results within a priority; higher is more acute
+ * @param ruleId The rule that fired, or "default"
+ */
+public record TriageAssessment(PriorityLevel priority, double acuityScore, String ruleId) {
+    public TriageAssessment {
+        if (priority == null) {
+            throw new IllegalArgumentException("Priority level cannot be null");
+        }
+    }
+}
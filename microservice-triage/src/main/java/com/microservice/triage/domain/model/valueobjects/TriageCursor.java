@@ -0,0 +1,41 @@
+package com.microservice.triage.domain.model.valueobjects;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset pagination cursor over triage results ordered by creation time and ID, newest first.
+ * Encoded as an opaque URL-safe string for clients.
+ *
+ * @param createdAt Creation time of the last result of the previous page
+ * @param id ID of the last result of the previous page
+ */
+public record TriageCursor(LocalDateTime createdAt, Long id) {
+
+    public TriageCursor {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("Cursor requires creation time and ID");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static TriageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new TriageCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
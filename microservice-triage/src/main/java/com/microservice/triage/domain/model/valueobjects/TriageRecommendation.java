@@ -0,0 +1,51 @@
+package com.microservice.triage.domain.model.valueobjects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+/**
+ * Recommendations of a triage result, stored as a template ID plus the patient-specific
+ * additions and rendered when read.
+ *
+ * @param template The recommendation template of the priority level
+ * @param allergies Known allergies, comma-separated, or null if none
+ * @param chronicConditions Chronic conditions, comma-separated, or null if none
+ */
+@Embeddable
+public record TriageRecommendation(
+        @Enumerated(EnumType.STRING)
+        @Column(name = "recommendation_template", length = 40)
+        RecommendationTemplate template,
+
+        @Column(name = "recommendation_allergies", columnDefinition = "TEXT")
+        String allergies,
+
+        @Column(name = "recommendation_chronic_conditions", columnDefinition = "TEXT")
+        String chronicConditions
+) {
+    public TriageRecommendation {
+        if (template == null) {
+            throw new IllegalArgumentException("Recommendation template cannot be null");
+        }
+    }
+
+    /**
+     * @return The full recommendation text
+     */
+    public String render() {
+        if (allergies == null && chronicConditions == null) {
+            return template.text();
+        }
+        StringBuilder text = new StringBuilder(template.text());
+        if (allergies != null) {
+            text.append("\n⚠️ ALERGIAS CONOCIDAS: ").append(allergies)
+                    .append("\n- Informar al personal médico sobre alergias");
+        }
+        if (chronicConditions != null) {
+            text.append("\n📋 CONDICIONES CRÓNICAS: ").append(chronicConditions);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,11 @@
+package com.microservice.triage.domain.model.valueobjects;
+
+import com.microservice.triage.domain.model.aggregates.TriageResult;
+
+import java.util.List;
+
+/**
+ * A page of triage results and the cursor of the next page, or null if this is the last one.
+ */
+public record TriageResultPage(List<TriageResult> items, TriageCursor nextCursor) {
+}
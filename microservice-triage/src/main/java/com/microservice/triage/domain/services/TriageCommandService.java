@@ -1,6 +1,7 @@
 package com.microservice.triage.domain.services;
 
 import com.microservice.triage.domain.model.aggregates.TriageResult;
+import com.microservice.triage.domain.model.commands.CreateTriageResultBatchCommand;
 import com.microservice.triage.domain.model.commands.CreateTriageResultCommand;
 import com.microservice.triage.domain.model.queries.GetAllTriagesQuery;
 import com.microservice.triage.domain.model.queries.GetTriageByIdQuery;
@@ -23,5 +24,13 @@ public interface TriageCommandService {
      * @return The created triage result
      */
     Optional<TriageResult> handle(CreateTriageResultCommand command);
+
+    /**
+     * Creates triage results in bulk, skipping sessions that were already triaged.
+     *
+     * @param command The batch command
+     * @return The newly created triage results
+     */
+    List<TriageResult> handle(CreateTriageResultBatchCommand command);
 }
 
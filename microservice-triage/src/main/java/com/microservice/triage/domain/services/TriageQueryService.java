@@ -5,6 +5,8 @@ import com.microservice.triage.domain.model.queries.GetAllTriagesQuery;
 import com.microservice.triage.domain.model.queries.GetTriageByIdQuery;
 import com.microservice.triage.domain.model.queries.GetTriageBySessionIdQuery;
 import com.microservice.triage.domain.model.queries.GetTriageByUserIdQuery;
+import com.microservice.triage.domain.model.queries.SearchTriagesQuery;
+import com.microservice.triage.domain.model.valueobjects.TriageResultPage;
 
 import java.util.List;
 import java.util.Optional;
@@ -40,11 +42,18 @@ public interface TriageQueryService {
     Optional<TriageResult> handle(GetTriageBySessionIdQuery query);
 
     /**
-     * Gets all triage results (admin only).
+     * Gets the most recent triage results (admin only).
      *
-     * @param query The query
-     * @return List of all triage results
+     * @param query The query with the result limit
+     * @return Triage results, newest first
      */
     List<TriageResult> handle(GetAllTriagesQuery query);
-}
 
+    /**
+     * Gets a page of triage results, newest first.
+     *
+     * @param query The query with filters and cursor
+     * @return The page and the cursor of the next one
+     */
+    TriageResultPage handle(SearchTriagesQuery query);
+}
@@ -0,0 +1,267 @@
+package com.microservice.triage.domain.services.rules;
+
+import com.microservice.triage.application.dto.AnamnesisSummaryDTO;
+import com.microservice.triage.application.dto.ProfileSnapshotDTO;
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, compiled form of the triage rules.
+ * <p>
+ * Concept keywords are compiled into a single {@link KeywordAutomaton} and every rule into
+ * concept bitmasks, ordered from the most to the least severe priority (declaration order within
+ * a priority). Evaluation scans each summary field once and walks the primitive rule arrays until
+ * the first rule fires; it allocates nothing.
+ * </p>
+ * <p>
+ * The same scan feeds the acuity score ({@link TriageScoringWeights}): concept weights are held
+ * in a primitive array indexed by concept bit, and {@link #evaluate} writes each contribution
+ * into a caller-supplied score vector (see {@link #scoreComponentName}), so a score can always be
+ * explained term by term.
+ * </p>
+ */
+public final class CompiledRuleSet {
+
+    /** Priority when no rule fires. */
+    public static final PriorityLevel DEFAULT_PRIORITY = PriorityLevel.LOW;
+
+    /** Score vector components; concept contributions follow, in concept bit order. */
+    public static final int SCORE_RED_FLAGS = 0;
+    public static final int SCORE_AGE = 1;
+    public static final int SCORE_PREGNANCY = 2;
+    public static final int SCORE_CHRONIC_CONDITIONS = 3;
+    private static final int SCORE_CONCEPTS = 4;
+    private static final String[] FACTOR_NAMES = {"red-flags", "age", "pregnancy", "chronic-conditions"};
+
+    private static final int CHILD_AGE_LIMIT = 5;
+    private static final int OLDER_ADULT_AGE_LIMIT = 65;
+
+    private final KeywordAutomaton automaton;
+    private final String[] ids;
+    private final PriorityLevel[] priorities;
+    private final long[] allMasks;
+    private final long[] anyMasks;
+    private final int[] minAny;
+    private final long[] noneMasks;
+    private final boolean[] requiresRedFlags;
+    private final boolean[] matchRedFlags;
+    private final boolean[] requiresPregnancy;
+    private final boolean scansRedFlags;
+    private final double[] conceptWeights;
+    private final TriageScoringWeights weights;
+
+    private CompiledRuleSet(KeywordAutomaton automaton, List<TriageRuleDefinition> rules,
+                            TriageScoringWeights weights) {
+        int size = rules.size();
+        this.automaton = automaton;
+        this.ids = new String[size];
+        this.priorities = new PriorityLevel[size];
+        this.allMasks = new long[size];
+        this.anyMasks = new long[size];
+        this.minAny = new int[size];
+        this.noneMasks = new long[size];
+        this.requiresRedFlags = new boolean[size];
+        this.matchRedFlags = new boolean[size];
+        this.requiresPregnancy = new boolean[size];
+
+        boolean scansRedFlags = false;
+        for (int i = 0; i < size; i++) {
+            TriageRuleDefinition rule = rules.get(i);
+            ids[i] = rule.id();
+            priorities[i] = rule.priority();
+            allMasks[i] = masks(rule.id(), rule.all());
+            anyMasks[i] = masks(rule.id(), rule.any());
+            minAny[i] = rule.any().isEmpty() ? 0 : rule.minAny();
+            noneMasks[i] = masks(rule.id(), rule.none());
+            requiresRedFlags[i] = rule.requiresRedFlags();
+            matchRedFlags[i] = rule.matchRedFlags();
+            requiresPregnancy[i] = rule.requiresPregnancy();
+            scansRedFlags |= rule.matchRedFlags();
+        }
+        this.scansRedFlags = scansRedFlags;
+
+        this.weights = weights;
+        this.conceptWeights = new double[automaton.concepts().size()];
+        weights.concepts().forEach((concept, weight) -> {
+            try {
+                conceptWeights[Long.numberOfTrailingZeros(automaton.conceptMask(concept))] = weight;
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Scoring weight references unknown concept: " + concept, e);
+            }
+        });
+    }
+
+    /**
+     * Compiles concept keywords and rules.
+     *
+     * @param concepts Keywords per concept name
+     * @param rules Rule definitions; every referenced concept must be defined
+     * @return The compiled rule set
+     * @throws IllegalArgumentException If the definitions are invalid
+     */
+    public static CompiledRuleSet compile(Map<String, ? extends Collection<String>> concepts,
+                                          List<TriageRuleDefinition> rules) {
+        return compile(concepts, rules, TriageScoringWeights.NONE);
+    }
+
+    /**
+     * Compiles concept keywords, rules and scoring weights.
+     *
+     * @param concepts Keywords per concept name
+     * @param rules Rule definitions; every referenced concept must be defined
+     * @param weights Scoring weights; every weighted concept must be defined
+     * @return The compiled rule set
+     * @throws IllegalArgumentException If the definitions are invalid
+     */
+    public static CompiledRuleSet compile(Map<String, ? extends Collection<String>> concepts,
+                                          List<TriageRuleDefinition> rules,
+                                          TriageScoringWeights weights) {
+        if (rules == null || rules.isEmpty()) {
+            throw new IllegalArgumentException("At least one triage rule is required");
+        }
+        List<TriageRuleDefinition> ordered = new ArrayList<>(rules);
+        ordered.sort(Comparator.comparingInt(rule -> rule.priority().ordinal()));
+        return new CompiledRuleSet(KeywordAutomaton.compile(concepts), ordered,
+                weights != null ? weights : TriageScoringWeights.NONE);
+    }
+
+    /**
+     * Finds the first (most severe) rule that fires for a summary.
+     *
+     * @param summary The anamnesis summary
+     * @param profile The patient profile, may be null
+     * @return Index of the rule that fired, or -1 if none did
+     */
+    public int match(AnamnesisSummaryDTO summary, ProfileSnapshotDTO profile) {
+        return evaluate(summary, profile, null);
+    }
+
+    /**
+     * Finds the first (most severe) rule that fires for a summary and computes its acuity score.
+     *
+     * @param summary The anamnesis summary
+     * @param profile The patient profile, may be null
+     * @param scoreVector Receives each score contribution; length {@link #scoreVectorLength()},
+     *                    or null to skip scoring
+     * @return Index of the rule that fired, or -1 if none did
+     */
+    public int evaluate(AnamnesisSummaryDTO summary, ProfileSnapshotDTO profile, double[] scoreVector) {
+        long clinical = automaton.scan(0L, summary.getChiefComplaint());
+        clinical = automaton.scan(clinical, summary.getHistoryOfPresentIllness());
+
+        List<String> redFlags = summary.getRedFlags();
+        boolean hasRedFlags = redFlags != null && !redFlags.isEmpty();
+        long withRedFlags = scansRedFlags && hasRedFlags ? automaton.scanAll(clinical, redFlags) : clinical;
+        boolean pregnant = profile != null && Boolean.TRUE.equals(profile.getIsPregnant());
+
+        if (scoreVector != null) {
+            score(clinical, hasRedFlags ? redFlags.size() : 0, profile, pregnant, scoreVector);
+        }
+
+        for (int i = 0; i < ids.length; i++) {
+            if ((requiresRedFlags[i] && !hasRedFlags) || (requiresPregnancy[i] && !pregnant)) {
+                continue;
+            }
+            long matched = matchRedFlags[i] ? withRedFlags : clinical;
+            if ((matched & allMasks[i]) != allMasks[i] || (matched & noneMasks[i]) != 0) {
+                continue;
+            }
+            if (minAny[i] > 0 && Long.bitCount(matched & anyMasks[i]) < minAny[i]) {
+                continue;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * @param ruleIndex Result of {@link #match}
+     * @return Priority of the rule, or the default priority when no rule fired
+     */
+    public PriorityLevel priorityOf(int ruleIndex) {
+        return ruleIndex < 0 ? DEFAULT_PRIORITY : priorities[ruleIndex];
+    }
+
+    /**
+     * @param ruleIndex Result of {@link #match}
+     * @return Id of the rule, or "default" when no rule fired
+     */
+    public String ruleIdOf(int ruleIndex) {
+        return ruleIndex < 0 ? "default" : ids[ruleIndex];
+    }
+
+    /**
+     * @return Length of the score vector passed to {@link #evaluate}
+     */
+    public int scoreVectorLength() {
+        return SCORE_CONCEPTS + conceptWeights.length;
+    }
+
+    /**
+     * @param component Index in the score vector
+     * @return Name of the factor or concept the component scores
+     */
+    public String scoreComponentName(int component) {
+        return component < SCORE_CONCEPTS
+                ? FACTOR_NAMES[component]
+                : automaton.concepts().get(component - SCORE_CONCEPTS);
+    }
+
+    /**
+     * @return Sum of a score vector
+     */
+    public static double total(double[] scoreVector) {
+        double total = 0;
+        for (double component : scoreVector) {
+            total += component;
+        }
+        return total;
+    }
+
+    public int ruleCount() {
+        return ids.length;
+    }
+
+    public int conceptCount() {
+        return automaton.concepts().size();
+    }
+
+    private void score(long clinical, int redFlagCount, ProfileSnapshotDTO profile, boolean pregnant,
+                       double[] scoreVector) {
+        scoreVector[SCORE_RED_FLAGS] = weights.redFlag() * Math.min(redFlagCount, weights.maxRedFlags());
+
+        Integer age = profile != null ? profile.getAge() : null;
+        scoreVector[SCORE_AGE] = age == null ? 0
+                : age < CHILD_AGE_LIMIT ? weights.childAge()
+                : age > OLDER_ADULT_AGE_LIMIT ? weights.olderAdultAge()
+                : 0;
+
+        scoreVector[SCORE_PREGNANCY] = pregnant ? weights.pregnancy() : 0;
+
+        List<String> chronicConditions = profile != null ? profile.getChronicConditions() : null;
+        int chronicCount = chronicConditions != null ? chronicConditions.size() : 0;
+        scoreVector[SCORE_CHRONIC_CONDITIONS] = weights.chronicCondition()
+                * Math.min(chronicCount, weights.maxChronicConditions());
+
+        for (int concept = 0; concept < conceptWeights.length; concept++) {
+            scoreVector[SCORE_CONCEPTS + concept] = (clinical & (1L << concept)) != 0 ? conceptWeights[concept] : 0;
+        }
+    }
+
+    private long masks(String ruleId, List<String> concepts) {
+        long mask = 0L;
+        for (String concept : concepts) {
+            try {
+                mask |= automaton.conceptMask(concept);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Rule " + ruleId + " references unknown concept: " + concept, e);
+            }
+        }
+        return mask;
+    }
+}
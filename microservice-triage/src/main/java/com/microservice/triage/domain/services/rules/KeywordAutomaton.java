@@ -0,0 +1,297 @@
+package com.microservice.triage.domain.services.rules;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aho-Corasick automaton that finds clinical concepts in free text in a single pass.
+ * <p>
+ * Every keyword is mapped to a concept; scanning a text returns the set of matched concepts as a
+ * bitmask (at most 64 concepts per automaton). Matching is case- and accent-insensitive and
+ * runs of non-alphanumeric characters are collapsed into a single word separator, so
+ * "Dolor  de pecho" matches "dolor de pecho".
+ * </p>
+ * <p>
+ * Word boundaries: a keyword must start at the beginning of a word, so "39" does not match inside
+ * "139". Keywords ending in a digit must also end at a word end ("39" does not match "390"), while
+ * keywords ending in a letter accept inflected forms ("vómito" matches "vómitos").
+ * </p>
+ * <p>
+ * The automaton is immutable and thread-safe; the transition table is a dense DFA so scanning
+ * performs one array lookup per character and allocates nothing.
+ * </p>
+ */
+public final class KeywordAutomaton {
+
+    /** Maximum number of distinct concepts, bounded by the width of the result bitmask. */
+    public static final int MAX_CONCEPTS = Long.SIZE;
+
+    private static final int FOLD_TABLE_SIZE = 0x250;
+    private static final char[] FOLD = buildFoldTable();
+
+    /** Symbol for word separators (any run of non-alphanumeric characters). */
+    private static final int SEPARATOR = 0;
+    /** Symbol for alphanumeric characters that appear in no keyword. */
+    private static final int OTHER = 1;
+
+    private final List<String> concepts;
+    private final Map<String, Integer> conceptIds;
+    private final int[] symbolOf;
+    private final int alphabetSize;
+    private final int[] transitions;
+    private final long[] outputs;
+
+    private KeywordAutomaton(List<String> concepts, int[] symbolOf, int alphabetSize, int[] transitions, long[] outputs) {
+        this.concepts = List.copyOf(concepts);
+        this.conceptIds = new HashMap<>();
+        for (int i = 0; i < concepts.size(); i++) {
+            conceptIds.put(concepts.get(i), i);
+        }
+        this.symbolOf = symbolOf;
+        this.alphabetSize = alphabetSize;
+        this.transitions = transitions;
+        this.outputs = outputs;
+    }
+
+    /**
+     * Compiles an automaton from concept definitions.
+     *
+     * @param conceptKeywords Keywords per concept name; iteration order defines concept ids
+     * @return The compiled automaton
+     */
+    public static KeywordAutomaton compile(Map<String, ? extends Collection<String>> conceptKeywords) {
+        if (conceptKeywords.size() > MAX_CONCEPTS) {
+            throw new IllegalArgumentException("At most " + MAX_CONCEPTS + " concepts are supported, got " + conceptKeywords.size());
+        }
+
+        // Normalize keywords and collect the alphabet
+        List<String> concepts = new ArrayList<>(conceptKeywords.keySet());
+        Map<String, Long> patterns = new LinkedHashMap<>();
+        for (int conceptId = 0; conceptId < concepts.size(); conceptId++) {
+            for (String keyword : conceptKeywords.get(concepts.get(conceptId))) {
+                String pattern = normalizeKeyword(keyword);
+                if (pattern.length() < 2) {
+                    throw new IllegalArgumentException("Keyword must contain at least one alphanumeric character: '" + keyword + "'");
+                }
+                if (pattern.chars().anyMatch(c -> c >= FOLD_TABLE_SIZE)) {
+                    throw new IllegalArgumentException("Keyword contains unsupported characters: '" + keyword + "'");
+                }
+                patterns.merge(pattern, 1L << conceptId, (a, b) -> a | b);
+            }
+        }
+
+        int[] symbolOf = new int[FOLD_TABLE_SIZE];
+        int alphabetSize = 2;
+        for (String pattern : patterns.keySet()) {
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c != ' ' && symbolOf[c] == 0) {
+                    symbolOf[c] = alphabetSize++;
+                }
+            }
+        }
+
+        // Trie
+        List<int[]> gotoRows = new ArrayList<>();
+        List<Long> outputList = new ArrayList<>();
+        gotoRows.add(newRow(alphabetSize));
+        outputList.add(0L);
+        for (Map.Entry<String, Long> entry : patterns.entrySet()) {
+            String pattern = entry.getKey();
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int symbol = symbolFor(symbolOf, pattern.charAt(i));
+                int next = gotoRows.get(state)[symbol];
+                if (next < 0) {
+                    next = gotoRows.size();
+                    gotoRows.add(newRow(alphabetSize));
+                    outputList.add(0L);
+                    gotoRows.get(state)[symbol] = next;
+                }
+                state = next;
+            }
+            outputList.set(state, outputList.get(state) | entry.getValue());
+        }
+
+        // Failure links, folded into a complete DFA in breadth-first order
+        int stateCount = gotoRows.size();
+        int[] transitions = new int[stateCount * alphabetSize];
+        long[] outputs = new long[stateCount];
+        int[] failure = new int[stateCount];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+
+        int[] rootRow = gotoRows.get(0);
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            int next = rootRow[symbol];
+            if (next < 0) {
+                transitions[symbol] = 0;
+            } else {
+                transitions[symbol] = next;
+                failure[next] = 0;
+                queue.add(next);
+            }
+        }
+        outputs[0] = outputList.get(0);
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] = outputList.get(state) | outputs[failure[state]];
+            int[] row = gotoRows.get(state);
+            for (int symbol = 0; symbol < alphabetSize; symbol++) {
+                int next = row[symbol];
+                int fallback = transitions[failure[state] * alphabetSize + symbol];
+                if (next < 0) {
+                    transitions[state * alphabetSize + symbol] = fallback;
+                } else {
+                    transitions[state * alphabetSize + symbol] = next;
+                    failure[next] = fallback;
+                    queue.add(next);
+                }
+            }
+        }
+
+        return new KeywordAutomaton(concepts, symbolOf, alphabetSize, transitions, outputs);
+    }
+
+    /**
+     * Scans a text and returns the concepts found in it, combined with the concepts already found.
+     *
+     * @param matched Concepts matched so far (0 for none)
+     * @param text Text to scan; may be null
+     * @return Bitmask of matched concept ids
+     */
+    public long scan(long matched, CharSequence text) {
+        if (text == null) {
+            return matched;
+        }
+        final int[] delta = transitions;
+        final int width = alphabetSize;
+        int state = delta[SEPARATOR];
+        boolean separated = true;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            int symbol = symbolFor(symbolOf, fold(text.charAt(i)));
+            if (symbol == SEPARATOR) {
+                if (separated) {
+                    continue;
+                }
+                separated = true;
+            } else {
+                separated = false;
+            }
+            state = delta[state * width + symbol];
+            matched |= outputs[state];
+        }
+        if (!separated) {
+            matched |= outputs[delta[state * width + SEPARATOR]];
+        }
+        return matched;
+    }
+
+    /**
+     * Scans several texts as independent fields (no match spans two of them).
+     *
+     * @param matched Concepts matched so far (0 for none)
+     * @param texts Texts to scan; null elements are ignored
+     * @return Bitmask of matched concept ids
+     */
+    public long scanAll(long matched, List<String> texts) {
+        if (texts != null) {
+            for (int i = 0; i < texts.size(); i++) {
+                matched = scan(matched, texts.get(i));
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * @param concept Concept name
+     * @return The bit of the concept in scan results
+     */
+    public long conceptMask(String concept) {
+        Integer id = conceptIds.get(concept);
+        if (id == null) {
+            throw new IllegalArgumentException("Unknown concept: " + concept);
+        }
+        return 1L << id;
+    }
+
+    public List<String> concepts() {
+        return concepts;
+    }
+
+    public int stateCount() {
+        return outputs.length;
+    }
+
+    /**
+     * Decodes a scan result into concept names, for logging and diagnostics.
+     */
+    public List<String> conceptNames(long matched) {
+        List<String> names = new ArrayList<>(Long.bitCount(matched));
+        for (long bits = matched; bits != 0; bits &= bits - 1) {
+            names.add(concepts.get(Long.numberOfTrailingZeros(bits)));
+        }
+        return names;
+    }
+
+    /**
+     * Encodes a keyword as a separator-delimited pattern; a trailing separator is kept only
+     * for keywords ending in a digit, which must therefore match whole numbers.
+     */
+    private static String normalizeKeyword(String keyword) {
+        StringBuilder pattern = new StringBuilder(keyword.length() + 2).append(' ');
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = fold(keyword.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                pattern.append(c);
+            } else if (pattern.charAt(pattern.length() - 1) != ' ') {
+                pattern.append(' ');
+            }
+        }
+        int end = pattern.length();
+        while (end > 1 && pattern.charAt(end - 1) == ' ') {
+            end--;
+        }
+        pattern.setLength(end);
+        if (end > 1 && Character.isDigit(pattern.charAt(end - 1))) {
+            pattern.append(' ');
+        }
+        return pattern.toString();
+    }
+
+    private static int symbolFor(int[] symbolOf, char c) {
+        if (c < FOLD_TABLE_SIZE) {
+            int symbol = symbolOf[c];
+            if (symbol != 0) {
+                return symbol;
+            }
+        }
+        return c == ' ' || !Character.isLetterOrDigit(c) ? SEPARATOR : OTHER;
+    }
+
+    private static char fold(char c) {
+        return c < FOLD_TABLE_SIZE ? FOLD[c] : Character.toLowerCase(c);
+    }
+
+    private static int[] newRow(int alphabetSize) {
+        int[] row = new int[alphabetSize];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static char[] buildFoldTable() {
+        char[] table = new char[FOLD_TABLE_SIZE];
+        for (char c = 0; c < FOLD_TABLE_SIZE; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            table[c] = Character.toLowerCase(decomposed.charAt(0));
+        }
+        return table;
+    }
+}
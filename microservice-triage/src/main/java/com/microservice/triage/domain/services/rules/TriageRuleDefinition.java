@@ -0,0 +1,54 @@
+package com.microservice.triage.domain.services.rules;
+
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+
+import java.util.List;
+
+/**
+ * Declarative triage rule.
+ * <p>
+ * A rule fires when every concept in {@code all} matched, at least {@code minAny} concepts of
+ * {@code any} matched (when {@code any} is not empty) and no concept in {@code none} matched.
+ * Concepts are matched in the chief complaint and history of present illness, plus the red flags
+ * when {@code matchRedFlags} is set.
+ * </p>
+ *
+ * @param id Rule identifier, used in logs
+ * @param priority Priority assigned when the rule fires
+ * @param all Concepts that must all match
+ * @param any Concepts of which at least {@code minAny} must match
+ * @param minAny Minimum number of {@code any} concepts
+ * @param none Concepts that must not match
+ * @param requiresRedFlags Rule only applies when the summary reports red flags
+ * @param matchRedFlags Red flag texts are scanned for concepts too
+ * @param requiresPregnancy Rule only applies to pregnant patients
+ */
+public record TriageRuleDefinition(
+        String id,
+        PriorityLevel priority,
+        List<String> all,
+        List<String> any,
+        int minAny,
+        List<String> none,
+        boolean requiresRedFlags,
+        boolean matchRedFlags,
+        boolean requiresPregnancy
+) {
+    public TriageRuleDefinition {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Rule id cannot be null or empty");
+        }
+        if (priority == null) {
+            throw new IllegalArgumentException("Rule " + id + " must define a priority");
+        }
+        all = all == null ? List.of() : List.copyOf(all);
+        any = any == null ? List.of() : List.copyOf(any);
+        none = none == null ? List.of() : List.copyOf(none);
+        if (all.isEmpty() && any.isEmpty()) {
+            throw new IllegalArgumentException("Rule " + id + " must reference at least one concept in 'all' or 'any'");
+        }
+        if (!any.isEmpty() && (minAny < 1 || minAny > any.size())) {
+            throw new IllegalArgumentException("Rule " + id + " has min-any " + minAny + " outside 1.." + any.size());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.microservice.triage.domain.services.rules;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the active {@link CompiledRuleSet}.
+ * <p>
+ * The rule set is immutable and published through a volatile reference, so a reload swaps it
+ * atomically: events being evaluated finish with the rules they started with and consumers are
+ * never paused.
+ * </p>
+ */
+@Component
+public class TriageRuleEngine {
+
+    private volatile CompiledRuleSet ruleSet;
+
+    /**
+     * @return The active rule set
+     * @throws IllegalStateException If no rules have been installed yet
+     */
+    public CompiledRuleSet current() {
+        CompiledRuleSet current = ruleSet;
+        if (current == null) {
+            throw new IllegalStateException("Triage rules have not been loaded");
+        }
+        return current;
+    }
+
+    public void install(CompiledRuleSet ruleSet) {
+        if (ruleSet == null) {
+            throw new IllegalArgumentException("Rule set cannot be null");
+        }
+        this.ruleSet = ruleSet;
+    }
+}
@@ -0,0 +1,42 @@
+package com.microservice.triage.domain.services.rules;
+
+import java.util.Map;
+
+/**
+ * Weights of the acuity score computed next to the triage priority.
+ * <p>
+ * The score adds the weight of every concept matched in the chief complaint and history, and
+ * weighted counts of red flags and chronic conditions (each capped), plus fixed weights for
+ * patients younger than 5 or older than 65 and for pregnancy. It ranks results within a priority;
+ * it never changes the priority.
+ * </p>
+ *
+ * @param concepts Weight per concept name; concepts not listed weigh 0
+ * @param redFlag Weight per red flag
+ * @param maxRedFlags Red flags counted at most
+ * @param childAge Weight for patients younger than 5
+ * @param olderAdultAge Weight for patients older than 65
+ * @param pregnancy Weight for pregnant patients
+ * @param chronicCondition Weight per chronic condition
+ * @param maxChronicConditions Chronic conditions counted at most
+ */
+public record TriageScoringWeights(
+        Map<String, Double> concepts,
+        double redFlag,
+        int maxRedFlags,
+        double childAge,
+        double olderAdultAge,
+        double pregnancy,
+        double chronicCondition,
+        int maxChronicConditions
+) {
+    /** Scores every result as 0. */
+    public static final TriageScoringWeights NONE = new TriageScoringWeights(Map.of(), 0, 0, 0, 0, 0, 0, 0);
+
+    public TriageScoringWeights {
+        concepts = concepts != null ? Map.copyOf(concepts) : Map.of();
+        if (maxRedFlags < 0 || maxChronicConditions < 0) {
+            throw new IllegalArgumentException("Scoring caps cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.microservice.triage.infrastructure.clients;
+
+import com.microservice.triage.application.clients.ProfileClient;
+import com.microservice.triage.application.dto.ProfileLookupDTO;
+import com.microservice.triage.application.dto.ProfileSnapshotDTO;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ProfileClient that serves profiles from the local snapshot cache and only calls the
+ * Profile microservice for users not cached yet. Profiles that could not be fetched are
+ * not cached, so the next triage of that user tries again.
+ */
+@Primary
+@Component
+public class CachingProfileClient implements ProfileClient {
+
+    private final ProfileSnapshotCache cache;
+    private final RestProfileClient restProfileClient;
+
+    public CachingProfileClient(ProfileSnapshotCache cache, RestProfileClient restProfileClient) {
+        this.cache = cache;
+        this.restProfileClient = restProfileClient;
+    }
+
+    @Override
+    public Optional<ProfileSnapshotDTO> getProfileByUserId(Long userId) {
+        Optional<ProfileSnapshotDTO> cached = cache.get(userId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<ProfileSnapshotDTO> fetched = restProfileClient.getProfileByUserId(userId);
+        fetched.ifPresent(profile -> cache.putIfAbsent(userId, profile));
+        return fetched;
+    }
+
+    @Override
+    public ProfileLookupDTO lookupProfilesByUserIds(Collection<Long> userIds) {
+        Set<Long> distinct = new LinkedHashSet<>(userIds);
+        Map<Long, ProfileSnapshotDTO> profiles = new HashMap<>(cache.getAll(distinct));
+        distinct.removeAll(profiles.keySet());
+        if (distinct.isEmpty()) {
+            return new ProfileLookupDTO(profiles, Set.of());
+        }
+
+        ProfileLookupDTO fetched = restProfileClient.lookupProfilesByUserIds(distinct);
+        fetched.profiles().forEach(cache::putIfAbsent);
+        profiles.putAll(fetched.profiles());
+        return new ProfileLookupDTO(profiles, fetched.unavailable());
+    }
+}
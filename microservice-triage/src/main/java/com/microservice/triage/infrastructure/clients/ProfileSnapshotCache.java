@@ -0,0 +1,81 @@
+package com.microservice.triage.infrastructure.clients;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microservice.triage.application.dto.ProfileSnapshotDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Local snapshot of patient profiles, keyed by userId.
+ *
+ * Entries are written by ProfileChangedEvents (authoritative, overwrite) and by REST lookups
+ * (only if no event arrived meanwhile). The TTL bounds staleness if an event is lost.
+ * Metrics are published under the cache name "profile.snapshot".
+ *
+ * Configuration:
+ * - services.profile.cache.max-size / services.profile.cache.ttl: bounds of the cache
+ */
+@Component
+public class ProfileSnapshotCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfileSnapshotCache.class);
+    private static final String CACHE_NAME = "profile.snapshot";
+
+    private final Cache<Long, ProfileSnapshotDTO> cache;
+
+    public ProfileSnapshotCache(@Value("${services.profile.cache.max-size:10000}") long maxSize,
+                                @Value("${services.profile.cache.ttl:12h}") Duration ttl,
+                                MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        logger.info("Profile snapshot cache max size: {}, ttl: {}", maxSize, ttl);
+    }
+
+    public Optional<ProfileSnapshotDTO> get(Long userId) {
+        return Optional.ofNullable(cache.getIfPresent(userId));
+    }
+
+    /**
+     * @return Cached snapshots of the given users; users not cached are absent
+     */
+    public Map<Long, ProfileSnapshotDTO> getAll(Collection<Long> userIds) {
+        Map<Long, ProfileSnapshotDTO> found = new HashMap<>();
+        for (Long userId : userIds) {
+            ProfileSnapshotDTO profile = cache.getIfPresent(userId);
+            if (profile != null) {
+                found.put(userId, profile);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Stores the snapshot carried by a profile event, replacing any previous entry.
+     */
+    public void put(ProfileSnapshotDTO profile) {
+        cache.put(profile.getUserId(), profile);
+    }
+
+    /**
+     * Stores a snapshot fetched over REST unless a (newer) event already filled the entry.
+     */
+    public void putIfAbsent(Long userId, ProfileSnapshotDTO profile) {
+        cache.asMap().putIfAbsent(userId, profile);
+    }
+}
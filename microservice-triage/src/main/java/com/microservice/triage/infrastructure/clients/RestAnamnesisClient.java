@@ -0,0 +1,96 @@
+package com.microservice.triage.infrastructure.clients;
+
+import com.microservice.triage.application.clients.AccessTokenRejectedException;
+import com.microservice.triage.application.clients.AnamnesisClient;
+import com.microservice.triage.application.dto.AnamnesisSummaryDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST client for Anamnesis microservice.
+ *
+ * Session summaries are looked up in batches of at most 1000 ids, the limit of the anamnesis bulk
+ * endpoint. Every call is bounded by services.anamnesis.timeout and retried at most
+ * services.anamnesis.retries times (not on client errors). A 401 or 403 is reported as an
+ * AccessTokenRejectedException, so the caller can tell an expired token from missing sessions.
+ */
+@Component
+public class RestAnamnesisClient implements AnamnesisClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestAnamnesisClient.class);
+
+    private static final int MAX_IDS_PER_CALL = 1000;
+
+    private record SessionSummaryItem(Long sessionId, String chiefComplaint, String historyOfPresentIllness) {
+    }
+
+    private record SessionSummarySearch(List<Long> sessionIds) {
+    }
+
+    private final WebClient webClient;
+
+    @Value("${services.anamnesis.url:http://microservice-anamnesis}")
+    private String anamnesisServiceUrl;
+
+    @Value("${services.anamnesis.timeout:5s}")
+    private Duration timeout;
+
+    @Value("${services.anamnesis.retries:1}")
+    private int retries;
+
+    @Value("${services.anamnesis.retry-backoff:200ms}")
+    private Duration retryBackoff;
+
+    public RestAnamnesisClient(WebClient.Builder webClientBuilder) {
+        this.webClient = webClientBuilder.build();
+    }
+
+    @Override
+    public Map<Long, AnamnesisSummaryDTO> getSummariesBySessionIds(Collection<Long> sessionIds, String accessToken) {
+        logger.debug("Fetching summaries for {} sessions", sessionIds.size());
+
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(sessionIds));
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += MAX_IDS_PER_CALL) {
+            batches.add(distinctIds.subList(from, Math.min(from + MAX_IDS_PER_CALL, distinctIds.size())));
+        }
+
+        Map<Long, AnamnesisSummaryDTO> summaries = Flux.fromIterable(batches)
+                .concatMap(batch -> webClient.post()
+                        .uri(anamnesisServiceUrl + "/api/v1/anamnesis/summaries/search")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .bodyValue(new SessionSummarySearch(batch))
+                        .retrieve()
+                        .bodyToFlux(SessionSummaryItem.class)
+                        .timeout(timeout)
+                        .retryWhen(Retry.backoff(retries, retryBackoff)
+                                .filter(e -> !(e instanceof WebClientResponseException.BadRequest
+                                        || e instanceof WebClientResponseException.Unauthorized
+                                        || e instanceof WebClientResponseException.Forbidden))
+                                .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                        .onErrorMap(e -> e instanceof WebClientResponseException.Unauthorized
+                                        || e instanceof WebClientResponseException.Forbidden,
+                                e -> new AccessTokenRejectedException(
+                                        "Anamnesis rejected the access token: " + e.getMessage(), e)))
+                .collect(HashMap<Long, AnamnesisSummaryDTO>::new, (map, item) -> map.put(item.sessionId(),
+                        new AnamnesisSummaryDTO(item.chiefComplaint(), item.historyOfPresentIllness(),
+                                null, null, null, null, null)))
+                .block();
+
+        return summaries != null ? summaries : Map.of();
+    }
+}
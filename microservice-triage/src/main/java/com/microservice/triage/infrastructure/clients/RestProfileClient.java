@@ -1,6 +1,7 @@
 package com.microservice.triage.infrastructure.clients;
 
 import com.microservice.triage.application.clients.ProfileClient;
+import com.microservice.triage.application.dto.ProfileLookupDTO;
 import com.microservice.triage.application.dto.ProfileSnapshotDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,11 +9,24 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * REST client for Profile microservice.
+ *
+ * Every lookup is bounded by services.profile.timeout and retried at most
+ * services.profile.retries times (not on 404). A profile that cannot be fetched in time is
+ * reported as absent, and triage scores the case as "profile unknown" instead of waiting.
  */
 @Component
 public class RestProfileClient implements ProfileClient {
@@ -24,6 +38,18 @@ public class RestProfileClient implements ProfileClient {
     @Value("${services.profile.url:http://microservice-profiles}")
     private String profileServiceUrl;
 
+    @Value("${services.profile.max-concurrency:8}")
+    private int maxConcurrency;
+
+    @Value("${services.profile.timeout:800ms}")
+    private Duration timeout;
+
+    @Value("${services.profile.retries:1}")
+    private int retries;
+
+    @Value("${services.profile.retry-backoff:100ms}")
+    private Duration retryBackoff;
+
     public RestProfileClient(WebClient.Builder webClientBuilder) {
         this.webClient = webClientBuilder.build();
     }
@@ -33,11 +59,7 @@ public class RestProfileClient implements ProfileClient {
         logger.debug("Fetching profile for userId: {}", userId);
 
         try {
-            ProfileSnapshotDTO profile = webClient.get()
-                    .uri(profileServiceUrl + "/api/v1/profiles/user/{userId}", userId)
-                    .retrieve()
-                    .bodyToMono(ProfileSnapshotDTO.class)
-                    .block();
+            ProfileSnapshotDTO profile = fetchProfile(userId).block();
 
             logger.debug("Profile retrieved successfully for userId: {}", userId);
             return Optional.ofNullable(profile);
@@ -51,5 +73,44 @@ public class RestProfileClient implements ProfileClient {
             return Optional.empty();
         }
     }
-}
 
+    /**
+     * Fetches the distinct users' profiles concurrently (bounded by max-concurrency) and blocks
+     * once for the whole batch. The profile service has no bulk endpoint. A 404 means the user has
+     * no profile; any other error or a timeout marks the user as unavailable.
+     */
+    @Override
+    public ProfileLookupDTO lookupProfilesByUserIds(Collection<Long> userIds) {
+        logger.debug("Fetching profiles for {} users", userIds.size());
+
+        Map<Long, ProfileSnapshotDTO> profiles = new ConcurrentHashMap<>();
+        Set<Long> unavailable = ConcurrentHashMap.newKeySet();
+        Flux.fromIterable(new LinkedHashSet<>(userIds))
+                .flatMap(userId -> fetchProfile(userId)
+                        .doOnNext(profile -> profiles.put(userId, profile))
+                        .onErrorResume(WebClientResponseException.NotFound.class, e -> {
+                            logger.warn("Profile not found for userId: {}", userId);
+                            return Mono.empty();
+                        })
+                        .onErrorResume(e -> {
+                            logger.error("Error fetching profile for userId: {}", userId, e);
+                            unavailable.add(userId);
+                            return Mono.empty();
+                        }), maxConcurrency)
+                .then()
+                .block();
+
+        return new ProfileLookupDTO(profiles, unavailable);
+    }
+
+    private Mono<ProfileSnapshotDTO> fetchProfile(Long userId) {
+        return webClient.get()
+                .uri(profileServiceUrl + "/api/v1/profiles/user/{userId}", userId)
+                .retrieve()
+                .bodyToMono(ProfileSnapshotDTO.class)
+                .timeout(timeout)
+                .retryWhen(Retry.backoff(retries, retryBackoff)
+                        .filter(e -> !(e instanceof WebClientResponseException.NotFound))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+}
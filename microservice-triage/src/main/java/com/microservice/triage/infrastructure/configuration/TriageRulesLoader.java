@@ -0,0 +1,90 @@
+package com.microservice.triage.infrastructure.configuration;
+
+import com.microservice.triage.domain.services.rules.CompiledRuleSet;
+import com.microservice.triage.domain.services.rules.TriageRuleDefinition;
+import com.microservice.triage.domain.services.rules.TriageRuleEngine;
+import com.microservice.triage.domain.services.rules.TriageScoringWeights;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles the configured triage rules and installs them in the {@link TriageRuleEngine}.
+ * <p>
+ * Rules are compiled before the message consumers start; invalid rules fail the startup.
+ * After a configuration refresh ({@code POST /actuator/refresh}) the rules are recompiled on the
+ * refresh thread and swapped atomically; if the new definitions are invalid the previous rule set
+ * stays active.
+ * </p>
+ * <p>
+ * Every load binds {@code triage.rules} into a new {@link TriageRulesProperties}. Rebinding a
+ * long-lived instance merges maps into the existing ones, so a concept or weight removed from the
+ * configuration would stay active.
+ * </p>
+ */
+@Component
+public class TriageRulesLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(TriageRulesLoader.class);
+
+    private final Environment environment;
+    private final TriageRuleEngine ruleEngine;
+
+    private Map<String, List<String>> loadedConcepts;
+    private List<TriageRuleDefinition> loadedRules;
+    private TriageScoringWeights loadedWeights;
+
+    public TriageRulesLoader(Environment environment, TriageRuleEngine ruleEngine) {
+        this.environment = environment;
+        this.ruleEngine = ruleEngine;
+    }
+
+    @PostConstruct
+    public void loadRules() {
+        reload();
+    }
+
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void onRefresh() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            logger.error("Invalid triage rules after configuration refresh, keeping previous rules", e);
+        }
+    }
+
+    private synchronized void reload() {
+        TriageRulesProperties properties = Binder.get(environment)
+                .bind(TriageRulesProperties.PREFIX, TriageRulesProperties.class)
+                .orElseGet(TriageRulesProperties::new);
+
+        Map<String, List<String>> concepts = new LinkedHashMap<>();
+        properties.getConcepts().forEach((name, keywords) -> concepts.put(name, List.copyOf(keywords)));
+        List<TriageRuleDefinition> rules = properties.toDefinitions();
+        TriageScoringWeights weights = properties.getScoring().toWeights();
+
+        if (concepts.equals(loadedConcepts) && rules.equals(loadedRules) && weights.equals(loadedWeights)) {
+            logger.debug("Triage rules unchanged");
+            return;
+        }
+
+        long start = System.nanoTime();
+        CompiledRuleSet ruleSet = CompiledRuleSet.compile(concepts, rules, weights);
+        ruleEngine.install(ruleSet);
+        loadedConcepts = concepts;
+        loadedRules = rules;
+        loadedWeights = weights;
+
+        logger.info("Installed {} triage rules over {} concepts in {} ms",
+                ruleSet.ruleCount(), ruleSet.conceptCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
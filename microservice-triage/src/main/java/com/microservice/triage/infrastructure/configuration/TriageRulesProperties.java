@@ -0,0 +1,75 @@
+package com.microservice.triage.infrastructure.configuration;
+
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import com.microservice.triage.domain.services.rules.TriageRuleDefinition;
+import com.microservice.triage.domain.services.rules.TriageScoringWeights;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Triage rule definitions served by the config server under {@code triage.rules}.
+ * <p>
+ * {@code concepts} maps a concept name (kebab-case) to its keywords; {@code definitions} lists
+ * the rules that combine those concepts into a priority; {@code scoring} weighs concepts and
+ * patient factors into the acuity score.
+ * </p>
+ * <p>
+ * Not a bean: {@link TriageRulesLoader} binds a fresh instance on every load.
+ * </p>
+ */
+@Data
+@ConfigurationProperties(prefix = TriageRulesProperties.PREFIX)
+public class TriageRulesProperties {
+
+    public static final String PREFIX = "triage.rules";
+
+    private Map<String, List<String>> concepts = new LinkedHashMap<>();
+
+    private List<Rule> definitions = new ArrayList<>();
+
+    private Scoring scoring = new Scoring();
+
+    public List<TriageRuleDefinition> toDefinitions() {
+        return definitions.stream().map(Rule::toDefinition).toList();
+    }
+
+    @Data
+    public static class Rule {
+        private String id;
+        private PriorityLevel priority;
+        private List<String> all = new ArrayList<>();
+        private List<String> any = new ArrayList<>();
+        private int minAny = 1;
+        private List<String> none = new ArrayList<>();
+        private boolean requiresRedFlags;
+        private boolean matchRedFlags;
+        private boolean requiresPregnancy;
+
+        public TriageRuleDefinition toDefinition() {
+            return new TriageRuleDefinition(id, priority, all, any, minAny, none,
+                    requiresRedFlags, matchRedFlags, requiresPregnancy);
+        }
+    }
+
+    @Data
+    public static class Scoring {
+        private Map<String, Double> concepts = new LinkedHashMap<>();
+        private double redFlag;
+        private int maxRedFlags = 3;
+        private double childAge;
+        private double olderAdultAge;
+        private double pregnancy;
+        private double chronicCondition;
+        private int maxChronicConditions = 3;
+
+        public TriageScoringWeights toWeights() {
+            return new TriageScoringWeights(concepts, redFlag, maxRedFlags, childAge, olderAdultAge,
+                    pregnancy, chronicCondition, maxChronicConditions);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.microservice.triage.infrastructure.messaging;
 
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -15,6 +20,8 @@ public class RabbitMQConfig {
 
     public static final String TRIAGE_EXCHANGE = "triage.events";
     public static final String TRIAGE_RESULT_CREATED_ROUTING_KEY = "triage.result.created";
+    public static final String TRIAGE_WORKLIST_REPRIORITIZED_ROUTING_KEY = "triage.worklist.reprioritized";
+    public static final String TRIAGE_WORKLIST_ACKNOWLEDGED_ROUTING_KEY = "triage.worklist.acknowledged";
 
     /**
      * Topic exchange for triage events.
@@ -24,6 +31,31 @@ public class RabbitMQConfig {
         return new TopicExchange(TRIAGE_EXCHANGE);
     }
 
+    /**
+     * Anonymous queue of this instance for the triage worklist: receives created triage results
+     * and worklist changes from every instance, and is deleted when the connection closes.
+     */
+    @Bean
+    public Queue triageWorklistQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("triage.worklist."));
+    }
+
+    @Bean
+    public Binding triageWorklistCreatedBinding(Queue triageWorklistQueue, TopicExchange triageExchange) {
+        return BindingBuilder
+                .bind(triageWorklistQueue)
+                .to(triageExchange)
+                .with(TRIAGE_RESULT_CREATED_ROUTING_KEY);
+    }
+
+    @Bean
+    public Binding triageWorklistChangesBinding(Queue triageWorklistQueue, TopicExchange triageExchange) {
+        return BindingBuilder
+                .bind(triageWorklistQueue)
+                .to(triageExchange)
+                .with("triage.worklist.#");
+    }
+
     /**
      * JSON message converter for RabbitMQ.
      */
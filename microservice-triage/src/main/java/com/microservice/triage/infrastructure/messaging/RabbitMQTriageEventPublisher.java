@@ -4,11 +4,21 @@ import com.microservice.triage.application.events.TriageEventPublisher;
 import com.microservice.triage.application.events.TriageResultCreatedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.MessagePostProcessor;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
 
 /**
  * RabbitMQ implementation of TriageEventPublisher.
+ * Publishes to the triage.events exchange consumed by CaseDesk.
+ * <p>
+ * Inside a transaction the events are sent once it commits, so CaseDesk never receives a triage id
+ * that was rolled back. A send that fails after the commit is logged; the triage results stay.
+ * </p>
  */
 @Component
 public class RabbitMQTriageEventPublisher implements TriageEventPublisher {
@@ -23,6 +33,35 @@ public class RabbitMQTriageEventPublisher implements TriageEventPublisher {
 
     @Override
     public void publishTriageResultCreated(TriageResultCreatedEvent event) {
+        sendAfterCommit(() -> send(event));
+    }
+
+    @Override
+    public void publishTriageResultsCreated(List<TriageResultCreatedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        sendAfterCommit(() -> send(events));
+    }
+
+    private void sendAfterCommit(Runnable send) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    send.run();
+                } catch (RuntimeException e) {
+                    // Already logged; the commit succeeded and must not be reported as failed
+                }
+            }
+        });
+    }
+
+    private void send(TriageResultCreatedEvent event) {
         try {
             logger.info("📤 Publishing TriageResultCreatedEvent to RabbitMQ - Triage ID: {}, Priority: {}",
                        event.getTriageId(), event.getPriority());
@@ -30,7 +69,8 @@ public class RabbitMQTriageEventPublisher implements TriageEventPublisher {
             rabbitTemplate.convertAndSend(
                 RabbitMQConfig.TRIAGE_EXCHANGE,
                 RabbitMQConfig.TRIAGE_RESULT_CREATED_ROUTING_KEY,
-                event
+                event,
+                withMessageId(event)
             );
 
             logger.debug("✅ TriageResultCreatedEvent published successfully");
@@ -41,5 +81,37 @@ public class RabbitMQTriageEventPublisher implements TriageEventPublisher {
             throw new RuntimeException("Failed to publish triage event", e);
         }
     }
-}
 
+    private void send(List<TriageResultCreatedEvent> events) {
+        try {
+            logger.info("📤 Publishing {} TriageResultCreatedEvents to RabbitMQ", events.size());
+
+            // Single channel for the whole batch
+            rabbitTemplate.invoke(operations -> {
+                events.forEach(event -> operations.convertAndSend(
+                    RabbitMQConfig.TRIAGE_EXCHANGE,
+                    RabbitMQConfig.TRIAGE_RESULT_CREATED_ROUTING_KEY,
+                    event,
+                    withMessageId(event)
+                ));
+                return null;
+            });
+
+            logger.debug("✅ {} TriageResultCreatedEvents published successfully", events.size());
+
+        } catch (Exception e) {
+            logger.error("❌ Error publishing {} TriageResultCreatedEvents", events.size(), e);
+            throw new RuntimeException("Failed to publish triage events", e);
+        }
+    }
+
+    /**
+     * Sets the AMQP message id to the stable event id.
+     */
+    private MessagePostProcessor withMessageId(TriageResultCreatedEvent event) {
+        return message -> {
+            message.getMessageProperties().setMessageId(event.getEventId());
+            return message;
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.microservice.triage.infrastructure.messaging;
+
+import com.microservice.triage.domain.model.events.TriageResultUpdatedDomainEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes worklist changes to triage.events, so the worklist of every instance applies them.
+ * <p>
+ * New triage results need no message of their own: every instance already receives the
+ * TriageResultCreatedEvent published for CaseDesk. A change that cannot be published is logged;
+ * the other instances catch up from the database when they restart.
+ * </p>
+ */
+@Component
+public class TriageWorklistBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(TriageWorklistBroadcaster.class);
+
+    private final RabbitTemplate rabbitTemplate;
+
+    public TriageWorklistBroadcaster(RabbitTemplate rabbitTemplate) {
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    /**
+     * Re-triaged results are published after their batch commits, outside any transaction.
+     */
+    @EventListener
+    public void on(TriageResultUpdatedDomainEvent event) {
+        send(RabbitMQConfig.TRIAGE_WORKLIST_REPRIORITIZED_ROUTING_KEY,
+                new TriageWorklistChange(event.triageId(), event.newPriority()));
+    }
+
+    /**
+     * Removes the entry of a triage result from the worklist of every instance.
+     */
+    public void publishAcknowledged(Long triageId) {
+        send(RabbitMQConfig.TRIAGE_WORKLIST_ACKNOWLEDGED_ROUTING_KEY, new TriageWorklistChange(triageId, null));
+    }
+
+    private void send(String routingKey, TriageWorklistChange change) {
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.TRIAGE_EXCHANGE, routingKey, change);
+        } catch (Exception e) {
+            logger.error("❌ Error publishing worklist change {} for triage ID: {}", routingKey, change.triageId(), e);
+        }
+    }
+}
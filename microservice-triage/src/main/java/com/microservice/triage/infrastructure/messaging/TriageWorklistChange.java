@@ -0,0 +1,12 @@
+package com.microservice.triage.infrastructure.messaging;
+
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+
+/**
+ * Worklist change broadcast to every triage instance.
+ *
+ * @param triageId The triage result ID
+ * @param priority The new priority of a re-triaged result, or null for an acknowledgement
+ */
+public record TriageWorklistChange(Long triageId, PriorityLevel priority) {
+}
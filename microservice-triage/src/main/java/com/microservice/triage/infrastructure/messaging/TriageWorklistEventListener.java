@@ -0,0 +1,60 @@
+package com.microservice.triage.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.triage.application.events.TriageResultCreatedEvent;
+import com.microservice.triage.application.internal.worklist.TriageWorklist;
+import com.microservice.triage.application.internal.worklist.WorklistEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds the triage worklist of this instance from the triage events of every instance.
+ * <p>
+ * Each instance consumes triage.events through its own anonymous queue (see
+ * RabbitMQConfig#triageWorklistQueue), so a triage result created, re-triaged or acknowledged
+ * through any instance reaches the worklist and the SSE subscribers of all of them.
+ * </p>
+ */
+@Component
+public class TriageWorklistEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TriageWorklistEventListener.class);
+
+    private final TriageWorklist worklist;
+    private final ObjectMapper objectMapper;
+
+    public TriageWorklistEventListener(TriageWorklist worklist, ObjectMapper objectMapper) {
+        this.worklist = worklist;
+        this.objectMapper = objectMapper;
+    }
+
+    @RabbitListener(queues = "#{triageWorklistQueue.name}")
+    public void onTriageEvent(Message message) {
+        String routingKey = message.getMessageProperties().getReceivedRoutingKey();
+        try {
+            switch (routingKey) {
+                case RabbitMQConfig.TRIAGE_RESULT_CREATED_ROUTING_KEY ->
+                        worklist.add(toEntry(objectMapper.readValue(message.getBody(), TriageResultCreatedEvent.class)));
+                case RabbitMQConfig.TRIAGE_WORKLIST_REPRIORITIZED_ROUTING_KEY -> {
+                    TriageWorklistChange change = objectMapper.readValue(message.getBody(), TriageWorklistChange.class);
+                    worklist.reprioritize(change.triageId(), change.priority());
+                }
+                case RabbitMQConfig.TRIAGE_WORKLIST_ACKNOWLEDGED_ROUTING_KEY ->
+                        worklist.remove(objectMapper.readValue(message.getBody(), TriageWorklistChange.class).triageId());
+                default -> logger.debug("Ignoring triage event {} for the worklist", routingKey);
+            }
+        } catch (Exception e) {
+            // Dropped rather than requeued: the worklist is rebuilt from the database on restart
+            logger.warn("⚠️ Ignoring unreadable triage event {} for the worklist: {}", routingKey, e.getMessage());
+        }
+    }
+
+    private static WorklistEntry toEntry(TriageResultCreatedEvent event) {
+        int redFlagCount = event.getRedFlags() != null ? event.getRedFlags().size() : 0;
+        return new WorklistEntry(event.getTriageId(), event.getUserId(), event.getSessionId(), event.getPriority(),
+                event.getChiefComplaint(), redFlagCount, event.getOccurredAt());
+    }
+}
@@ -0,0 +1,199 @@
+package com.microservice.triage.infrastructure.persistence.jdbc;
+
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads stored triage inputs for re-evaluation and writes changed priorities back, with JDBC.
+ * <p>
+ * Results are read in chunks ordered by id and continued from the last id seen (keyset), so a
+ * job over the whole table holds one chunk in memory at a time and every chunk is an index range
+ * scan. Results stored before their evaluation inputs were kept are returned without inputs, so
+ * the caller can backfill them from the anamnesis summaries with {@link #insertInputs}.
+ * </p>
+ */
+@Repository
+public class TriageReplayRepository {
+
+    private static final String SELECT_CHUNK =
+            "SELECT r.id, r.user_id, r.session_id, r.priority, r.acuity_score, "
+                    + "i.triage_result_id AS input_id, i.chief_complaint, i.history_of_present_illness "
+                    + "FROM triage_results r "
+                    + "LEFT JOIN triage_evaluation_inputs i ON i.triage_result_id = r.id "
+                    + "WHERE r.id > ? ORDER BY r.id LIMIT ?";
+    private static final String SELECT_RED_FLAGS =
+            "SELECT triage_result_id, red_flag FROM triage_red_flags WHERE triage_result_id IN (:ids)";
+    // A result whose inputs were inserted meanwhile keeps them
+    private static final String INSERT_INPUTS =
+            "INSERT IGNORE INTO triage_evaluation_inputs (triage_result_id, chief_complaint, history_of_present_illness) "
+                    + "VALUES (?, ?, ?)";
+    // The priority guard skips results changed since they were read; the template follows the
+    // priority unless the result has legacy free-text recommendations
+    private static final String UPDATE_PRIORITY =
+            "UPDATE triage_results SET priority = ?, acuity_score = ?, "
+                    + "recommendation_template = CASE WHEN recommendation_template IS NULL THEN NULL ELSE ? END, "
+                    + "updated_at = ? WHERE id = ? AND priority = ?";
+
+    /**
+     * A stored triage result with the inputs it was evaluated from.
+     *
+     * @param inputsStored Whether the result has stored evaluation inputs; if not, the summary
+     *                     text is null and must be backfilled before evaluating
+     */
+    public record ReplayRow(
+            long id,
+            Long userId,
+            Long sessionId,
+            PriorityLevel priority,
+            Double acuityScore,
+            boolean inputsStored,
+            String chiefComplaint,
+            String historyOfPresentIllness,
+            List<String> redFlags
+    ) {
+        /**
+         * @return This row with the given summary text as its stored inputs
+         */
+        public ReplayRow withInputs(String chiefComplaint, String historyOfPresentIllness) {
+            return new ReplayRow(id, userId, sessionId, priority, acuityScore, true,
+                    chiefComplaint, historyOfPresentIllness, redFlags);
+        }
+    }
+
+    /**
+     * A re-evaluated result whose priority or acuity score differs from the stored one.
+     */
+    public record PriorityChange(
+            long id,
+            Long userId,
+            PriorityLevel oldPriority,
+            PriorityLevel newPriority,
+            double acuityScore,
+            String recommendationTemplate
+    ) {
+        public boolean priorityChanged() {
+            return oldPriority != newPriority;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public TriageReplayRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    /**
+     * Reads the next chunk of results with their stored inputs, if any, and red flags.
+     *
+     * @param afterId Id of the last result of the previous chunk, or 0 to start
+     * @param size Maximum number of results
+     * @return Results ordered by id; empty when there are no more
+     */
+    public List<ReplayRow> findChunk(long afterId, int size) {
+        List<ReplayRow> rows = jdbcTemplate.query(SELECT_CHUNK, (rs, rowNum) -> new ReplayRow(
+                rs.getLong("id"),
+                rs.getObject("user_id", Long.class),
+                rs.getObject("session_id", Long.class),
+                PriorityLevel.valueOf(rs.getString("priority")),
+                rs.getObject("acuity_score", Double.class),
+                rs.getObject("input_id", Long.class) != null,
+                rs.getString("chief_complaint"),
+                rs.getString("history_of_present_illness"),
+                new ArrayList<>(2)), afterId, size);
+        if (rows.isEmpty()) {
+            return rows;
+        }
+
+        Map<Long, List<String>> redFlagsById = new HashMap<>(rows.size() * 2);
+        for (ReplayRow row : rows) {
+            redFlagsById.put(row.id(), row.redFlags());
+        }
+        namedParameterJdbcTemplate.query(SELECT_RED_FLAGS,
+                new MapSqlParameterSource("ids", redFlagsById.keySet()),
+                rs -> redFlagsById.get(rs.getLong("triage_result_id")).add(rs.getString("red_flag")));
+        return rows;
+    }
+
+    /**
+     * Stores backfilled evaluation inputs as one JDBC batch; results that already have inputs are
+     * left untouched.
+     *
+     * @param rows Rows whose summary text was backfilled
+     */
+    public void insertInputs(List<ReplayRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_INPUTS, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ReplayRow row = rows.get(i);
+                ps.setLong(1, row.id());
+                ps.setString(2, row.chiefComplaint());
+                ps.setString(3, row.historyOfPresentIllness());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    /**
+     * Writes re-evaluated priorities as one JDBC batch. Must run inside the caller's transaction.
+     *
+     * @param changes The changes to write
+     * @return The changes that were applied; results whose priority changed since they were read
+     *         are left untouched
+     */
+    public List<PriorityChange> updateAll(List<PriorityChange> changes) {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_PRIORITY, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PriorityChange change = changes.get(i);
+                ps.setString(1, change.newPriority().name());
+                ps.setDouble(2, change.acuityScore());
+                ps.setString(3, change.recommendationTemplate());
+                ps.setTimestamp(4, now);
+                ps.setLong(5, change.id());
+                ps.setString(6, change.oldPriority().name());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return changes.size();
+            }
+        });
+
+        List<PriorityChange> applied = new ArrayList<>(changes.size());
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                applied.add(changes.get(i));
+            }
+        }
+        return applied;
+    }
+}
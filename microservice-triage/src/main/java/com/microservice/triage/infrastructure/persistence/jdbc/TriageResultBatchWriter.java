@@ -0,0 +1,137 @@
+package com.microservice.triage.infrastructure.persistence.jdbc;
+
+import com.microservice.triage.domain.model.commands.CreateTriageResultCommand;
+import com.microservice.triage.domain.model.valueobjects.TriageRecommendation;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts triage results with JDBC batches.
+ * <p>
+ * Triage results use IDENTITY ids, which prevents Hibernate from batching their inserts. This
+ * writer sends the rows, their risk factors, red flags and evaluation inputs as four JDBC batches
+ * (rewritten into multi-row inserts by the MySQL driver) and reads the generated ids back.
+ * </p>
+ */
+@Repository
+public class TriageResultBatchWriter {
+
+    private static final String INSERT_RESULT =
+            "INSERT INTO triage_results (user_id, session_id, priority, acuity_score, recommendation_template, "
+                    + "recommendation_allergies, recommendation_chronic_conditions, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_RISK_FACTOR =
+            "INSERT INTO triage_risk_factors (triage_result_id, risk_factor) VALUES (?, ?)";
+    private static final String INSERT_RED_FLAG =
+            "INSERT INTO triage_red_flags (triage_result_id, red_flag) VALUES (?, ?)";
+    private static final String INSERT_EVALUATION_INPUT =
+            "INSERT INTO triage_evaluation_inputs (triage_result_id, chief_complaint, history_of_present_illness) "
+                    + "VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TriageResultBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the triage results. Must run inside the caller's transaction.
+     *
+     * @param results The results to insert
+     * @return Generated ids, in the order of {@code results}
+     */
+    public List<Long> insertAll(List<CreateTriageResultCommand> results) {
+        if (results.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_RESULT, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        CreateTriageResultCommand result = results.get(i);
+                        ps.setLong(1, result.userId());
+                        ps.setLong(2, result.sessionId());
+                        ps.setString(3, result.priority().name());
+                        ps.setObject(4, result.acuityScore(), Types.DOUBLE);
+                        TriageRecommendation recommendation = result.recommendation();
+                        ps.setString(5, recommendation != null ? recommendation.template().name() : null);
+                        ps.setString(6, recommendation != null ? recommendation.allergies() : null);
+                        ps.setString(7, recommendation != null ? recommendation.chronicConditions() : null);
+                        ps.setTimestamp(8, now);
+                        ps.setTimestamp(9, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return results.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != results.size()) {
+            throw new IllegalStateException("Expected " + results.size() + " generated ids, got " + keys.size());
+        }
+
+        List<Long> ids = new ArrayList<>(keys.size());
+        List<Object[]> riskFactors = new ArrayList<>();
+        List<Object[]> redFlags = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            Long id = ((Number) keys.get(i).values().iterator().next()).longValue();
+            ids.add(id);
+            addRows(riskFactors, id, results.get(i).riskFactors());
+            addRows(redFlags, id, results.get(i).redFlagsDetected());
+        }
+
+        if (!riskFactors.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_RISK_FACTOR, riskFactors);
+        }
+        if (!redFlags.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_RED_FLAG, redFlags);
+        }
+        insertEvaluationInputs(ids, results);
+        return ids;
+    }
+
+    /**
+     * Stores the summary text the results were evaluated from. Must run inside the caller's transaction.
+     *
+     * @param ids Triage result ids
+     * @param results The results, in the order of {@code ids}
+     */
+    public void insertEvaluationInputs(List<Long> ids, List<CreateTriageResultCommand> results) {
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            CreateTriageResultCommand result = results.get(i);
+            rows.add(new Object[]{ids.get(i), result.chiefComplaint(), result.historyOfPresentIllness()});
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_EVALUATION_INPUT, rows);
+        }
+    }
+
+    private static void addRows(List<Object[]> rows, Long triageResultId, List<String> values) {
+        if (values != null) {
+            for (String value : values) {
+                rows.add(new Object[]{triageResultId, value});
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.microservice.triage.infrastructure.persistence.jpa.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Summary text a triage result was evaluated from, kept so results can be re-evaluated when the
+ * rules change (red flags are already stored with the result). Written and read with JDBC by
+ * TriageResultBatchWriter and TriageReplayRepository; mapped here so the schema is managed with
+ * the other tables.
+ */
+@Entity
+@Table(name = "triage_evaluation_inputs")
+@Getter
+@NoArgsConstructor
+public class TriageEvaluationInput {
+
+    @Id
+    private Long triageResultId;
+
+    @Column(columnDefinition = "TEXT")
+    private String chiefComplaint;
+
+    @Column(columnDefinition = "TEXT")
+    private String historyOfPresentIllness;
+}
@@ -1,11 +1,19 @@
 package com.microservice.triage.infrastructure.persistence.jpa.repositories;
 
 import com.microservice.triage.domain.model.aggregates.TriageResult;
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * JPA Repository for TriageResult aggregate.
@@ -36,5 +44,63 @@ public interface TriageResultRepository extends JpaRepository<TriageResult, Long
      * @return true if exists
      */
     boolean existsBySessionId(Long sessionId);
-}
 
+    /**
+     * Finds which of the given sessions already have a triage result, in a single query.
+     *
+     * @param sessionIds The session IDs to check
+     * @return The session IDs that are already triaged
+     */
+    @Query("select t.sessionId from TriageResult t where t.sessionId in :sessionIds")
+    Set<Long> findTriagedSessionIds(@Param("sessionIds") Collection<Long> sessionIds);
+
+    /**
+     * Finds the triage results created after an instant, oldest first.
+     *
+     * @param createdAt Exclusive lower bound
+     * @return List of triage results
+     */
+    List<TriageResult> findByCreatedAtAfterOrderByCreatedAtAsc(LocalDateTime createdAt);
+
+    /**
+     * Finds the IDs of one page of triage results, newest first, using keyset pagination.
+     * Each filter is ignored when null. Served by the (user_id | priority, created_at, id) indexes.
+     *
+     * @param userId Only results of this user
+     * @param priority Only results with this priority
+     * @param from Inclusive lower bound of createdAt
+     * @param to Exclusive upper bound of createdAt
+     * @param cursorCreatedAt createdAt of the last result of the previous page
+     * @param cursorId ID of the last result of the previous page
+     * @param limit Maximum number of IDs
+     * @return IDs in page order
+     */
+    @Query("""
+            select t.id from TriageResult t
+            where (:userId is null or t.userId = :userId)
+              and (:priority is null or t.priority = :priority)
+              and (:from is null or t.createdAt >= :from)
+              and (:to is null or t.createdAt < :to)
+              and (:cursorCreatedAt is null or t.createdAt < :cursorCreatedAt
+                   or (t.createdAt = :cursorCreatedAt and t.id < :cursorId))
+            order by t.createdAt desc, t.id desc
+            """)
+    List<Long> findPageIds(@Param("userId") Long userId,
+                           @Param("priority") PriorityLevel priority,
+                           @Param("from") LocalDateTime from,
+                           @Param("to") LocalDateTime to,
+                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                           @Param("cursorId") Long cursorId,
+                           Limit limit);
+
+    /**
+     * Loads triage results with their risk factors in one query. Red flags are loaded in a
+     * second batched query (default_batch_fetch_size): fetching both lists in one join would
+     * multiply rows and is rejected by Hibernate for two bags.
+     *
+     * @param ids The triage result IDs
+     * @return Triage results, in no particular order
+     */
+    @EntityGraph(attributePaths = "riskFactors")
+    List<TriageResult> findByIdIn(Collection<Long> ids);
+}
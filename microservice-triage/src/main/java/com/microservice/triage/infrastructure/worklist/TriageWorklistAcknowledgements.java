@@ -0,0 +1,54 @@
+package com.microservice.triage.infrastructure.worklist;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Records acknowledged worklist entries in {@code triage_worklist_acknowledgements}.
+ * <p>
+ * The worklist itself lives in memory; acknowledgements are written through to the database so an
+ * entry taken by a clinician is not restored again by any instance when it replays triage results
+ * on startup.
+ * </p>
+ */
+@Component
+public class TriageWorklistAcknowledgements {
+
+    private static final String INSERT_ACKNOWLEDGEMENT =
+            "INSERT IGNORE INTO triage_worklist_acknowledgements (triage_id, acknowledged_at) VALUES (?, ?)";
+    private static final String SELECT_ACKNOWLEDGED_SINCE =
+            "SELECT triage_id FROM triage_worklist_acknowledgements WHERE acknowledged_at >= ?";
+    private static final String DELETE_ACKNOWLEDGED_BEFORE =
+            "DELETE FROM triage_worklist_acknowledgements WHERE acknowledged_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TriageWorklistAcknowledgements(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void record(Long triageId) {
+        jdbcTemplate.update(INSERT_ACKNOWLEDGEMENT, triageId, Timestamp.from(Instant.now()));
+    }
+
+    /**
+     * @return IDs of the triage results acknowledged at or after the given instant
+     */
+    public Set<Long> acknowledgedSince(Instant since) {
+        return new HashSet<>(jdbcTemplate.queryForList(SELECT_ACKNOWLEDGED_SINCE, Long.class, Timestamp.from(since)));
+    }
+
+    /**
+     * Forgets acknowledgements of entries that are past the retention window anyway.
+     *
+     * @return Number of acknowledgements removed
+     */
+    public int removeBefore(Instant cutoff) {
+        return jdbcTemplate.update(DELETE_ACKNOWLEDGED_BEFORE, Timestamp.from(cutoff));
+    }
+}
@@ -0,0 +1,179 @@
+package com.microservice.triage.infrastructure.worklist;
+
+import com.microservice.triage.application.internal.worklist.TriageWorklist;
+import com.microservice.triage.application.internal.worklist.WorklistEntry;
+import com.microservice.triage.domain.model.aggregates.TriageResult;
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import com.microservice.triage.infrastructure.persistence.jpa.repositories.TriageResultRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Persists the triage worklist and restores it on startup.
+ * <p>
+ * Every {@code triage.worklist.snapshot-interval-ms} the worklist is written, if it changed, to
+ * {@code triage_worklist_snapshot_entries} under this instance's {@code triage.worklist.instance-id}
+ * in one transaction (delete + JDBC batch insert), together with a row in
+ * {@code triage_worklist_snapshot_markers} holding the snapshot time. Each instance only replaces
+ * its own snapshot, and an empty snapshot still records when it was taken.
+ * </p>
+ * <p>
+ * On startup the instance's last snapshot is loaded and triage results created after it are
+ * replayed from {@code triage_results}, so results committed between the last snapshot and a
+ * restart are not lost. Without a snapshot the whole retention window is replayed. Entries
+ * acknowledged in {@code triage_worklist_acknowledgements}, by any instance, are never restored.
+ * </p>
+ * <p>
+ * The same task evicts entries and acknowledgements older than {@code triage.worklist.retention}.
+ * </p>
+ */
+@Component
+public class TriageWorklistSnapshotter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TriageWorklistSnapshotter.class);
+
+    private static final String SELECT_MARKER =
+            "SELECT snapshot_at FROM triage_worklist_snapshot_markers WHERE instance_id = ?";
+    private static final String SELECT_SNAPSHOT =
+            "SELECT triage_id, user_id, session_id, priority, chief_complaint, red_flag_count, created_at "
+                    + "FROM triage_worklist_snapshot_entries WHERE instance_id = ?";
+    private static final String DELETE_SNAPSHOT = "DELETE FROM triage_worklist_snapshot_entries WHERE instance_id = ?";
+    private static final String INSERT_SNAPSHOT =
+            "INSERT INTO triage_worklist_snapshot_entries "
+                    + "(instance_id, triage_id, user_id, session_id, priority, chief_complaint, red_flag_count, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_MARKER =
+            "INSERT INTO triage_worklist_snapshot_markers (instance_id, snapshot_at, entry_count) VALUES (?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE snapshot_at = VALUES(snapshot_at), entry_count = VALUES(entry_count)";
+
+    private final TriageWorklist worklist;
+    private final TriageWorklistAcknowledgements acknowledgements;
+    private final TriageResultRepository triageResultRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final String instanceId;
+
+    private volatile boolean restored;
+    private long snapshotVersion = -1;
+
+    public TriageWorklistSnapshotter(TriageWorklist worklist,
+                                     TriageWorklistAcknowledgements acknowledgements,
+                                     TriageResultRepository triageResultRepository,
+                                     JdbcTemplate jdbcTemplate,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${triage.worklist.retention:24h}") Duration retention,
+                                     @Value("${triage.worklist.instance-id:${HOSTNAME:triage-service}}") String instanceId) {
+        this.worklist = worklist;
+        this.acknowledgements = acknowledgements;
+        this.triageResultRepository = triageResultRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+        this.instanceId = instanceId;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        Instant cutoff = Instant.now().minus(retention);
+        List<Timestamp> snapshotTimes = jdbcTemplate.queryForList(SELECT_MARKER, Timestamp.class, instanceId);
+        List<WorklistEntry> snapshot = jdbcTemplate.query(SELECT_SNAPSHOT, (rs, rowNum) -> new WorklistEntry(
+                rs.getLong("triage_id"),
+                rs.getObject("user_id", Long.class),
+                rs.getObject("session_id", Long.class),
+                PriorityLevel.valueOf(rs.getString("priority")),
+                rs.getString("chief_complaint"),
+                rs.getInt("red_flag_count"),
+                rs.getTimestamp("created_at").toInstant()), instanceId);
+
+        // Replay triage results newer than the snapshot (or the whole retention window without one)
+        Instant replayFrom = snapshotTimes.isEmpty() ? cutoff : snapshotTimes.get(0).toInstant();
+        Set<Long> acknowledged = acknowledgements.acknowledgedSince(cutoff);
+        List<WorklistEntry> replayed = transactionTemplate.execute(status -> triageResultRepository
+                .findByCreatedAtAfterOrderByCreatedAtAsc(LocalDateTime.ofInstant(replayFrom, ZoneId.systemDefault()))
+                .stream()
+                .map(TriageWorklistSnapshotter::toEntry)
+                .toList());
+
+        worklist.restore(snapshot.stream()
+                .filter(entry -> entry.createdAt().isAfter(cutoff) && !acknowledged.contains(entry.triageId()))
+                .toList());
+        if (replayed != null) {
+            worklist.restore(replayed.stream().filter(entry -> !acknowledged.contains(entry.triageId())).toList());
+        }
+        restored = true;
+        logger.info("Triage worklist of instance {} restored: {} entries from snapshot, {} replayed, "
+                        + "{} acknowledged ignored, {} total",
+                instanceId, snapshot.size(), replayed != null ? replayed.size() : 0, acknowledged.size(), worklist.size());
+    }
+
+    @Scheduled(fixedDelayString = "${triage.worklist.snapshot-interval-ms:5000}")
+    public void snapshot() {
+        if (!restored) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(retention);
+        int evicted = worklist.removeCreatedBefore(cutoff);
+        if (evicted > 0) {
+            logger.info("Evicted {} worklist entries older than {}", evicted, retention);
+        }
+        try {
+            acknowledgements.removeBefore(cutoff);
+        } catch (Exception e) {
+            logger.warn("Error evicting old worklist acknowledgements, will retry: {}", e.getMessage());
+        }
+
+        long version = worklist.version();
+        if (version == snapshotVersion) {
+            return;
+        }
+        List<WorklistEntry> entries = worklist.entries();
+        Timestamp snapshotAt = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(entries.size());
+        for (WorklistEntry entry : entries) {
+            rows.add(new Object[]{instanceId, entry.triageId(), entry.userId(), entry.sessionId(), entry.priority().name(),
+                    entry.chiefComplaint(), entry.redFlagCount(), Timestamp.from(entry.createdAt())});
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(DELETE_SNAPSHOT, instanceId);
+                if (!rows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_SNAPSHOT, rows);
+                }
+                jdbcTemplate.update(UPSERT_MARKER, instanceId, snapshotAt, rows.size());
+            });
+            snapshotVersion = version;
+            logger.debug("Worklist snapshot written with {} entries", rows.size());
+        } catch (Exception e) {
+            logger.error("Error writing worklist snapshot, will retry", e);
+        }
+    }
+
+    private static WorklistEntry toEntry(TriageResult triageResult) {
+        return new WorklistEntry(
+                triageResult.getId(),
+                triageResult.getUserId(),
+                triageResult.getSessionId(),
+                triageResult.getPriority(),
+                null,
+                triageResult.getRedFlagsDetected().size(),
+                triageResult.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
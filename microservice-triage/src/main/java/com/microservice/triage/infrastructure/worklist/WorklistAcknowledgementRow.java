@@ -0,0 +1,30 @@
+package com.microservice.triage.infrastructure.worklist;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A worklist entry acknowledged by a clinician, shared by all instances. Written and read with
+ * JDBC by {@link TriageWorklistAcknowledgements}; mapped here so the schema is managed with the
+ * other tables.
+ */
+@Entity
+@Table(name = "triage_worklist_acknowledgements",
+       indexes = @Index(name = "idx_triage_worklist_acknowledgements_at", columnList = "acknowledged_at"))
+@Getter
+@NoArgsConstructor
+public class WorklistAcknowledgementRow {
+
+    @Id
+    private Long triageId;
+
+    @Column(nullable = false)
+    private Instant acknowledgedAt;
+}
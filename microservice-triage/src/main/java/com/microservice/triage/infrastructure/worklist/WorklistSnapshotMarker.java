@@ -0,0 +1,32 @@
+package com.microservice.triage.infrastructure.worklist;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * When an instance last wrote its worklist snapshot and how many entries it had. Written and read
+ * with JDBC by {@link TriageWorklistSnapshotter}; mapped here so the schema is managed with the
+ * other tables.
+ */
+@Entity
+@Table(name = "triage_worklist_snapshot_markers")
+@Getter
+@NoArgsConstructor
+public class WorklistSnapshotMarker {
+
+    @Id
+    @Column(length = 100)
+    private String instanceId;
+
+    @Column(nullable = false)
+    private Instant snapshotAt;
+
+    @Column(nullable = false)
+    private int entryCount;
+}
@@ -0,0 +1,60 @@
+package com.microservice.triage.infrastructure.worklist;
+
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Row of the last persisted worklist snapshot of one instance. Written and read with JDBC by
+ * {@link TriageWorklistSnapshotter}; mapped here so the schema is managed with the other tables.
+ * The snapshot time is kept in {@link WorklistSnapshotMarker}, so an empty snapshot still has one.
+ */
+@Entity
+@Table(name = "triage_worklist_snapshot_entries")
+@IdClass(WorklistSnapshotRow.Key.class)
+@Getter
+@NoArgsConstructor
+public class WorklistSnapshotRow {
+
+    @Id
+    @Column(length = 100)
+    private String instanceId;
+
+    @Id
+    private Long triageId;
+
+    private Long userId;
+
+    private Long sessionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PriorityLevel priority;
+
+    @Column(length = 500)
+    private String chiefComplaint;
+
+    @Column(nullable = false)
+    private int redFlagCount;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String instanceId;
+        private Long triageId;
+    }
+}
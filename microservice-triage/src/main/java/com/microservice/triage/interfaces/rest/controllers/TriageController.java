@@ -5,20 +5,27 @@ import com.microservice.triage.domain.model.queries.GetAllTriagesQuery;
 import com.microservice.triage.domain.model.queries.GetTriageByIdQuery;
 import com.microservice.triage.domain.model.queries.GetTriageBySessionIdQuery;
 import com.microservice.triage.domain.model.queries.GetTriageByUserIdQuery;
+import com.microservice.triage.domain.model.queries.SearchTriagesQuery;
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import com.microservice.triage.domain.model.valueobjects.TriageCursor;
+import com.microservice.triage.domain.model.valueobjects.TriageResultPage;
 import com.microservice.triage.domain.services.TriageQueryService;
 import com.microservice.triage.infrastructure.security.JwtAuthenticationToken;
+import com.microservice.triage.interfaces.rest.resources.TriageResultPageResource;
 import com.microservice.triage.interfaces.rest.resources.TriageResultResource;
 import com.microservice.triage.interfaces.rest.transform.TriageResultResourceAssembler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -104,16 +111,24 @@ public class TriageController {
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
-            summary = "Get all triage results",
-            description = "Retrieves all triage results in the system (Admin only)",
+            summary = "Get the most recent triage results",
+            description = "Retrieves up to 'limit' triage results, newest first (Admin only). "
+                    + "To page through all results use GET /api/v1/triage/search",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Triage results retrieved successfully"),
+                    @ApiResponse(responseCode = "400", description = "Invalid limit"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized"),
                     @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
             }
     )
-    public ResponseEntity<List<TriageResultResource>> getAllTriages() {
-        var query = new GetAllTriagesQuery();
+    public ResponseEntity<List<TriageResultResource>> getAllTriages(
+            @RequestParam(defaultValue = "" + GetAllTriagesQuery.DEFAULT_LIMIT) int limit) {
+        GetAllTriagesQuery query;
+        try {
+            query = new GetAllTriagesQuery(limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
         List<TriageResult> triages = queryService.handle(query);
 
         List<TriageResultResource> resources = triages.stream()
@@ -122,5 +137,41 @@ public class TriageController {
 
         return ResponseEntity.ok(resources);
     }
-}
 
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('DOCTOR') or hasRole('ADMIN')")
+    @Operation(
+            summary = "Search triage results",
+            description = "Retrieves a page of triage results, newest first, filtered by user, priority and "
+                    + "creation date range [from, to). Pass the returned nextCursor to get the next page (Doctor/Admin only)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Page retrieved successfully"),
+                    @ApiResponse(responseCode = "400", description = "Invalid filters, size or cursor"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden - Doctor/Admin role required")
+            }
+    )
+    public ResponseEntity<TriageResultPageResource> searchTriages(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) PriorityLevel priority,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        SearchTriagesQuery query;
+        try {
+            TriageCursor after = cursor != null && !cursor.isBlank() ? TriageCursor.decode(cursor) : null;
+            query = new SearchTriagesQuery(userId, priority, from, to, after, size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        TriageResultPage page = queryService.handle(query);
+        List<TriageResultResource> items = page.items().stream()
+                .map(TriageResultResourceAssembler::toResourceFromEntity)
+                .toList();
+        String nextCursor = page.nextCursor() != null ? page.nextCursor().encode() : null;
+
+        return ResponseEntity.ok(new TriageResultPageResource(items, nextCursor));
+    }
+}
@@ -0,0 +1,73 @@
+package com.microservice.triage.interfaces.rest.controllers;
+
+import com.microservice.triage.application.internal.retriage.TriageRetriageJob;
+import com.microservice.triage.infrastructure.security.JwtAuthenticationToken;
+import com.microservice.triage.interfaces.rest.resources.RetriageStatusResource;
+import com.microservice.triage.interfaces.rest.transform.RetriageStatusResourceAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for re-evaluating stored triage results with the current rules.
+ */
+@RestController
+@RequestMapping("/api/v1/triage/retriage")
+@Tag(name = "Triage Re-evaluation", description = "Re-triage of stored results after a rule change")
+@SecurityRequirement(name = "bearerAuth")
+public class TriageRetriageController {
+
+    private final TriageRetriageJob retriageJob;
+
+    public TriageRetriageController(TriageRetriageJob retriageJob) {
+        this.retriageJob = retriageJob;
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Start a re-triage",
+            description = "Re-evaluates every stored triage result with the current rules in the background "
+                    + "and updates the changed priorities. Results stored without their evaluation inputs get them "
+                    + "from their anamnesis summaries. Use dryRun=true to only count the changes (Admin only)",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Re-triage started"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required"),
+                    @ApiResponse(responseCode = "409", description = "A re-triage is already running")
+            }
+    )
+    public ResponseEntity<RetriageStatusResource> startRetriage(@RequestParam(defaultValue = "false") boolean dryRun) {
+        JwtAuthenticationToken authentication = (JwtAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
+
+        return retriageJob.start(dryRun, authentication.getToken())
+                .map(RetriageStatusResourceAssembler::toResourceFromStatus)
+                .map(resource -> ResponseEntity.status(HttpStatus.ACCEPTED).body(resource))
+                .orElse(ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Get the re-triage status",
+            description = "Progress of the current re-triage, or the result of the last one (Admin only)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Status retrieved successfully"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required"),
+                    @ApiResponse(responseCode = "404", description = "No re-triage has run since startup")
+            }
+    )
+    public ResponseEntity<RetriageStatusResource> getRetriageStatus() {
+        return retriageJob.status()
+                .map(RetriageStatusResourceAssembler::toResourceFromStatus)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
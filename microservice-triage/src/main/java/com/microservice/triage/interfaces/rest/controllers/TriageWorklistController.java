@@ -0,0 +1,113 @@
+package com.microservice.triage.interfaces.rest.controllers;
+
+import com.microservice.triage.application.internal.worklist.TriageWorklist;
+import com.microservice.triage.domain.model.queries.GetTriageByIdQuery;
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import com.microservice.triage.domain.services.TriageQueryService;
+import com.microservice.triage.infrastructure.messaging.TriageWorklistBroadcaster;
+import com.microservice.triage.infrastructure.worklist.TriageWorklistAcknowledgements;
+import com.microservice.triage.interfaces.rest.resources.TriageWorklistEntryResource;
+import com.microservice.triage.interfaces.rest.sse.TriageWorklistStream;
+import com.microservice.triage.interfaces.rest.transform.TriageWorklistEntryResourceAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * REST Controller for the triage worklist: triage results waiting for a clinician,
+ * most urgent and longest waiting first, served from memory.
+ */
+@RestController
+@RequestMapping("/api/v1/triage/worklist")
+@Tag(name = "Triage Worklist", description = "Prioritized worklist of triage results")
+@SecurityRequirement(name = "bearerAuth")
+public class TriageWorklistController {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final TriageWorklist worklist;
+    private final TriageWorklistStream worklistStream;
+    private final TriageWorklistAcknowledgements acknowledgements;
+    private final TriageWorklistBroadcaster broadcaster;
+    private final TriageQueryService queryService;
+
+    public TriageWorklistController(TriageWorklist worklist,
+                                    TriageWorklistStream worklistStream,
+                                    TriageWorklistAcknowledgements acknowledgements,
+                                    TriageWorklistBroadcaster broadcaster,
+                                    TriageQueryService queryService) {
+        this.worklist = worklist;
+        this.worklistStream = worklistStream;
+        this.acknowledgements = acknowledgements;
+        this.broadcaster = broadcaster;
+        this.queryService = queryService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('DOCTOR') or hasRole('ADMIN')")
+    @Operation(
+            summary = "Get the triage worklist",
+            description = "Retrieves waiting triage results ordered by priority and age (Doctor/Admin only)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Worklist retrieved successfully"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden - Doctor/Admin role required")
+            }
+    )
+    public ResponseEntity<List<TriageWorklistEntryResource>> getWorklist(
+            @RequestParam(required = false) PriorityLevel priority,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<TriageWorklistEntryResource> resources = worklist.top(priority, Math.clamp(limit, 1, MAX_LIMIT)).stream()
+                .map(TriageWorklistEntryResourceAssembler::toResourceFromEntry)
+                .toList();
+
+        return ResponseEntity.ok(resources);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('DOCTOR') or hasRole('ADMIN')")
+    @Operation(
+            summary = "Stream worklist changes",
+            description = "Server-Sent Events: the current worklist, then every added or removed entry. "
+                    + "Use priority=EMERGENCY to receive only emergencies (Doctor/Admin only)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Event stream opened"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden - Doctor/Admin role required")
+            }
+    )
+    public SseEmitter streamWorklist(@RequestParam(required = false) PriorityLevel priority) {
+        return worklistStream.subscribe(priority);
+    }
+
+    @DeleteMapping("/{triageId}")
+    @PreAuthorize("hasRole('DOCTOR') or hasRole('ADMIN')")
+    @Operation(
+            summary = "Acknowledge a worklist entry",
+            description = "Removes a triage result from the worklist once a clinician has taken it (Doctor/Admin only)",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Entry removed"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden - Doctor/Admin role required"),
+                    @ApiResponse(responseCode = "404", description = "Triage result not found")
+            }
+    )
+    public ResponseEntity<Void> acknowledge(@PathVariable Long triageId) {
+        // The entry may have reached this instance's worklist late, or been evicted: check the result itself
+        if (worklist.remove(triageId).isEmpty() && queryService.handle(new GetTriageByIdQuery(triageId)).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        // Shared with other instances, so the entry is not restored again on startup
+        acknowledgements.record(triageId);
+        broadcaster.publishAcknowledged(triageId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.microservice.triage.interfaces.rest.resources;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Resource DTO for the status of a re-triage run.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RetriageStatusResource {
+    private String state;
+    private boolean dryRun;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private long scanned;
+    private long scoreChanged;
+    private long priorityChanged;
+    private long skipped;
+    private long lastTriageId;
+    private String error;
+}
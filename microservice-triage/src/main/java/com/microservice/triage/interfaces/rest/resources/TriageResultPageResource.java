@@ -0,0 +1,18 @@
+package com.microservice.triage.interfaces.rest.resources;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resource DTO for a page of triage results. nextCursor is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TriageResultPageResource {
+    private List<TriageResultResource> items;
+    private String nextCursor;
+}
@@ -19,6 +19,7 @@ public class TriageResultResource {
     private Long userId;
     private Long sessionId;
     private PriorityLevel priority;
+    private Double acuityScore;
     private List<String> riskFactors;
     private List<String> redFlagsDetected;
     private String recommendations;
@@ -0,0 +1,24 @@
+package com.microservice.triage.interfaces.rest.resources;
+
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Resource DTO for a triage worklist entry.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TriageWorklistEntryResource {
+    private Long triageId;
+    private Long userId;
+    private Long sessionId;
+    private PriorityLevel priority;
+    private String chiefComplaint;
+    private int redFlagCount;
+    private Instant createdAt;
+}
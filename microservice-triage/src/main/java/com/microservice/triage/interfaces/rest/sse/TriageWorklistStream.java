@@ -0,0 +1,126 @@
+package com.microservice.triage.interfaces.rest.sse;
+
+import com.microservice.triage.application.internal.worklist.TriageWorklist;
+import com.microservice.triage.application.internal.worklist.WorklistEntry;
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import com.microservice.triage.interfaces.rest.transform.TriageWorklistEntryResourceAssembler;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pushes worklist changes to clinicians over Server-Sent Events.
+ * <p>
+ * A subscriber first receives a {@code worklist} event with the current entries, then an
+ * {@code entry-added} or {@code entry-removed} event per change, optionally filtered by priority.
+ * Sends run on a single dispatcher thread, so the consumer that triaged a case never waits for
+ * clients and every subscriber sees changes in order. Subscribers whose connection fails are
+ * dropped; a periodic comment keeps idle connections open through proxies.
+ * </p>
+ */
+@Component
+public class TriageWorklistStream implements TriageWorklist.Listener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TriageWorklistStream.class);
+
+    private record Subscriber(SseEmitter emitter, PriorityLevel priority) {
+        boolean accepts(WorklistEntry entry) {
+            return priority == null || priority == entry.priority();
+        }
+    }
+
+    private final TriageWorklist worklist;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("worklist-sse").daemon().factory());
+    private final Duration emitterTimeout;
+    private final int initialLimit;
+
+    public TriageWorklistStream(TriageWorklist worklist,
+                                @Value("${triage.worklist.sse.timeout:30m}") Duration emitterTimeout,
+                                @Value("${triage.worklist.sse.initial-limit:200}") int initialLimit) {
+        this.worklist = worklist;
+        this.emitterTimeout = emitterTimeout;
+        this.initialLimit = initialLimit;
+        worklist.addListener(this);
+    }
+
+    /**
+     * Registers a subscriber and sends it the current worklist.
+     *
+     * @param priority Only push entries with this priority, or all if null
+     */
+    public SseEmitter subscribe(PriorityLevel priority) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, priority);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // Snapshot and registration are queued together, so no change is missed or sent twice
+        dispatcher.execute(() -> {
+            var current = worklist.top(priority, initialLimit).stream()
+                    .map(TriageWorklistEntryResourceAssembler::toResourceFromEntry)
+                    .toList();
+            if (send(subscriber, SseEmitter.event().name("worklist").data(current))) {
+                subscribers.add(subscriber);
+            }
+        });
+        return emitter;
+    }
+
+    @Override
+    public void entryAdded(WorklistEntry entry) {
+        broadcast("entry-added", entry);
+    }
+
+    @Override
+    public void entryRemoved(WorklistEntry entry) {
+        broadcast("entry-removed", entry);
+    }
+
+    @Scheduled(fixedDelayString = "${triage.worklist.sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        dispatcher.execute(() -> subscribers.forEach(subscriber ->
+                send(subscriber, SseEmitter.event().comment("keep-alive"))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+    }
+
+    private void broadcast(String eventName, WorklistEntry entry) {
+        var resource = TriageWorklistEntryResourceAssembler.toResourceFromEntry(entry);
+        dispatcher.execute(() -> {
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.accepts(entry)) {
+                    send(subscriber, SseEmitter.event().name(eventName).id(String.valueOf(entry.triageId())).data(resource));
+                }
+            }
+        });
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter().send(event);
+            return true;
+        } catch (Exception e) {
+            logger.debug("Dropping worklist subscriber: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.microservice.triage.interfaces.rest.transform;
+
+import com.microservice.triage.application.internal.retriage.RetriageStatus;
+import com.microservice.triage.interfaces.rest.resources.RetriageStatusResource;
+
+/**
+ * Assembler to convert RetriageStatus to RetriageStatusResource DTO.
+ */
+public class RetriageStatusResourceAssembler {
+
+    /**
+     * Converts a re-triage status to a RetriageStatusResource DTO.
+     *
+     * @param status The re-triage status
+     * @return The RetriageStatusResource DTO
+     */
+    public static RetriageStatusResource toResourceFromStatus(RetriageStatus status) {
+        return new RetriageStatusResource(
+            status.state().name(),
+            status.dryRun(),
+            status.startedAt(),
+            status.finishedAt(),
+            status.scanned(),
+            status.scoreChanged(),
+            status.priorityChanged(),
+            status.skipped(),
+            status.lastTriageId(),
+            status.error()
+        );
+    }
+}
@@ -20,6 +20,7 @@ public class TriageResultResourceAssembler {
             entity.getUserId(),
             entity.getSessionId(),
             entity.getPriority(),
+            entity.getAcuityScore(),
             entity.getRiskFactors(),
             entity.getRedFlagsDetected(),
             entity.getRecommendations(),
@@ -0,0 +1,28 @@
+package com.microservice.triage.interfaces.rest.transform;
+
+import com.microservice.triage.application.internal.worklist.WorklistEntry;
+import com.microservice.triage.interfaces.rest.resources.TriageWorklistEntryResource;
+
+/**
+ * Assembler to convert WorklistEntry to TriageWorklistEntryResource DTO.
+ */
+public class TriageWorklistEntryResourceAssembler {
+
+    /**
+     * Converts a worklist entry to a TriageWorklistEntryResource DTO.
+     *
+     * @param entry The worklist entry
+     * @return The TriageWorklistEntryResource DTO
+     */
+    public static TriageWorklistEntryResource toResourceFromEntry(WorklistEntry entry) {
+        return new TriageWorklistEntryResource(
+            entry.triageId(),
+            entry.userId(),
+            entry.sessionId(),
+            entry.priority(),
+            entry.chiefComplaint(),
+            entry.redFlagCount(),
+            entry.createdAt()
+        );
+    }
+}
@@ -0,0 +1,264 @@
+package com.microservice.triage.application.internal.retriage;
+
+import com.microservice.triage.application.clients.AccessTokenRejectedException;
+import com.microservice.triage.application.clients.AnamnesisClient;
+import com.microservice.triage.application.clients.ProfileClient;
+import com.microservice.triage.application.dto.AnamnesisSummaryDTO;
+import com.microservice.triage.application.dto.ProfileLookupDTO;
+import com.microservice.triage.application.dto.ProfileSnapshotDTO;
+import com.microservice.triage.domain.model.events.TriageResultUpdatedDomainEvent;
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import com.microservice.triage.domain.services.TriageDomainService;
+import com.microservice.triage.domain.services.rules.CompiledRuleSet;
+import com.microservice.triage.domain.services.rules.TriageRuleDefinition;
+import com.microservice.triage.domain.services.rules.TriageRuleEngine;
+import com.microservice.triage.infrastructure.persistence.jdbc.TriageReplayRepository;
+import com.microservice.triage.infrastructure.persistence.jdbc.TriageReplayRepository.PriorityChange;
+import com.microservice.triage.infrastructure.persistence.jdbc.TriageReplayRepository.ReplayRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs {@link TriageRetriageJob} over an in-memory replay repository, in chunks of two results.
+ * <p>
+ * Result 4 is changed concurrently (the priority guard rejects it), result 5 has no stored inputs
+ * and is backfilled from its session, and result 6 has no inputs and no completed session. The
+ * patient of result N has user ID 100 + N.
+ * </p>
+ */
+class TriageRetriageJobTest {
+
+    private static final String TOKEN = "admin-token";
+
+    private static final CompiledRuleSet RULES = CompiledRuleSet.compile(
+            Map.of("chest-pain", List.of("dolor de pecho"),
+                    "dyspnea", List.of("falta de aire"),
+                    "fever", List.of("fiebre")),
+            List.of(new TriageRuleDefinition("cardiac", PriorityLevel.EMERGENCY,
+                            List.of("chest-pain", "dyspnea"), null, 0, null, false, false, false),
+                    new TriageRuleDefinition("fever", PriorityLevel.MODERATE,
+                            null, List.of("fever"), 1, null, false, false, false)));
+
+    private final FakeReplayRepository replayRepository = new FakeReplayRepository(List.of(
+            row(1, PriorityLevel.LOW, 0.0, "Tos seca"),
+            row(2, PriorityLevel.LOW, 0.0, "Dolor de pecho y falta de aire"),
+            row(3, PriorityLevel.MODERATE, null, "Fiebre desde ayer"),
+            row(4, PriorityLevel.LOW, 0.0, "Fiebre alta"),
+            withoutInputs(5, 50L),
+            withoutInputs(6, 60L)),
+            Set.of(4L));
+    private final List<Collection<Long>> requestedSessionIds = new CopyOnWriteArrayList<>();
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private final Set<Long> unavailableProfiles = new HashSet<>();
+    private boolean tokenExpired;
+    private TriageRetriageJob job;
+
+    @AfterEach
+    void shutdown() {
+        job.shutdown();
+    }
+
+    @Test
+    void readsChunksAfterTheLastIdSeen() {
+        RetriageStatus status = run(false);
+
+        assertEquals(RetriageStatus.State.COMPLETED, status.state());
+        assertEquals(List.of(0L, 2L, 4L, 6L), replayRepository.afterIds);
+        assertEquals(6, status.lastTriageId());
+        assertEquals(5, status.scanned());
+        assertEquals(1, status.skipped());
+        // One batch per chunk with changes; result 1 is unchanged
+        assertEquals(List.of(List.of(2L), List.of(3L, 4L), List.of(5L)), replayRepository.updatedIds);
+    }
+
+    @Test
+    void priorityGuardSkipsResultsChangedSinceTheyWereRead() {
+        RetriageStatus status = run(false);
+
+        // 2 and 5 become emergencies, 3 only gets a score; 4 was changed concurrently
+        assertEquals(2, status.priorityChanged());
+        assertEquals(1, status.scoreChanged());
+        assertTrue(events.stream().noneMatch(event -> ((TriageResultUpdatedDomainEvent) event).triageId() == 4L));
+    }
+
+    @Test
+    void eventsArePublishedOnlyForPriorityChanges() {
+        run(false);
+
+        List<Long> triageIds = new ArrayList<>();
+        for (Object event : events) {
+            TriageResultUpdatedDomainEvent updated = (TriageResultUpdatedDomainEvent) event;
+            assertEquals(PriorityLevel.EMERGENCY, updated.newPriority());
+            triageIds.add(updated.triageId());
+        }
+        assertEquals(List.of(2L, 5L), triageIds);
+    }
+
+    @Test
+    void missingInputsAreBackfilledFromSessionSummaries() {
+        run(false);
+
+        assertEquals(List.of(List.of(50L, 60L)), requestedSessionIds);
+        assertEquals(1, replayRepository.insertedInputs.size());
+        ReplayRow backfilled = replayRepository.insertedInputs.get(0);
+        assertEquals(5, backfilled.id());
+        assertEquals("Dolor de pecho con falta de aire", backfilled.chiefComplaint());
+    }
+
+    @Test
+    void resultsWhoseProfileCouldNotBeFetchedAreSkipped() {
+        // The profile of result 3's patient timed out: scoring it without one could change it
+        unavailableProfiles.add(103L);
+
+        RetriageStatus status = run(false);
+
+        assertEquals(RetriageStatus.State.COMPLETED, status.state());
+        assertEquals(4, status.scanned());
+        assertEquals(2, status.skipped());
+        assertEquals(0, status.scoreChanged());
+        assertEquals(List.of(List.of(2L), List.of(4L), List.of(5L)), replayRepository.updatedIds);
+    }
+
+    @Test
+    void rejectedTokenFailsTheRun() {
+        // The admin's token expired before the chunk of results 5 and 6 needed their summaries
+        tokenExpired = true;
+
+        RetriageStatus status = run(false);
+
+        assertEquals(RetriageStatus.State.FAILED, status.state());
+        assertEquals(4, status.lastTriageId());
+        assertEquals(0, status.skipped());
+        assertTrue(replayRepository.insertedInputs.isEmpty());
+    }
+
+    @Test
+    void dryRunCountsWithoutWriting() {
+        RetriageStatus status = run(true);
+
+        assertEquals(RetriageStatus.State.COMPLETED, status.state());
+        assertTrue(status.dryRun());
+        assertEquals(5, status.scanned());
+        // Nothing is written, so the concurrent change to 4 is not detected
+        assertEquals(3, status.priorityChanged());
+        assertEquals(1, status.scoreChanged());
+        assertTrue(replayRepository.updatedIds.isEmpty());
+        assertTrue(replayRepository.insertedInputs.isEmpty());
+        assertTrue(events.isEmpty());
+    }
+
+    private RetriageStatus run(boolean dryRun) {
+        TriageRuleEngine ruleEngine = new TriageRuleEngine();
+        ruleEngine.install(RULES);
+        ProfileClient profileClient = new ProfileClient() {
+            @Override
+            public Optional<ProfileSnapshotDTO> getProfileByUserId(Long userId) {
+                return Optional.empty();
+            }
+
+            @Override
+            public ProfileLookupDTO lookupProfilesByUserIds(Collection<Long> userIds) {
+                return new ProfileLookupDTO(Map.of(),
+                        userIds.stream().filter(unavailableProfiles::contains).collect(Collectors.toSet()));
+            }
+        };
+        AnamnesisClient anamnesisClient = (sessionIds, accessToken) -> {
+            assertEquals(TOKEN, accessToken);
+            if (tokenExpired) {
+                throw new AccessTokenRejectedException("Anamnesis rejected the access token: 401 Unauthorized", null);
+            }
+            requestedSessionIds.add(List.copyOf(sessionIds));
+            return Map.of(50L, new AnamnesisSummaryDTO("Dolor de pecho con falta de aire", null,
+                    null, null, null, null, null));
+        };
+        job = new TriageRetriageJob(replayRepository, profileClient, anamnesisClient, ruleEngine,
+                new TriageDomainService(ruleEngine), new TransactionTemplate(new NoOpTransactionManager()),
+                events::add, 2, 1);
+
+        assertTrue(job.start(dryRun, TOKEN).isPresent());
+        long deadline = System.currentTimeMillis() + 10_000;
+        RetriageStatus status;
+        while ((status = job.status().orElseThrow()).state() == RetriageStatus.State.RUNNING) {
+            assertTrue(System.currentTimeMillis() < deadline, "Re-triage did not finish");
+            Thread.onSpinWait();
+        }
+        return status;
+    }
+
+    private static ReplayRow row(long id, PriorityLevel priority, Double acuityScore, String chiefComplaint) {
+        return new ReplayRow(id, 100 + id, 10 * id, priority, acuityScore, true, chiefComplaint, null, List.of());
+    }
+
+    private static ReplayRow withoutInputs(long id, Long sessionId) {
+        return new ReplayRow(id, 100 + id, sessionId, PriorityLevel.LOW, 0.0, false, null, null, List.of());
+    }
+
+    /**
+     * Serves the rows in keyset chunks and applies updates like the priority guard would.
+     */
+    private static final class FakeReplayRepository extends TriageReplayRepository {
+
+        private final List<ReplayRow> rows;
+        private final Set<Long> changedConcurrently;
+        private final List<Long> afterIds = new CopyOnWriteArrayList<>();
+        private final List<List<Long>> updatedIds = new CopyOnWriteArrayList<>();
+        private final List<ReplayRow> insertedInputs = new CopyOnWriteArrayList<>();
+
+        private FakeReplayRepository(List<ReplayRow> rows, Set<Long> changedConcurrently) {
+            super(null, null);
+            this.rows = rows;
+            this.changedConcurrently = changedConcurrently;
+        }
+
+        @Override
+        public List<ReplayRow> findChunk(long afterId, int size) {
+            afterIds.add(afterId);
+            return rows.stream().filter(row -> row.id() > afterId).limit(size).toList();
+        }
+
+        @Override
+        public void insertInputs(List<ReplayRow> backfilled) {
+            insertedInputs.addAll(backfilled);
+        }
+
+        @Override
+        public List<PriorityChange> updateAll(List<PriorityChange> changes) {
+            updatedIds.add(changes.stream().map(PriorityChange::id).toList());
+            return changes.stream().filter(change -> !changedConcurrently.contains(change.id())).toList();
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
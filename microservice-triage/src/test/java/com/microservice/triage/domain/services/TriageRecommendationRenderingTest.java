@@ -0,0 +1,120 @@
+package com.microservice.triage.domain.services;
+
+import com.microservice.triage.application.dto.AnamnesisSummaryDTO;
+import com.microservice.triage.application.dto.ProfileSnapshotDTO;
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that recommendations stored as template ID plus additions render exactly the text the
+ * former {@code generateRecommendations} built, for every priority and every shape of allergies
+ * and chronic conditions (4 x 4 x 8 = 128 combinations).
+ */
+class TriageRecommendationRenderingTest {
+
+    private static final List<List<String>> ALLERGIES = Arrays.asList(
+            null,
+            List.of(),
+            List.of("Penicilina"),
+            List.of("Penicilina", "Aspirina"));
+
+    private static final List<ProfileSnapshotDTO> PROFILES = Arrays.asList(
+            null,
+            profile(null),
+            profile(List.of()),
+            profile(List.of("Diabetes")),
+            profile(List.of("Diabetes", "Hipertensión")),
+            profile(List.of("Asma")),
+            profile(List.of("Asma", "EPOC", "Diabetes")),
+            profile(List.of("Hipotiroidismo")));
+
+    private final TriageDomainService domainService = new TriageDomainService(null);
+
+    static Stream<Arguments> combinations() {
+        List<Arguments> combinations = new ArrayList<>();
+        for (PriorityLevel priority : PriorityLevel.values()) {
+            for (List<String> allergies : ALLERGIES) {
+                for (ProfileSnapshotDTO profile : PROFILES) {
+                    combinations.add(Arguments.of(priority, allergies, profile));
+                }
+            }
+        }
+        return combinations.stream();
+    }
+
+    @ParameterizedTest(name = "{0}, allergies={1}, profile={2}")
+    @MethodSource("combinations")
+    void rendersTheSameTextAsBefore(PriorityLevel priority, List<String> allergies, ProfileSnapshotDTO profile) {
+        AnamnesisSummaryDTO summary = new AnamnesisSummaryDTO();
+        summary.setAllergies(allergies);
+
+        assertEquals(legacyRecommendations(priority, summary, profile),
+                domainService.recommend(priority, summary, profile).render());
+    }
+
+    private static ProfileSnapshotDTO profile(List<String> chronicConditions) {
+        ProfileSnapshotDTO profile = new ProfileSnapshotDTO();
+        profile.setChronicConditions(chronicConditions);
+        return profile;
+    }
+
+    /**
+     * The former TriageDomainService.generateRecommendations, kept verbatim as the reference.
+     */
+    private static String legacyRecommendations(PriorityLevel priority, AnamnesisSummaryDTO summary,
+                                                ProfileSnapshotDTO profile) {
+        StringBuilder recommendations = new StringBuilder();
+
+        switch (priority) {
+            case EMERGENCY:
+                recommendations.append("⚠️ ATENCIÓN MÉDICA INMEDIATA REQUERIDA:\n");
+                recommendations.append("- Acudir a emergencias inmediatamente o llamar al 911/105\n");
+                recommendations.append("- No conducir, solicitar ambulancia o transporte asistido\n");
+                recommendations.append("- No ingerir alimentos ni medicamentos hasta evaluación médica\n");
+                break;
+
+            case HIGH:
+                recommendations.append("🔴 ATENCIÓN MÉDICA URGENTE (dentro de las próximas horas):\n");
+                recommendations.append("- Acudir a centro de salud u hospital en las próximas 2-4 horas\n");
+                recommendations.append("- Monitorear síntomas de cerca\n");
+                recommendations.append("- Preparar lista de medicamentos actuales y alergias\n");
+                break;
+
+            case MODERATE:
+                recommendations.append("🟡 ATENCIÓN MÉDICA NECESARIA (24-48 horas):\n");
+                recommendations.append("- Agendar cita médica en las próximas 24-48 horas\n");
+                recommendations.append("- Mantener reposo relativo\n");
+                recommendations.append("- Hidratación adecuada\n");
+                break;
+
+            case LOW:
+                recommendations.append("🟢 CUIDADOS GENERALES:\n");
+                recommendations.append("- Descanso adecuado\n");
+                recommendations.append("- Hidratación\n");
+                recommendations.append("- Consultar si los síntomas empeoran\n");
+                break;
+        }
+
+        if (summary.getAllergies() != null && !summary.getAllergies().isEmpty()) {
+            recommendations.append("\n⚠️ ALERGIAS CONOCIDAS: ");
+            recommendations.append(String.join(", ", summary.getAllergies()));
+            recommendations.append("\n- Informar al personal médico sobre alergias");
+        }
+
+        if (profile != null && profile.getChronicConditions() != null && !profile.getChronicConditions().isEmpty()) {
+            recommendations.append("\n📋 CONDICIONES CRÓNICAS: ");
+            recommendations.append(String.join(", ", profile.getChronicConditions()));
+        }
+
+        return recommendations.toString();
+    }
+}
@@ -0,0 +1,166 @@
+package com.microservice.triage.domain.services.rules;
+
+import com.microservice.triage.application.dto.AnamnesisSummaryDTO;
+import com.microservice.triage.application.dto.ProfileSnapshotDTO;
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import com.microservice.triage.domain.model.valueobjects.TriageAssessment;
+import com.microservice.triage.domain.services.TriageDomainService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Acuity score of {@link CompiledRuleSet#evaluate}: the contribution of each
+ * {@link TriageScoringWeights} term, its caps, and that the score never changes the priority.
+ */
+class CompiledRuleSetScoringTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static final Map<String, List<String>> CONCEPTS = Map.of(
+            "chest-pain", List.of("dolor de pecho"),
+            "dyspnea", List.of("falta de aire"),
+            "fever", List.of("fiebre"));
+
+    private static final List<TriageRuleDefinition> RULES = List.of(
+            new TriageRuleDefinition("cardiac", PriorityLevel.EMERGENCY,
+                    List.of("chest-pain", "dyspnea"), null, 0, null, false, false, false),
+            new TriageRuleDefinition("fever", PriorityLevel.MODERATE,
+                    null, List.of("fever"), 1, null, false, false, false));
+
+    // dyspnea is deliberately not weighted
+    private static final TriageScoringWeights WEIGHTS = new TriageScoringWeights(
+            Map.of("chest-pain", 3.0, "fever", 1.0),
+            2.0, 3,
+            1.5, 2.5,
+            4.0,
+            0.5, 2);
+
+    private final CompiledRuleSet rules = CompiledRuleSet.compile(CONCEPTS, RULES, WEIGHTS);
+
+    @Test
+    void matchedConceptsContributeTheirWeight() {
+        double[] vector = evaluate(summary("Dolor de pecho y falta de aire desde ayer", List.of()), null);
+
+        assertEquals(3.0, component(vector, "chest-pain"), DELTA);
+        assertEquals(0.0, component(vector, "dyspnea"), DELTA);
+        assertEquals(0.0, component(vector, "fever"), DELTA);
+        assertEquals(3.0, CompiledRuleSet.total(vector), DELTA);
+    }
+
+    @Test
+    void redFlagsAreWeightedAndCapped() {
+        assertEquals(4.0, component(evaluate(summary("tos", List.of("a", "b")), null), "red-flags"), DELTA);
+        assertEquals(6.0, component(evaluate(summary("tos", List.of("a", "b", "c", "d", "e")), null), "red-flags"), DELTA);
+        assertEquals(0.0, component(evaluate(summary("tos", null), null), "red-flags"), DELTA);
+    }
+
+    @ParameterizedTest(name = "age {0} scores {1}")
+    @CsvSource({"0, 1.5", "4, 1.5", "5, 0", "40, 0", "65, 0", "66, 2.5", "90, 2.5"})
+    void ageScoresOnlyChildrenAndOlderAdults(int age, double expected) {
+        ProfileSnapshotDTO profile = new ProfileSnapshotDTO();
+        profile.setAge(age);
+
+        assertEquals(expected, component(evaluate(summary("tos", null), profile), "age"), DELTA);
+    }
+
+    @Test
+    void pregnancyAndChronicConditionsAreScored() {
+        ProfileSnapshotDTO profile = new ProfileSnapshotDTO();
+        profile.setIsPregnant(true);
+        profile.setChronicConditions(List.of("Diabetes", "Asma", "Hipertensión"));
+
+        double[] vector = evaluate(summary("tos", null), profile);
+
+        assertEquals(4.0, component(vector, "pregnancy"), DELTA);
+        assertEquals(1.0, component(vector, "chronic-conditions"), DELTA);
+        assertEquals(5.0, CompiledRuleSet.total(vector), DELTA);
+    }
+
+    @Test
+    void componentsAddUpToTheTotal() {
+        ProfileSnapshotDTO profile = new ProfileSnapshotDTO();
+        profile.setAge(70);
+        profile.setChronicConditions(List.of("Diabetes"));
+
+        double[] vector = evaluate(summary("Fiebre y dolor de pecho", List.of("fiebre alta")), profile);
+
+        // concepts 3 + 1, one red flag 2, older adult 2.5, one chronic condition 0.5
+        assertEquals(9.0, CompiledRuleSet.total(vector), DELTA);
+    }
+
+    @Test
+    void scoreNeverChangesThePriority() {
+        AnamnesisSummaryDTO summary = summary("Fiebre desde hace dos días", List.of("a", "b", "c"));
+        ProfileSnapshotDTO profile = new ProfileSnapshotDTO();
+        profile.setAge(80);
+        profile.setIsPregnant(true);
+
+        int unscored = CompiledRuleSet.compile(CONCEPTS, RULES).match(summary, null);
+        int scored = rules.evaluate(summary, profile, new double[rules.scoreVectorLength()]);
+
+        assertEquals(PriorityLevel.MODERATE, rules.priorityOf(scored));
+        assertEquals(rules.ruleIdOf(unscored), rules.ruleIdOf(scored));
+    }
+
+    @Test
+    void noWeightsScoreZero() {
+        CompiledRuleSet unweighted = CompiledRuleSet.compile(CONCEPTS, RULES);
+        ProfileSnapshotDTO profile = new ProfileSnapshotDTO();
+        profile.setAge(2);
+        double[] vector = new double[unweighted.scoreVectorLength()];
+
+        unweighted.evaluate(summary("Dolor de pecho", List.of("a")), profile, vector);
+
+        assertArrayEquals(new double[unweighted.scoreVectorLength()], vector, DELTA);
+    }
+
+    @Test
+    void weightOfUnknownConceptIsRejected() {
+        TriageScoringWeights weights = new TriageScoringWeights(Map.of("unknown", 1.0), 0, 0, 0, 0, 0, 0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> CompiledRuleSet.compile(CONCEPTS, RULES, weights));
+    }
+
+    @Test
+    void assessReturnsThePriorityRuleAndTotalScore() {
+        TriageRuleEngine engine = new TriageRuleEngine();
+        engine.install(rules);
+        ProfileSnapshotDTO profile = new ProfileSnapshotDTO();
+        profile.setAge(3);
+
+        TriageAssessment assessment = new TriageDomainService(engine)
+                .assess(summary("Dolor de pecho con falta de aire", List.of("cianosis")), profile);
+
+        assertEquals(PriorityLevel.EMERGENCY, assessment.priority());
+        assertEquals("cardiac", assessment.ruleId());
+        // chest-pain 3, one red flag 2, child 1.5
+        assertEquals(6.5, assessment.acuityScore(), DELTA);
+    }
+
+    private double[] evaluate(AnamnesisSummaryDTO summary, ProfileSnapshotDTO profile) {
+        double[] vector = new double[rules.scoreVectorLength()];
+        rules.evaluate(summary, profile, vector);
+        return vector;
+    }
+
+    private double component(double[] vector, String name) {
+        for (int i = 0; i < vector.length; i++) {
+            if (rules.scoreComponentName(i).equals(name)) {
+                return vector[i];
+            }
+        }
+        throw new AssertionError("No score component " + name);
+    }
+
+    private static AnamnesisSummaryDTO summary(String chiefComplaint, List<String> redFlags) {
+        return new AnamnesisSummaryDTO(chiefComplaint, null, null, null, null, redFlags, null);
+    }
+}
@@ -0,0 +1,45 @@
+package com.microservice.triage.domain.services.rules;
+
+import com.microservice.triage.infrastructure.configuration.TriageRulesProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Compiles the rules shipped in the config server's triage-service.yml, so tests run against
+ * the definitions that are actually deployed.
+ */
+final class ConfiguredTriageRules {
+
+    static final Path CONFIG_FILE = Path.of("..", "microservice-config", "src", "main", "resources",
+            "configurations", "triage-service.yml");
+
+    private ConfiguredTriageRules() {
+    }
+
+    static boolean available() {
+        return Files.exists(CONFIG_FILE);
+    }
+
+    static CompiledRuleSet compile() {
+        try {
+            List<PropertySource<?>> documents = new YamlPropertySourceLoader()
+                    .load("triage-service", new FileSystemResource(CONFIG_FILE));
+            TriageRulesProperties properties = new Binder(ConfigurationPropertySources.from(documents.get(0)))
+                    .bind("triage.rules", TriageRulesProperties.class)
+                    .orElseThrow(() -> new IllegalStateException("No triage.rules in " + CONFIG_FILE));
+            return CompiledRuleSet.compile(properties.getConcepts(), properties.toDefinitions(),
+                    properties.getScoring().toWeights());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.microservice.triage.domain.services.rules;
+
+import com.microservice.triage.application.dto.AnamnesisSummaryDTO;
+import com.microservice.triage.application.dto.ProfileSnapshotDTO;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Throughput benchmark of rule evaluation and acuity scoring over the golden corpus. Logs the
+ * measurements and fails only if evaluation becomes pathologically slow.
+ */
+class TriageRuleEvaluationBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TriageRuleEvaluationBenchmarkTest.class);
+
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int ROUNDS = 20_000;
+    private static final long MAX_MEAN_NANOS = 50_000;
+
+    @Test
+    void evaluatesSummariesWithinBudget() throws IOException {
+        assumeTrue(ConfiguredTriageRules.available(), "config server sources not available");
+        CompiledRuleSet rules = ConfiguredTriageRules.compile();
+
+        List<TriageRulesGoldenTest.GoldenSummary> corpus = TriageRulesGoldenTest.loadCorpus();
+        AnamnesisSummaryDTO[] summaries = new AnamnesisSummaryDTO[corpus.size()];
+        ProfileSnapshotDTO[] profiles = new ProfileSnapshotDTO[corpus.size()];
+        for (int i = 0; i < summaries.length; i++) {
+            TriageRulesGoldenTest.GoldenSummary golden = corpus.get(i);
+            summaries[i] = new AnamnesisSummaryDTO(golden.chiefComplaint(), golden.historyOfPresentIllness(),
+                    null, null, null, golden.redFlags(), null);
+            profiles[i] = new ProfileSnapshotDTO();
+            profiles[i].setIsPregnant(golden.pregnant());
+        }
+
+        double[] scoreVector = new double[rules.scoreVectorLength()];
+        long checksum = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (int i = 0; i < summaries.length; i++) {
+                checksum += rules.evaluate(summaries[i], profiles[i], scoreVector);
+            }
+        }
+
+        long[] roundNanos = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < summaries.length; i++) {
+                checksum += rules.evaluate(summaries[i], profiles[i], scoreVector);
+            }
+            roundNanos[round] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(roundNanos);
+        long total = Arrays.stream(roundNanos).sum();
+        long evaluations = (long) ROUNDS * summaries.length;
+        long meanNanos = total / evaluations;
+        logger.info("Triage rule benchmark: rules={} concepts={} evaluations={} mean={}ns "
+                        + "round p50={}us p99={}us throughput={}/s (checksum {})",
+                rules.ruleCount(), rules.conceptCount(), evaluations, meanNanos,
+                roundNanos[ROUNDS / 2] / 1_000, roundNanos[(int) (ROUNDS * 0.99)] / 1_000,
+                String.format("%.0f", evaluations / (total / 1e9)), checksum);
+
+        assertTrue(meanNanos < MAX_MEAN_NANOS, "mean evaluation time was " + meanNanos + "ns");
+    }
+}
@@ -0,0 +1,65 @@
+package com.microservice.triage.domain.services.rules;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.triage.application.dto.AnamnesisSummaryDTO;
+import com.microservice.triage.application.dto.ProfileSnapshotDTO;
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Evaluates the deployed triage rules against a golden corpus of anamnesis summaries
+ * (src/test/resources/triage/golden-summaries.json). A rule change that alters any expected
+ * priority must update the corpus in the same change.
+ */
+class TriageRulesGoldenTest {
+
+    private static CompiledRuleSet rules;
+
+    @BeforeAll
+    static void compileRules() {
+        assumeTrue(ConfiguredTriageRules.available(), "config server sources not available");
+        rules = ConfiguredTriageRules.compile();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> goldenSummaries() throws IOException {
+        return loadCorpus().stream().map(golden -> DynamicTest.dynamicTest(golden.name(), () -> {
+            AnamnesisSummaryDTO summary = new AnamnesisSummaryDTO(golden.chiefComplaint(),
+                    golden.historyOfPresentIllness(), null, null, null, golden.redFlags(), null);
+            ProfileSnapshotDTO profile = new ProfileSnapshotDTO();
+            profile.setIsPregnant(golden.pregnant());
+
+            int rule = rules.match(summary, profile);
+
+            assertEquals(golden.expectedRule(), rules.ruleIdOf(rule), "rule");
+            assertEquals(golden.expectedPriority(), rules.priorityOf(rule), "priority");
+        }));
+    }
+
+    static List<GoldenSummary> loadCorpus() throws IOException {
+        try (InputStream input = TriageRulesGoldenTest.class.getResourceAsStream("/triage/golden-summaries.json")) {
+            return new ObjectMapper().readValue(input, new TypeReference<>() {
+            });
+        }
+    }
+
+    record GoldenSummary(String name,
+                         String chiefComplaint,
+                         String historyOfPresentIllness,
+                         List<String> redFlags,
+                         Boolean pregnant,
+                         PriorityLevel expectedPriority,
+                         String expectedRule) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.microservice.triage.infrastructure.configuration;
+
+import com.microservice.triage.application.dto.AnamnesisSummaryDTO;
+import com.microservice.triage.domain.services.rules.CompiledRuleSet;
+import com.microservice.triage.domain.services.rules.TriageRuleEngine;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Reloading the triage rules after the configuration changed, as on {@code POST /actuator/refresh}.
+ */
+class TriageRulesLoaderTest {
+
+    private static final double DELTA = 1e-9;
+
+    private final Map<String, Object> config = new HashMap<>(Map.of(
+            "triage.rules.concepts.chest-pain[0]", "dolor de pecho",
+            "triage.rules.concepts.fever[0]", "fiebre",
+            "triage.rules.definitions[0].id", "fever",
+            "triage.rules.definitions[0].priority", "MODERATE",
+            "triage.rules.definitions[0].any[0]", "fever",
+            "triage.rules.scoring.concepts.chest-pain", "3.0",
+            "triage.rules.scoring.concepts.fever", "1.0"));
+    private final TriageRuleEngine ruleEngine = new TriageRuleEngine();
+
+    @Test
+    void removedWeightIsGoneAfterRefresh() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("triage-service", config));
+        TriageRulesLoader loader = new TriageRulesLoader(environment, ruleEngine);
+        loader.loadRules();
+        assertEquals(4.0, score("Fiebre y dolor de pecho"), DELTA);
+
+        config.remove("triage.rules.scoring.concepts.chest-pain");
+        loader.onRefresh();
+
+        assertEquals(1.0, score("Fiebre y dolor de pecho"), DELTA);
+    }
+
+    private double score(String chiefComplaint) {
+        CompiledRuleSet rules = ruleEngine.current();
+        double[] vector = new double[rules.scoreVectorLength()];
+        rules.evaluate(new AnamnesisSummaryDTO(chiefComplaint, null, null, null, null, null, null), null, vector);
+        return CompiledRuleSet.total(vector);
+    }
+}
@@ -0,0 +1,78 @@
+package com.microservice.triage.infrastructure.messaging;
+
+import com.microservice.triage.application.events.TriageResultCreatedEvent;
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * TriageResultCreatedEvents reach the broker only once the transaction that created the results commits.
+ */
+class RabbitMQTriageEventPublisherTest {
+
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final RabbitMQTriageEventPublisher publisher = new RabbitMQTriageEventPublisher(rabbitTemplate);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new SynchronizingTransactionManager());
+
+    @Test
+    void batchIsPublishedAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            publisher.publishTriageResultsCreated(List.of(event(1L), event(2L)));
+            verify(rabbitTemplate, never()).invoke(any(RabbitOperations.OperationsCallback.class));
+        });
+
+        verify(rabbitTemplate).invoke(any(RabbitOperations.OperationsCallback.class));
+    }
+
+    @Test
+    void rolledBackBatchIsNotPublished() {
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            publisher.publishTriageResultsCreated(List.of(event(1L), event(2L)));
+            // e.g. another consumer inserted one of the sessions first
+            throw new IllegalStateException("Duplicate session_id");
+        }));
+
+        verify(rabbitTemplate, never()).invoke(any(RabbitOperations.OperationsCallback.class));
+    }
+
+    private static TriageResultCreatedEvent event(Long triageId) {
+        return new TriageResultCreatedEvent(triageId, 100L, 10 * triageId, PriorityLevel.HIGH, 3.0,
+                List.of(), List.of(), "Acudir al centro de salud", "Fiebre");
+    }
+
+    /**
+     * Runs transaction synchronizations like a real transaction manager, without a resource.
+     */
+    private static final class SynchronizingTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.microservice.triage.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.triage.application.events.TriageResultCreatedEvent;
+import com.microservice.triage.application.internal.worklist.TriageWorklist;
+import com.microservice.triage.domain.model.valueobjects.PriorityLevel;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two instances fed from the same broadcast end up with the same worklist.
+ */
+class TriageWorklistEventListenerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final TriageWorklist first = new TriageWorklist();
+    private final TriageWorklist second = new TriageWorklist();
+    private final List<TriageWorklistEventListener> instances = List.of(
+            new TriageWorklistEventListener(first, objectMapper),
+            new TriageWorklistEventListener(second, objectMapper));
+
+    @Test
+    void changesMadeThroughOneInstanceReachEveryWorklist() throws Exception {
+        broadcast(RabbitMQConfig.TRIAGE_RESULT_CREATED_ROUTING_KEY, new TriageResultCreatedEvent(7L, 100L, 70L,
+                PriorityLevel.MODERATE, 2.0, List.of(), List.of("Fiebre alta"), "Acudir al centro de salud", "Fiebre"));
+        broadcast(RabbitMQConfig.TRIAGE_WORKLIST_REPRIORITIZED_ROUTING_KEY,
+                new TriageWorklistChange(7L, PriorityLevel.HIGH));
+
+        assertEquals(PriorityLevel.HIGH, first.top(null, 10).get(0).priority());
+        assertEquals(first.entries(), second.entries());
+
+        broadcast(RabbitMQConfig.TRIAGE_WORKLIST_ACKNOWLEDGED_ROUTING_KEY, new TriageWorklistChange(7L, null));
+
+        assertTrue(first.entries().isEmpty());
+        assertTrue(second.entries().isEmpty());
+    }
+
+    private void broadcast(String routingKey, Object payload) throws Exception {
+        MessageProperties properties = new MessageProperties();
+        properties.setReceivedRoutingKey(routingKey);
+        Message message = new Message(objectMapper.writeValueAsBytes(payload), properties);
+        instances.forEach(instance -> instance.onTriageEvent(message));
+    }
+}